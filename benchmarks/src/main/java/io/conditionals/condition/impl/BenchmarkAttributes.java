@@ -0,0 +1,39 @@
+package io.conditionals.condition.impl;
+
+import org.springframework.core.annotation.AnnotationAttributes;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+/**
+ * Builds {@link AnnotationAttributes} for benchmarks without going through annotated classes.
+ *
+ * <p>All attributes start from the defaults declared on the annotation type and are then overridden by the
+ * given name/value pairs, mirroring what Spring's merged annotation model produces.</p>
+ */
+final class BenchmarkAttributes {
+    private BenchmarkAttributes() {
+    }
+
+    static AnnotationAttributes of(Class<? extends Annotation> annotationType, Object... overrides) {
+        AnnotationAttributes attributes = new AnnotationAttributes(annotationType);
+        for (Method method : annotationType.getDeclaredMethods()) {
+            Object defaultValue = method.getDefaultValue();
+            if (defaultValue != null) {
+                attributes.put(method.getName(), defaultValue);
+            }
+        }
+        for (int i = 0; i < overrides.length; i += 2) {
+            attributes.put((String) overrides[i], overrides[i + 1]);
+        }
+        return attributes;
+    }
+
+    static String[] elements(String prefix, int count) {
+        String[] elements = new String[count];
+        for (int i = 0; i < count; i++) {
+            elements[i] = prefix + i;
+        }
+        return elements;
+    }
+}
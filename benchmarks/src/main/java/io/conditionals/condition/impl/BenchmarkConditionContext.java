@@ -0,0 +1,44 @@
+package io.conditionals.condition.impl;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * Minimal {@link ConditionContext} over a bean factory and an environment, standing in for the context Spring
+ * passes to conditions while parsing configuration classes.
+ */
+record BenchmarkConditionContext(DefaultListableBeanFactory beanFactory, Environment environment, ClassLoader classLoader) implements ConditionContext {
+    BenchmarkConditionContext(DefaultListableBeanFactory beanFactory, Environment environment) {
+        this(beanFactory, environment, BenchmarkConditionContext.class.getClassLoader());
+    }
+
+    @Override
+    public BeanDefinitionRegistry getRegistry() {
+        return this.beanFactory;
+    }
+
+    @Override
+    public ConfigurableListableBeanFactory getBeanFactory() {
+        return this.beanFactory;
+    }
+
+    @Override
+    public Environment getEnvironment() {
+        return this.environment;
+    }
+
+    @Override
+    public ResourceLoader getResourceLoader() {
+        return new DefaultResourceLoader(this.classLoader);
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return this.classLoader;
+    }
+}
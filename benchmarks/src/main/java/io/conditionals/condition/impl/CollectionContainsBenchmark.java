@@ -0,0 +1,119 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnCollectionProperty;
+import io.conditionals.condition.spec.CollectionMatchType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Locates the crossover between nested linear scans and hash lookups for
+ * {@link CollectionMatchType#CONTAINS_ANY} and {@link CollectionMatchType#CONTAINS_ALL}.
+ *
+ * <p>{@code linear} and {@code hashed} are reference implementations of the two strategies; {@code adaptive} is
+ * the production {@link OnCollectionPropertyCondition.Matcher}, which should track the faster of the two. Inputs
+ * are worst cases: matching elements sit at the end of the property array.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CollectionContainsBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionContainsBenchmark {
+    private static final OnCollectionPropertyCondition.Matcher MATCHER = new OnCollectionPropertyCondition.Matcher();
+
+    @Param({ "CONTAINS_ANY", "CONTAINS_ALL" })
+    private CollectionMatchType matchType;
+
+    @Param({ "2", "4", "8", "16", "64", "256" })
+    private int candidateSize;
+
+    @Param({ "4", "8", "16", "64", "512" })
+    private int propertySize;
+
+    private OnCollectionPropertyCondition.Spec spec;
+    private String[] candidate;
+    private String[] property;
+    private Map<String, Integer> candidateIndex;
+
+    @Setup
+    public void setUp() {
+        this.candidate = BenchmarkAttributes.elements("tenant-", this.candidateSize);
+        this.property = BenchmarkAttributes.elements("other-", this.propertySize);
+        int tail = this.matchType == CollectionMatchType.CONTAINS_ALL
+                ? Math.min(this.candidateSize, this.propertySize)
+                : 1;
+        System.arraycopy(this.candidate, this.candidateSize - tail, this.property, this.propertySize - tail, tail);
+        this.candidateIndex = new HashMap<>();
+        for (String element : this.candidate) {
+            this.candidateIndex.putIfAbsent(element, this.candidateIndex.size());
+        }
+        this.spec = new OnCollectionPropertyCondition().createSpec(ConditionalOnCollectionProperty.class,
+                BenchmarkAttributes.of(ConditionalOnCollectionProperty.class,
+                        "name", new String[] { "tenants" },
+                        "havingValue", this.candidate,
+                        "matchType", this.matchType));
+    }
+
+    @Benchmark
+    public boolean adaptive() {
+        return MATCHER.compare(this.spec, this.property, this.candidate);
+    }
+
+    @Benchmark
+    public boolean linear() {
+        if (this.matchType == CollectionMatchType.CONTAINS_ANY) {
+            for (String candidateElement : this.candidate) {
+                for (String propertyElement : this.property) {
+                    if (propertyElement.equals(candidateElement)) return true;
+                }
+            }
+            return false;
+        }
+        outer:
+        for (String candidateElement : this.candidate) {
+            for (String propertyElement : this.property) {
+                if (propertyElement.equals(candidateElement)) continue outer;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean hashed() {
+        if (this.matchType == CollectionMatchType.CONTAINS_ANY) {
+            for (String propertyElement : this.property) {
+                if (this.candidateIndex.containsKey(propertyElement)) return true;
+            }
+            return false;
+        }
+        boolean[] found = new boolean[this.candidateIndex.size()];
+        int foundCount = 0;
+        for (String propertyElement : this.property) {
+            Integer index = this.candidateIndex.get(propertyElement);
+            if (index != null && !found[index]) {
+                found[index] = true;
+                if (++foundCount == found.length) return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnCollectionProperty;
+import io.conditionals.condition.spec.CollectionMatchType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OnCollectionPropertyCondition.Matcher} for all eight {@link CollectionMatchType}s.
+ *
+ * <p>The property holds {@code size} distinct elements and the candidate a quarter as many (at least one). Every
+ * comparison matches as late as possible: {@code *_ANY} candidates start with elements that are absent from the
+ * property, and {@code CONTAINS_ALL} / {@code CONTAINS_SEQUENCE} candidates are taken from the end of the
+ * property.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CollectionMatcherBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionMatcherBenchmark {
+    private static final OnCollectionPropertyCondition.Matcher MATCHER = new OnCollectionPropertyCondition.Matcher();
+
+    @Param
+    private CollectionMatchType matchType;
+
+    @Param
+    private InputSize size;
+
+    private OnCollectionPropertyCondition.Spec spec;
+    private String[] property;
+    private String[] candidate;
+
+    @Setup
+    public void setUp() {
+        int propertySize = this.size.count();
+        int candidateSize = Math.max(1, propertySize / 4);
+        this.property = BenchmarkAttributes.elements("item-", propertySize);
+        String[] head = Arrays.copyOfRange(this.property, 0, candidateSize);
+        String[] tail = Arrays.copyOfRange(this.property, propertySize - candidateSize, propertySize);
+        this.candidate = switch (this.matchType) {
+            case EQUALS -> BenchmarkAttributes.elements("item-", propertySize);
+            case CONTAINS_ALL, CONTAINS_SEQUENCE, ENDS_WITH_ALL -> tail;
+            case STARTS_WITH_ALL -> head;
+            case CONTAINS_ANY, ENDS_WITH_ANY -> missingThen(candidateSize, this.property[propertySize - 1]);
+            case STARTS_WITH_ANY -> missingThen(candidateSize, this.property[0]);
+        };
+        this.spec = new OnCollectionPropertyCondition().createSpec(ConditionalOnCollectionProperty.class,
+                BenchmarkAttributes.of(ConditionalOnCollectionProperty.class,
+                        "name", new String[] { "items" },
+                        "havingValue", this.candidate,
+                        "matchType", this.matchType));
+    }
+
+    private static String[] missingThen(int size, String last) {
+        String[] elements = BenchmarkAttributes.elements("missing-", size);
+        elements[size - 1] = last;
+        return elements;
+    }
+
+    @Benchmark
+    public boolean matcher() {
+        return MATCHER.compare(this.spec, this.property, this.candidate);
+    }
+}
@@ -0,0 +1,84 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnCollectionProperty;
+import io.conditionals.condition.spec.CollectionMatchType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the naive sliding-window search with the production Knuth-Morris-Pratt search for
+ * {@link CollectionMatchType#CONTAINS_SEQUENCE}.
+ *
+ * <p>The inputs are the adversarial case for the sliding window: the property is a long run of {@code stage}
+ * elements and the candidate is a run of {@code stage} elements followed by a single {@code end} element, which
+ * appears only at the end of the property.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CollectionSequenceBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionSequenceBenchmark {
+    private static final OnCollectionPropertyCondition.Matcher MATCHER = new OnCollectionPropertyCondition.Matcher();
+
+    @Param({ "16", "128", "1024" })
+    private int propertySize;
+
+    @Param({ "4", "32" })
+    private int candidateSize;
+
+    private OnCollectionPropertyCondition.Spec spec;
+    private String[] candidate;
+    private String[] property;
+
+    @Setup
+    public void setUp() {
+        this.candidate = new String[this.candidateSize];
+        Arrays.fill(this.candidate, "stage");
+        this.candidate[this.candidateSize - 1] = "end";
+        this.property = new String[Math.max(this.propertySize, this.candidateSize)];
+        Arrays.fill(this.property, "stage");
+        this.property[this.property.length - 1] = "end";
+        this.spec = new OnCollectionPropertyCondition().createSpec(ConditionalOnCollectionProperty.class,
+                BenchmarkAttributes.of(ConditionalOnCollectionProperty.class,
+                        "name", new String[] { "stages" },
+                        "havingValue", this.candidate,
+                        "matchType", CollectionMatchType.CONTAINS_SEQUENCE));
+    }
+
+    @Benchmark
+    public boolean kmp() {
+        return MATCHER.compare(this.spec, this.property, this.candidate);
+    }
+
+    @Benchmark
+    public boolean slidingWindow() {
+        outer:
+        for (int i = 0; i <= this.property.length - this.candidate.length; i++) {
+            for (int j = 0; j < this.candidate.length; j++) {
+                if (!this.property[i + j].equals(this.candidate[j])) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
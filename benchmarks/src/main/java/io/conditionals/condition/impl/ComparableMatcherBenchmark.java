@@ -0,0 +1,82 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnCharacterProperty;
+import io.conditionals.condition.ConditionalOnDurationProperty;
+import io.conditionals.condition.spec.ComparableMatchType;
+import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.PropertySpecMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ComparablePropertySpringBootCondition.Matcher} for every {@link ComparableMatchType}.
+ *
+ * <p>The matcher is used by the conditions that are not specialized for primitives, here
+ * {@link OnCharacterPropertyCondition} and {@link OnDurationPropertyCondition}. Comparisons are constant-time, so
+ * the benchmark has no size parameter; the primitive numeric specs are covered by
+ * {@link NumericConditionBenchmark}.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar ComparableMatcherBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComparableMatcherBenchmark {
+    @Param
+    private ComparableMatchType matchType;
+
+    private ComparablePropertySpec<Character, Character> characterSpec;
+    private PropertySpecMatcher<Character, ComparablePropertySpec<Character, Character>> characterMatcher;
+    private Character character;
+    private ComparablePropertySpec<Duration, Duration> durationSpec;
+    private PropertySpecMatcher<Duration, ComparablePropertySpec<Duration, Duration>> durationMatcher;
+    private Duration duration;
+
+    @Setup
+    public void setUp() {
+        OnCharacterPropertyCondition characterCondition = new OnCharacterPropertyCondition();
+        this.characterSpec = characterCondition.createSpec(ConditionalOnCharacterProperty.class,
+                BenchmarkAttributes.of(ConditionalOnCharacterProperty.class,
+                        "name", new String[] { "separator" },
+                        "havingValue", ';',
+                        "matchType", this.matchType));
+        this.characterMatcher = characterCondition.createPropertySpecMatcher();
+        this.character = ',';
+
+        OnDurationPropertyCondition durationCondition = new OnDurationPropertyCondition();
+        this.durationSpec = durationCondition.createSpec(ConditionalOnDurationProperty.class,
+                BenchmarkAttributes.of(ConditionalOnDurationProperty.class,
+                        "name", new String[] { "timeout" },
+                        "havingValue", "30s",
+                        "matchType", this.matchType));
+        this.durationMatcher = durationCondition.createPropertySpecMatcher();
+        this.duration = Duration.ofSeconds(45);
+    }
+
+    @Benchmark
+    public boolean character() {
+        return this.characterMatcher.compare(this.characterSpec, this.character, this.characterSpec.getHavingValue());
+    }
+
+    @Benchmark
+    public boolean duration() {
+        return this.durationMatcher.compare(this.durationSpec, this.duration, this.durationSpec.getHavingValue());
+    }
+}
@@ -0,0 +1,113 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnCollectionProperty;
+import io.conditionals.condition.ConditionalOnIntegerProperty;
+import io.conditionals.condition.ConditionalOnStringProperty;
+import io.conditionals.condition.spec.PropertyIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MatchingSpringBootCondition#getMatchOutcome(ConditionContext, AnnotatedTypeMetadata)} end to end:
+ * attribute extraction from metadata, spec lookup, property resolution, matching and outcome construction.
+ *
+ * <p>The {@link ConditionContext} is a {@link BenchmarkConditionContext} over a {@link StandardEnvironment} with
+ * Spring Boot's configuration property sources attached, as in an application. The metadata declares one annotation
+ * with {@code size} property names, all present and matching. {@code propertyIndex} toggles
+ * {@value PropertyIndex#ENABLED_PROPERTY}. {@value ConditionOutcomeMemo#ENABLED_PROPERTY} is disabled so that every
+ * invocation evaluates the declaration instead of reading a shared result.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar ConditionPipelineBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConditionPipelineBenchmark {
+    @Param({ "STRING", "INTEGER", "COLLECTION" })
+    private String condition;
+
+    @Param
+    private InputSize size;
+
+    @Param({ "false", "true" })
+    private boolean propertyIndex;
+
+    private MatchingSpringBootCondition matchingCondition;
+    private ConditionContext context;
+    private AnnotatedTypeMetadata metadata;
+
+    @Setup
+    public void setUp() {
+        String[] names = BenchmarkAttributes.elements("property-", this.size.count());
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PropertyIndex.ENABLED_PROPERTY, String.valueOf(this.propertyIndex));
+        properties.put(ConditionOutcomeMemo.ENABLED_PROPERTY, "false");
+        MergedAnnotation<?> annotation = switch (this.condition) {
+            case "STRING" -> {
+                this.matchingCondition = new OnStringPropertyCondition();
+                put(properties, names, "enabled");
+                yield MergedAnnotation.of(ConditionalOnStringProperty.class, Map.of("name", names, "havingValue", "enabled"));
+            }
+            case "INTEGER" -> {
+                this.matchingCondition = new OnIntegerPropertyCondition();
+                put(properties, names, "8");
+                yield MergedAnnotation.of(ConditionalOnIntegerProperty.class, Map.of("name", names, "havingValue", 8));
+            }
+            case "COLLECTION" -> {
+                this.matchingCondition = new OnCollectionPropertyCondition();
+                put(properties, names, "blue,green");
+                yield MergedAnnotation.of(ConditionalOnCollectionProperty.class, Map.of("name", names, "havingValue", new String[] { "blue", "green" }));
+            }
+            default -> throw new IllegalArgumentException(this.condition);
+        };
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("application", properties));
+        ConfigurationPropertySources.attach(environment);
+        this.context = new BenchmarkConditionContext(new DefaultListableBeanFactory(), environment);
+        MergedAnnotations annotations = MergedAnnotations.of(List.of(annotation));
+        this.metadata = () -> annotations;
+
+        ConditionOutcome outcome = this.matchingCondition.getMatchOutcome(this.context, this.metadata);
+        if (!outcome.isMatch()) throw new IllegalStateException(outcome.getMessage());
+    }
+
+    private static void put(Map<String, Object> properties, String[] names, String value) {
+        for (String name : names) {
+            properties.put(name, value);
+        }
+    }
+
+    @Benchmark
+    public ConditionOutcome getMatchOutcome() {
+        return this.matchingCondition.getMatchOutcome(this.context, this.metadata);
+    }
+}
@@ -0,0 +1,24 @@
+package io.conditionals.condition.impl;
+
+/**
+ * Input sizes shared by the matcher and pipeline benchmarks.
+ *
+ * <p>The meaning of the element count depends on the benchmark: characters of a string property, elements of a
+ * collection property, entries of a map property or property names of a declaration. The type is public because
+ * JMH-generated code reads {@code @Param} values.</p>
+ */
+public enum InputSize {
+    SMALL(4),
+    MEDIUM(64),
+    LARGE(1024);
+
+    private final int count;
+
+    InputSize(int count) {
+        this.count = count;
+    }
+
+    public int count() {
+        return this.count;
+    }
+}
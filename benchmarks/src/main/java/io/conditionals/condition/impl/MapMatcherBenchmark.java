@@ -0,0 +1,80 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnMapProperty;
+import io.conditionals.condition.spec.MapMatchType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OnMapPropertyCondition.Matcher} for every {@link MapMatchType}.
+ *
+ * <p>The property map holds {@code size} entries. {@code EQUALS} compares against an equal copy,
+ * {@code CONTAINS_ALL} against a quarter of the entries and {@code CONTAINS_ANY} against a quarter of the entries
+ * of which only one is present, so every comparison matches after inspecting every candidate entry.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar MapMatcherBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapMatcherBenchmark {
+    private static final OnMapPropertyCondition.Matcher MATCHER = new OnMapPropertyCondition.Matcher();
+
+    @Param
+    private MapMatchType matchType;
+
+    @Param
+    private InputSize size;
+
+    private OnMapPropertyCondition.Spec spec;
+    private Map<String, String> property;
+    private Map<String, String> candidate;
+
+    @Setup
+    public void setUp() {
+        int propertySize = this.size.count();
+        int candidateSize = this.matchType == MapMatchType.EQUALS
+                ? propertySize
+                : Math.max(1, propertySize / 4);
+        this.property = new HashMap<>();
+        for (int i = 0; i < propertySize; i++) {
+            this.property.put("key-" + i, "value-" + i);
+        }
+        String[] pairs = new String[candidateSize * 2];
+        for (int i = 0; i < candidateSize; i++) {
+            int index = propertySize - candidateSize + i;
+            boolean missing = this.matchType == MapMatchType.CONTAINS_ANY && i < candidateSize - 1;
+            pairs[2 * i] = (missing ? "missing-" : "key-") + index;
+            pairs[2 * i + 1] = "value-" + index;
+        }
+        this.spec = new OnMapPropertyCondition().createSpec(ConditionalOnMapProperty.class,
+                BenchmarkAttributes.of(ConditionalOnMapProperty.class,
+                        "name", new String[] { "entries" },
+                        "havingValue", pairs,
+                        "matchType", this.matchType));
+        this.candidate = this.spec.getHavingValue();
+    }
+
+    @Benchmark
+    public boolean matcher() {
+        return MATCHER.compare(this.spec, this.property, this.candidate);
+    }
+}
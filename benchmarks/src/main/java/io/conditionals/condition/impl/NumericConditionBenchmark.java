@@ -0,0 +1,132 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnDoubleProperty;
+import io.conditionals.condition.ConditionalOnIntegerProperty;
+import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.PropertyLookup;
+import io.conditionals.condition.spec.PropertySpecMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import io.conditionals.condition.spec.ComparableMatchType;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generic boxed comparable path with the primitive-specialized numeric specs on the match path.
+ *
+ * <p>{@code boxed*} evaluates a plain {@link ComparablePropertySpec}, which converts the property through the
+ * {@link DefaultConversionService} and compares boxed values. {@code primitive*} evaluates the spec created by the
+ * production condition. Both read the property through a map-backed {@link PropertyLookup}, so the measurement
+ * excludes property source traversal. Run with {@code -prof gc}: {@code gc.alloc.rate.norm} of the primitive
+ * benchmarks is expected to be zero.</p>
+ *
+ * <p>{@code threads} also covers the underscore and unit suffix forms accepted by
+ * {@link io.conditionals.condition.utils.NumberParser}; the boxed path rejects them, so its score for those values is
+ * the cost of a failed conversion.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar NumericConditionBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumericConditionBenchmark {
+    @Param({ "4096", "4_096", "4Ki" })
+    private String threads;
+    private final List<String> missing = new ArrayList<>();
+    private final List<String> nonMatching = new ArrayList<>();
+    private final List<String> malformed = new ArrayList<>();
+    private PropertyLookup lookup;
+    private ComparablePropertySpec<Integer, Integer> boxedInteger;
+    private ComparablePropertySpec<Integer, Integer> primitiveInteger;
+    private PropertySpecMatcher<Integer, ComparablePropertySpec<Integer, Integer>> integerMatcher;
+    private ComparablePropertySpec<Double, Double> boxedDouble;
+    private ComparablePropertySpec<Double, Double> primitiveDouble;
+    private PropertySpecMatcher<Double, ComparablePropertySpec<Double, Double>> doubleMatcher;
+
+    @Setup
+    public void setUp() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.setConversionService(new DefaultConversionService());
+        Map<String, Object> properties = Map.of("app.threads", this.threads, "app.ratio", "0.75");
+        environment.getPropertySources().addFirst(new MapPropertySource("application", properties));
+        this.lookup = new MapPropertyLookup(properties, PropertyLookup.of(environment));
+
+        AnnotationAttributes integerAttributes = BenchmarkAttributes.of(ConditionalOnIntegerProperty.class,
+                "name", new String[] { "app.threads" },
+                "havingValue", 1024,
+                "matchType", ComparableMatchType.GREATER_THAN);
+        OnIntegerPropertyCondition integerCondition = new OnIntegerPropertyCondition();
+        this.boxedInteger = new ComparablePropertySpec<>(ConditionalOnIntegerProperty.class, integerAttributes);
+        this.primitiveInteger = integerCondition.createSpec(ConditionalOnIntegerProperty.class, integerAttributes);
+        this.integerMatcher = integerCondition.createPropertySpecMatcher();
+
+        AnnotationAttributes doubleAttributes = BenchmarkAttributes.of(ConditionalOnDoubleProperty.class,
+                "name", new String[] { "app.ratio" },
+                "havingValue", 0.5,
+                "matchType", ComparableMatchType.GREATER_THAN);
+        OnDoublePropertyCondition doubleCondition = new OnDoublePropertyCondition();
+        this.boxedDouble = new ComparablePropertySpec<>(ConditionalOnDoubleProperty.class, doubleAttributes);
+        this.primitiveDouble = doubleCondition.createSpec(ConditionalOnDoubleProperty.class, doubleAttributes);
+        this.doubleMatcher = doubleCondition.createPropertySpecMatcher();
+    }
+
+    @Benchmark
+    public int boxedInteger() {
+        this.boxedInteger.collectProperties(this.lookup, this.missing, this.nonMatching, this.malformed, this.integerMatcher);
+        return this.nonMatching.size();
+    }
+
+    @Benchmark
+    public int primitiveInteger() {
+        this.primitiveInteger.collectProperties(this.lookup, this.missing, this.nonMatching, this.malformed, this.integerMatcher);
+        return this.nonMatching.size();
+    }
+
+    @Benchmark
+    public int boxedDouble() {
+        this.boxedDouble.collectProperties(this.lookup, this.missing, this.nonMatching, this.malformed, this.doubleMatcher);
+        return this.nonMatching.size();
+    }
+
+    @Benchmark
+    public int primitiveDouble() {
+        this.primitiveDouble.collectProperties(this.lookup, this.missing, this.nonMatching, this.malformed, this.doubleMatcher);
+        return this.nonMatching.size();
+    }
+
+    /**
+     * Lookup reading raw values from a map and delegating conversion to the environment.
+     */
+    private record MapPropertyLookup(Map<String, Object> properties, PropertyLookup delegate) implements PropertyLookup {
+        @Override
+        public Object find(String key) {
+            return this.properties.get(key);
+        }
+
+        @Override
+        public <T> T convert(Object value, Class<T> targetType) {
+            return this.delegate.convert(value, targetType);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnIntegerProperty;
+import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.PropertyLookup;
+import io.conditionals.condition.spec.PropertySpecMatcher;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former {@code containsProperty} + {@code getProperty} resolution with the single-pass
+ * {@link PropertyLookup} used by {@link io.conditionals.condition.spec.PropertySpec#collectProperties}.
+ *
+ * <p>The environment holds {@code sources} map-backed property sources and the evaluated key lives in the last one,
+ * so every resolution walks all of them. The {@code sourceReads} auxiliary counter reports how many times a property
+ * source was consulted; dividing it by the primary score gives the number of source reads per condition (two full
+ * walks for {@code containsThenGet}, one for {@code singleLookup}).</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar PropertyLookupBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PropertyLookupBenchmark {
+    private static final String KEY = "app.threads";
+
+    @Param({ "5", "20" })
+    private int sources;
+
+    private final List<String> missing = new ArrayList<>();
+    private final List<String> nonMatching = new ArrayList<>();
+    private final List<String> malformed = new ArrayList<>();
+    private StandardEnvironment environment;
+    private ComparablePropertySpec<Integer, Integer> spec;
+    private PropertySpecMatcher<Integer, ComparablePropertySpec<Integer, Integer>> matcher;
+
+    @Setup
+    public void setUp(SourceReads sourceReads) {
+        this.environment = new StandardEnvironment();
+        this.environment.getPropertySources().remove(StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME);
+        this.environment.getPropertySources().remove(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME);
+        for (int i = 0; i < this.sources - 1; i++) {
+            this.environment.getPropertySources().addLast(new CountingPropertySource("source" + i, Map.of("other" + i, "value"), sourceReads));
+        }
+        this.environment.getPropertySources().addLast(new CountingPropertySource("application", Map.of(KEY, "8"), sourceReads));
+
+        OnIntegerPropertyCondition condition = new OnIntegerPropertyCondition();
+        this.spec = condition.createSpec(ConditionalOnIntegerProperty.class,
+                BenchmarkAttributes.of(ConditionalOnIntegerProperty.class,
+                        "name", new String[] { KEY },
+                        "havingValue", 8));
+        this.matcher = condition.createPropertySpecMatcher();
+    }
+
+    @Benchmark
+    public int containsThenGet() {
+        this.missing.clear();
+        this.nonMatching.clear();
+        for (String name : this.spec.getNames()) {
+            try {
+                String key = this.spec.getPrefix() + name;
+                if (this.environment.containsProperty(key)) {
+                    Integer value = this.environment.getProperty(key, Integer.class);
+                    if (!this.matcher.compare(this.spec, value, this.spec.getHavingValue())) {
+                        this.nonMatching.add(name);
+                    }
+                } else if (!this.spec.isMatchIfMissing()) {
+                    this.missing.add(name);
+                }
+            } catch (ConversionException e) {
+                this.nonMatching.add(name);
+            }
+        }
+        return this.missing.size() + this.nonMatching.size();
+    }
+
+    @Benchmark
+    public int singleLookup() {
+        this.missing.clear();
+        this.nonMatching.clear();
+        this.malformed.clear();
+        this.spec.collectProperties(PropertyLookup.of(this.environment), this.missing, this.nonMatching, this.malformed, this.matcher);
+        return this.missing.size() + this.nonMatching.size();
+    }
+
+    /**
+     * Number of property source reads, reported per unit of time alongside the benchmark score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class SourceReads {
+        public long sourceReads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.sourceReads = 0;
+        }
+    }
+
+    private static final class CountingPropertySource extends MapPropertySource {
+        private final SourceReads sourceReads;
+
+        private CountingPropertySource(String name, Map<String, Object> source, SourceReads sourceReads) {
+            super(name, source);
+            this.sourceReads = sourceReads;
+        }
+
+        @Override
+        public Object getProperty(String name) {
+            this.sourceReads.sourceReads++;
+            return super.getProperty(name);
+        }
+
+        @Override
+        public boolean containsProperty(String name) {
+            this.sourceReads.sourceReads++;
+            return super.containsProperty(name);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnCollectionProperty;
+import io.conditionals.condition.ConditionalOnIntegerProperty;
+import io.conditionals.condition.ConditionalOnMapProperty;
+import io.conditionals.condition.ConditionalOnStringProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.annotation.AnnotationAttributes;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@link io.conditionals.condition.spec.PropertySpec} from {@link AnnotationAttributes}.
+ *
+ * <p>{@code create} calls the condition's factory method directly, as on a
+ * {@link io.conditionals.condition.spec.PropertySpecCache} miss; {@code cached} goes through
+ * {@link PropertySpringBootCondition#getSpec(Class, AnnotationAttributes)}, as every evaluation does. The
+ * declaration has {@code size} property names; collection and map declarations also have {@code size} candidate
+ * elements or entries.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar SpecConstructionBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecConstructionBenchmark {
+    @Param({ "STRING", "INTEGER", "COLLECTION", "MAP" })
+    private String condition;
+
+    @Param
+    private InputSize size;
+
+    private PropertySpringBootCondition<?, ?> propertyCondition;
+    private Class<? extends Annotation> annotationType;
+    private AnnotationAttributes attributes;
+
+    @Setup
+    public void setUp() {
+        String[] names = BenchmarkAttributes.elements("property-", this.size.count());
+        String[] elements = BenchmarkAttributes.elements("element-", this.size.count());
+        switch (this.condition) {
+            case "STRING" -> this.use(new OnStringPropertyCondition(), ConditionalOnStringProperty.class,
+                    "name", names, "havingValue", "enabled");
+            case "INTEGER" -> this.use(new OnIntegerPropertyCondition(), ConditionalOnIntegerProperty.class,
+                    "name", names, "havingValue", 8);
+            case "COLLECTION" -> this.use(new OnCollectionPropertyCondition(), ConditionalOnCollectionProperty.class,
+                    "name", names, "havingValue", elements);
+            case "MAP" -> this.use(new OnMapPropertyCondition(), ConditionalOnMapProperty.class,
+                    "name", names, "havingValue", BenchmarkAttributes.elements("entry-", 2 * this.size.count()));
+            default -> throw new IllegalArgumentException(this.condition);
+        }
+    }
+
+    private void use(PropertySpringBootCondition<?, ?> condition, Class<? extends Annotation> annotationType, Object... overrides) {
+        this.propertyCondition = condition;
+        this.annotationType = annotationType;
+        this.attributes = BenchmarkAttributes.of(annotationType, overrides);
+    }
+
+    @Benchmark
+    public Object create() {
+        return this.propertyCondition.createSpec(this.annotationType, this.attributes);
+    }
+
+    @Benchmark
+    public Object cached() {
+        return this.propertyCondition.getSpec(this.annotationType, this.attributes);
+    }
+}
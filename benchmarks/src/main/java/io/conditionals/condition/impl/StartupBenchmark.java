@@ -0,0 +1,81 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.spec.PropertySpecCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures startup of a {@link SyntheticApplication} with {@code beans} conditional bean methods, declared either
+ * with this library's conditions ({@code CONDITIONALS}) or with the equivalent Spring Boot conditions
+ * ({@code SPRING}).
+ *
+ * <p>{@code refresh} times a full context refresh, including configuration class parsing, condition evaluation and
+ * singleton instantiation. {@code evaluateConditions} times condition evaluation alone, over metadata read once per
+ * trial. The shared spec cache is cleared before every invocation, so each measurement models a cold start of the
+ * conditions in an already warmed JVM.</p>
+ *
+ * <p>Each trial generates and compiles the application, which takes several seconds for 20k beans.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar StartupBenchmark -p beans=1000
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+    @Param({ "1000", "5000", "20000" })
+    private int beans;
+
+    @Param({ "CONDITIONALS", "SPRING" })
+    private String declarations;
+
+    private SyntheticApplication application;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        this.application = SyntheticApplication.generate(SyntheticApplication.Flavor.valueOf(this.declarations), this.beans);
+        int matched = this.application.evaluateConditions();
+        if (matched != this.beans) throw new IllegalStateException(matched + " of " + this.beans + " conditions matched");
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        PropertySpecCache.shared().clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        this.application.close();
+    }
+
+    @Benchmark
+    public int refresh() {
+        try (AnnotationConfigApplicationContext context = this.application.refresh()) {
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    @Benchmark
+    public int evaluateConditions() {
+        return this.application.evaluateConditions();
+    }
+}
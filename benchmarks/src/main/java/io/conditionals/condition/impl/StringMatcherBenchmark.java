@@ -0,0 +1,75 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.ConditionalOnStringProperty;
+import io.conditionals.condition.spec.StringMatchType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OnStringPropertyCondition.Matcher} for every {@link StringMatchType}.
+ *
+ * <p>The property is {@code size} characters long and every comparison matches, so the whole property has to be
+ * inspected: {@code EQUALS} compares against an equal copy, {@code CONTAINS} and {@code ENDS_WITH} look for the
+ * last characters, {@code STARTS_WITH} for the first half and {@code MATCHES} uses a pattern that consumes the
+ * whole value.</p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar StringMatcherBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringMatcherBenchmark {
+    private static final OnStringPropertyCondition.Matcher MATCHER = new OnStringPropertyCondition.Matcher();
+
+    @Param
+    private StringMatchType matchType;
+
+    @Param
+    private InputSize size;
+
+    @Param({ "false", "true" })
+    private boolean ignoreCase;
+
+    private OnStringPropertyCondition.Spec spec;
+    private String property;
+    private String candidate;
+
+    @Setup
+    public void setUp() {
+        int length = this.size.count();
+        this.property = "x".repeat(length - 4) + "tail";
+        this.candidate = switch (this.matchType) {
+            case EQUALS -> new String(this.property.toCharArray());
+            case CONTAINS, ENDS_WITH -> "tail";
+            case STARTS_WITH -> this.property.substring(0, length / 2);
+            case MATCHES -> "x*tail";
+        };
+        this.spec = new OnStringPropertyCondition().createSpec(ConditionalOnStringProperty.class,
+                BenchmarkAttributes.of(ConditionalOnStringProperty.class,
+                        "name", new String[] { "value" },
+                        "havingValue", this.candidate,
+                        "matchType", this.matchType,
+                        "ignoreCase", this.ignoreCase));
+    }
+
+    @Benchmark
+    public boolean matcher() {
+        return MATCHER.compare(this.spec, this.property, this.candidate);
+    }
+}
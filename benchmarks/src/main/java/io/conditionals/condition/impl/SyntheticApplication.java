@@ -0,0 +1,239 @@
+package io.conditionals.condition.impl;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.expression.StandardBeanExpressionResolver;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.MultiValueMap;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generated Spring application with a given number of conditional {@link Bean @Bean} methods.
+ *
+ * <p>Sources are generated into a temporary directory, compiled with the system {@link JavaCompiler} against the
+ * benchmark class path and loaded by a dedicated class loader. Configuration classes hold
+ * {@value #BEANS_PER_CLASS} bean methods each. Bean {@code i} uses declaration kind {@code i % 7} (string, integer,
+ * long, double, duration, collection, map) on keys under {@code app.bean-i}, and the environment defines every key
+ * so that all conditions match.</p>
+ *
+ * <p>{@link Flavor#CONDITIONALS} declares the conditions of this library; {@link Flavor#SPRING} declares the
+ * equivalent {@code @ConditionalOnProperty} (strings) and {@code @ConditionalOnExpression} (everything else).</p>
+ */
+final class SyntheticApplication implements Closeable {
+    static final int BEANS_PER_CLASS = 100;
+    private static final String PACKAGE = "io.conditionals.synthetic";
+    private final Path directory;
+    private final URLClassLoader classLoader;
+    private final Class<?>[] configurationClasses;
+    private final List<MethodMetadata> beanMethods;
+    private final StandardEnvironment environment;
+
+    private SyntheticApplication(Path directory, URLClassLoader classLoader, Class<?>[] configurationClasses,
+                                 List<MethodMetadata> beanMethods, StandardEnvironment environment) {
+        this.directory = directory;
+        this.classLoader = classLoader;
+        this.configurationClasses = configurationClasses;
+        this.beanMethods = beanMethods;
+        this.environment = environment;
+    }
+
+    /**
+     * Generate and compile an application.
+     *
+     * @param flavor declaration style
+     * @param beans number of bean methods
+     * @return loaded application; {@link #close()} deletes the generated files
+     */
+    static SyntheticApplication generate(Flavor flavor, int beans) throws IOException {
+        Path directory = Files.createTempDirectory("synthetic-" + flavor.name().toLowerCase() + "-" + beans);
+        Path sources = Files.createDirectories(directory.resolve("src"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        int classCount = (beans + BEANS_PER_CLASS - 1) / BEANS_PER_CLASS;
+        List<Path> files = new ArrayList<>();
+        for (int c = 0; c < classCount; c++) {
+            int first = c * BEANS_PER_CLASS;
+            Path file = sources.resolve("Config" + c + ".java");
+            Files.writeString(file, source(flavor, c, first, Math.min(beans, first + BEANS_PER_CLASS)));
+            files.add(file);
+        }
+        compile(files, classes);
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, SyntheticApplication.class.getClassLoader());
+        Class<?>[] configurationClasses = new Class<?>[classCount];
+        List<MethodMetadata> beanMethods = new ArrayList<>(beans);
+        MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(classLoader);
+        for (int c = 0; c < classCount; c++) {
+            String className = PACKAGE + ".Config" + c;
+            configurationClasses[c] = ClassUtils.resolveClassName(className, classLoader);
+            beanMethods.addAll(metadataReaderFactory.getMetadataReader(className)
+                    .getAnnotationMetadata()
+                    .getAnnotatedMethods(Bean.class.getName()));
+        }
+
+        return new SyntheticApplication(directory, classLoader, configurationClasses, beanMethods, environment(beans));
+    }
+
+    /**
+     * Refresh a new application context over the generated configuration classes.
+     *
+     * @return refreshed context; the caller closes it
+     */
+    AnnotationConfigApplicationContext refresh() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.setClassLoader(this.classLoader);
+        context.setEnvironment(this.environment);
+        context.register(this.configurationClasses);
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * Evaluate the conditions of every bean method against a fresh bean factory, as Spring's condition evaluator
+     * does while parsing configuration classes: condition classes are instantiated per declaration and their
+     * {@link Condition#matches} method is invoked with the method's metadata.
+     *
+     * @return number of bean methods whose conditions all match
+     */
+    int evaluateConditions() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setBeanClassLoader(this.classLoader);
+        beanFactory.setBeanExpressionResolver(new StandardBeanExpressionResolver(this.classLoader));
+        ConditionContext context = new BenchmarkConditionContext(beanFactory, this.environment, this.classLoader);
+        int matched = 0;
+        for (MethodMetadata beanMethod : this.beanMethods) {
+            if (this.matches(context, beanMethod)) matched++;
+        }
+
+        return matched;
+    }
+
+    private boolean matches(ConditionContext context, MethodMetadata beanMethod) {
+        MultiValueMap<String, Object> conditional = beanMethod.getAllAnnotationAttributes(Conditional.class.getName(), true);
+        if (conditional == null) return true;
+        for (Object conditionClasses : conditional.get("value")) {
+            for (String conditionClass : (String[]) conditionClasses) {
+                Condition condition = BeanUtils.instantiateClass(ClassUtils.resolveClassName(conditionClass, this.classLoader), Condition.class);
+                if (!condition.matches(context, beanMethod)) return false;
+            }
+        }
+
+        return true;
+    }
+
+    int getBeanCount() {
+        return this.beanMethods.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.classLoader.close();
+        FileSystemUtils.deleteRecursively(this.directory);
+    }
+
+    private static void compile(List<Path> files, Path classes) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) throw new IllegalStateException("Synthetic applications require a JDK");
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            List<String> options = List.of("-proc:none", "-classpath", System.getProperty("java.class.path"), "-d", classes.toString());
+            boolean compiled = compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromPaths(files)).call();
+            if (!compiled) throw new IllegalStateException("Compilation of the synthetic application failed");
+        }
+    }
+
+    private static StandardEnvironment environment(int beans) {
+        Map<String, Object> properties = new HashMap<>();
+        for (int i = 0; i < beans; i++) {
+            String key = "app.bean-" + i + ".value";
+            switch (i % 7) {
+                case 0 -> properties.put(key, "on");
+                case 1, 2 -> properties.put(key, "16");
+                case 3 -> properties.put(key, "0.75");
+                case 4 -> properties.put(key, "10000");
+                case 5 -> properties.put(key, "blue,green,red");
+                default -> {
+                    properties.put(key + ".mode", "fast");
+                    properties.put(key + ".region", "eu");
+                }
+            }
+        }
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("application", properties));
+        ConfigurationPropertySources.attach(environment);
+        return environment;
+    }
+
+    private static String source(Flavor flavor, int index, int first, int end) {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import io.conditionals.condition.*;\n")
+                .append("import io.conditionals.condition.spec.*;\n")
+                .append("import org.springframework.boot.autoconfigure.condition.*;\n")
+                .append("import org.springframework.context.annotation.*;\n\n")
+                .append("@Configuration(proxyBeanMethods = false)\n")
+                .append("public class Config").append(index).append(" {\n");
+        for (int i = first; i < end; i++) {
+            String key = "app.bean-" + i + ".value";
+            source.append("    @Bean\n    ")
+                    .append(flavor == Flavor.CONDITIONALS ? conditionals(i % 7, key) : spring(i % 7, key))
+                    .append("\n    String bean").append(i).append("() {\n        return \"bean").append(i).append("\";\n    }\n\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static String conditionals(int kind, String key) {
+        return switch (kind) {
+            case 0 -> "@ConditionalOnStringProperty(name = \"" + key + "\", havingValue = \"on\")";
+            case 1 -> "@ConditionalOnIntegerProperty(name = \"" + key + "\", havingValue = 8, matchType = ComparableMatchType.GREATER_THAN_OR_EQUAL)";
+            case 2 -> "@ConditionalOnLongProperty(name = \"" + key + "\", havingValue = 8, matchType = ComparableMatchType.GREATER_THAN_OR_EQUAL)";
+            case 3 -> "@ConditionalOnDoubleProperty(name = \"" + key + "\", havingValue = 0.5, matchType = ComparableMatchType.GREATER_THAN)";
+            case 4 -> "@ConditionalOnDurationProperty(name = \"" + key + "\", havingValue = \"30s\", matchType = ComparableMatchType.LESS_THAN_OR_EQUAL)";
+            case 5 -> "@ConditionalOnCollectionProperty(name = \"" + key + "\", havingValue = { \"blue\", \"green\" }, matchType = CollectionMatchType.CONTAINS_ALL)";
+            default -> "@ConditionalOnMapProperty(name = \"" + key + "\", havingValue = { \"mode\", \"fast\", \"region\", \"eu\" }, matchType = MapMatchType.CONTAINS_ALL)";
+        };
+    }
+
+    private static String spring(int kind, String key) {
+        String placeholder = "${" + key;
+        return switch (kind) {
+            case 0 -> "@ConditionalOnProperty(name = \"" + key + "\", havingValue = \"on\")";
+            case 1, 2 -> "@ConditionalOnExpression(\"" + placeholder + ":0} >= 8\")";
+            case 3 -> "@ConditionalOnExpression(\"" + placeholder + ":0} > 0.5\")";
+            case 4 -> "@ConditionalOnExpression(\"" + placeholder + ":0} <= 30000\")";
+            case 5 -> "@ConditionalOnExpression(\"T(java.util.Arrays).asList('" + placeholder + ":}'.split(',')).containsAll({'blue', 'green'})\")";
+            default -> "@ConditionalOnExpression(\"'" + placeholder + ".mode:}' == 'fast' and '" + placeholder + ".region:}' == 'eu'\")";
+        };
+    }
+
+    /**
+     * Declaration style of the generated bean methods.
+     */
+    enum Flavor {
+        CONDITIONALS,
+        SPRING
+    }
+}
@@ -0,0 +1,349 @@
+package io.conditionals.condition.processor;
+
+import io.conditionals.condition.ConditionalOnCharacterProperties;
+import io.conditionals.condition.ConditionalOnCharacterProperty;
+import io.conditionals.condition.ConditionalOnCollectionProperties;
+import io.conditionals.condition.ConditionalOnCollectionProperty;
+import io.conditionals.condition.ConditionalOnDoubleProperties;
+import io.conditionals.condition.ConditionalOnDoubleProperty;
+import io.conditionals.condition.ConditionalOnDurationProperties;
+import io.conditionals.condition.ConditionalOnDurationProperty;
+import io.conditionals.condition.ConditionalOnEnumProperties;
+import io.conditionals.condition.ConditionalOnEnumProperty;
+import io.conditionals.condition.ConditionalOnFloatProperties;
+import io.conditionals.condition.ConditionalOnFloatProperty;
+import io.conditionals.condition.ConditionalOnIntegerProperties;
+import io.conditionals.condition.ConditionalOnIntegerProperty;
+import io.conditionals.condition.ConditionalOnLongProperties;
+import io.conditionals.condition.ConditionalOnLongProperty;
+import io.conditionals.condition.ConditionalOnMapProperties;
+import io.conditionals.condition.ConditionalOnMapProperty;
+import io.conditionals.condition.ConditionalOnStringProperties;
+import io.conditionals.condition.ConditionalOnStringProperty;
+import io.conditionals.condition.spec.PropertyConditionEvaluators;
+import io.conditionals.condition.spec.StringMatchType;
+import io.conditionals.condition.utils.ConditionMetadataCodec;
+import org.springframework.boot.convert.DurationStyle;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Annotation processor that validates the property conditions of this library at compile time and records the
+ * class-level declarations of auto-configurations as metadata for early filtering.
+ *
+ * <p><b>Validation</b></p>
+ * <p>Every {@code @ConditionalOn*Property} declaration compiled with the processor, on types and on methods, is
+ * checked for errors that would otherwise only surface during condition evaluation:</p>
+ * <ul>
+ *     <li>exactly one of {@code value} and {@code name} must be specified;</li>
+ *     <li>the {@code havingValue} pairs of {@code @ConditionalOnMapProperty} must have an even length;</li>
+ *     <li>the {@code havingValue} of {@code @ConditionalOnDurationProperty} must be a valid duration;</li>
+ *     <li>the {@code havingValue} of {@code @ConditionalOnStringProperty} with {@code matchType = MATCHES} must be
+ *     a valid regular expression.</li>
+ * </ul>
+ * <p>Violations are reported as compilation errors on the annotation.</p>
+ *
+ * <p><b>Metadata</b></p>
+ * <p>For classes annotated with {@code @AutoConfiguration}, the explicitly specified attributes of each valid
+ * declaration, including repeated ones, are written to {@value ConditionMetadataCodec#METADATA_LOCATION} in the
+ * format of {@link ConditionMetadataCodec}. The runtime
+ * {@link io.conditionals.condition.impl.PropertyConditionImportFilter} reads this file and discards non-matching
+ * auto-configurations before loading them. {@code @ConditionalOnEnumProperty} is validated but not recorded.</p>
+ *
+ * <p><b>Evaluators</b></p>
+ * <p>With {@code -A}{@value #EVALUATORS_OPTION}{@code =true}, the processor also generates a
+ * {@link io.conditionals.condition.spec.PropertyConditionEvaluator} named {@code <class>__PropertyConditions} for
+ * each class that declares string, integer, long, float or double property conditions on itself or on its
+ * methods, and lists it in {@value PropertyConditionEvaluators#REGISTRY_LOCATION}. Declarations on overloaded
+ * methods, declarations combined with composed annotations that carry the same condition, and other condition
+ * types are left to the reflective path.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+@SupportedAnnotationTypes("io.conditionals.condition.*")
+@SupportedOptions(ConditionMetadataProcessor.EVALUATORS_OPTION)
+public class ConditionMetadataProcessor extends AbstractProcessor {
+    /**
+     * Processor option enabling generation of {@link io.conditionals.condition.spec.PropertyConditionEvaluator}
+     * classes.
+     */
+    public static final String EVALUATORS_OPTION = "conditionals.evaluators";
+    static final String AUTO_CONFIGURATION = "org.springframework.boot.autoconfigure.AutoConfiguration";
+    private static final String VALUE = "value";
+    private static final String NAME = "name";
+    private static final String HAVING_VALUE = "havingValue";
+    private static final String MATCH_TYPE = "matchType";
+    private static final String IGNORE_CASE = "ignoreCase";
+    private static final String TRIM = "trim";
+    private static final Map<String, Class<? extends Annotation>> ANNOTATIONS = new LinkedHashMap<>();
+
+    static {
+        register(ConditionalOnStringProperty.class, ConditionalOnStringProperties.class);
+        register(ConditionalOnCharacterProperty.class, ConditionalOnCharacterProperties.class);
+        register(ConditionalOnIntegerProperty.class, ConditionalOnIntegerProperties.class);
+        register(ConditionalOnLongProperty.class, ConditionalOnLongProperties.class);
+        register(ConditionalOnFloatProperty.class, ConditionalOnFloatProperties.class);
+        register(ConditionalOnDoubleProperty.class, ConditionalOnDoubleProperties.class);
+        register(ConditionalOnDurationProperty.class, ConditionalOnDurationProperties.class);
+        register(ConditionalOnCollectionProperty.class, ConditionalOnCollectionProperties.class);
+        register(ConditionalOnMapProperty.class, ConditionalOnMapProperties.class);
+        register(ConditionalOnEnumProperty.class, ConditionalOnEnumProperties.class);
+    }
+
+    private final Map<String, String> metadata = new TreeMap<>();
+    private final Map<String, String> evaluators = new TreeMap<>();
+    private final Map<TypeElement, EvaluatorSourceWriter> pendingEvaluators = new LinkedHashMap<>();
+
+    private static void register(Class<? extends Annotation> annotation, Class<? extends Annotation> container) {
+        ANNOTATIONS.put(annotation.getName(), annotation);
+        ANNOTATIONS.put(container.getName(), annotation);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            if (!ANNOTATIONS.containsKey(annotation.getQualifiedName().toString())) continue;
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                this.process(element, annotation);
+            }
+        }
+        this.writeEvaluators();
+        if (roundEnv.processingOver()) {
+            if (!this.metadata.isEmpty()) {
+                this.writeProperties(ConditionMetadataCodec.METADATA_LOCATION, this.metadata);
+            }
+            if (!this.evaluators.isEmpty()) {
+                this.writeProperties(PropertyConditionEvaluators.REGISTRY_LOCATION, this.evaluators);
+            }
+        }
+
+        return false;
+    }
+
+    private void process(Element element, TypeElement annotationType) {
+        Class<? extends Annotation> annotation = ANNOTATIONS.get(annotationType.getQualifiedName().toString());
+        boolean container = !annotation.getName().contentEquals(annotationType.getQualifiedName());
+        List<Map<String, Object>> declarations = new ArrayList<>();
+        List<Map<String, Object>> declarationsWithDefaults = new ArrayList<>();
+        boolean valid = true;
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().equals(annotationType)) continue;
+            List<AnnotationMirror> instances = container ? this.containedMirrors(mirror) : List.of(mirror);
+            for (AnnotationMirror instance : instances) {
+                valid &= this.validate(element, instance, annotation);
+                declarations.add(this.explicitAttributes(instance));
+                declarationsWithDefaults.add(this.attributesWithDefaults(instance));
+            }
+        }
+
+        if (valid && this.isEvaluatorsEnabled() && EvaluatorSourceWriter.isSupported(annotation)) {
+            this.addEvaluator(element, annotation, declarationsWithDefaults);
+        }
+
+        if (valid && annotation != ConditionalOnEnumProperty.class
+                && element instanceof TypeElement type && this.isAutoConfiguration(type)) {
+            String key = this.processingEnv.getElementUtils().getBinaryName(type) + "." + annotation.getSimpleName();
+            String encoded = ConditionMetadataCodec.encode(declarations);
+            this.metadata.merge(key, encoded, (first, second) -> first + ";" + second);
+        }
+    }
+
+    private boolean isEvaluatorsEnabled() {
+        return Boolean.parseBoolean(this.processingEnv.getOptions().get(EVALUATORS_OPTION));
+    }
+
+    private void addEvaluator(Element element, Class<? extends Annotation> annotation, List<Map<String, Object>> declarations) {
+        TypeElement type;
+        String elementName;
+        if (element.getKind() == ElementKind.CLASS) {
+            type = (TypeElement) element;
+            elementName = "";
+        } else if (element.getKind() == ElementKind.METHOD && element.getEnclosingElement().getKind() == ElementKind.CLASS) {
+            type = (TypeElement) element.getEnclosingElement();
+            elementName = element.getSimpleName().toString();
+            long overloads = type.getEnclosedElements().stream()
+                    .filter(enclosed -> enclosed.getKind() == ElementKind.METHOD && enclosed.getSimpleName().contentEquals(elementName))
+                    .count();
+            if (overloads > 1) return;
+        } else {
+            return;
+        }
+        if (this.hasComposedDeclarations(element, annotation)) return;
+
+        Elements elements = this.processingEnv.getElementUtils();
+        this.pendingEvaluators.computeIfAbsent(type, key -> new EvaluatorSourceWriter(
+                        elements.getPackageOf(key).getQualifiedName().toString(), elements.getBinaryName(key).toString()))
+                .add(elementName, annotation, declarations);
+    }
+
+    private boolean hasComposedDeclarations(Element element, Class<? extends Annotation> annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (this.isMetaAnnotated(mirror.getAnnotationType().asElement(), annotation, new HashSet<>())) return true;
+        }
+
+        return false;
+    }
+
+    private boolean isMetaAnnotated(Element annotationType, Class<? extends Annotation> annotation, Set<Element> visited) {
+        if (!visited.add(annotationType)) return false;
+        for (AnnotationMirror mirror : annotationType.getAnnotationMirrors()) {
+            Element metaAnnotationType = mirror.getAnnotationType().asElement();
+            String name = ((TypeElement) metaAnnotationType).getQualifiedName().toString();
+            if (ANNOTATIONS.get(name) == annotation) return true;
+            if (!name.startsWith("java.lang.annotation.") && this.isMetaAnnotated(metaAnnotationType, annotation, visited)) return true;
+        }
+
+        return false;
+    }
+
+    private void writeEvaluators() {
+        for (Map.Entry<TypeElement, EvaluatorSourceWriter> entry : this.pendingEvaluators.entrySet()) {
+            EvaluatorSourceWriter writer = entry.getValue();
+            if (writer.isEmpty()) continue;
+            try {
+                JavaFileObject file = this.processingEnv.getFiler().createSourceFile(writer.getQualifiedName(), entry.getKey());
+                try (Writer out = file.openWriter()) {
+                    out.write(writer.write());
+                }
+                this.evaluators.put(this.processingEnv.getElementUtils().getBinaryName(entry.getKey()).toString(), writer.getQualifiedName());
+            } catch (IOException e) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write %s: %s".formatted(writer.getQualifiedName(), e.getMessage()), entry.getKey());
+            }
+        }
+        this.pendingEvaluators.clear();
+    }
+
+    private List<AnnotationMirror> containedMirrors(AnnotationMirror container) {
+        List<AnnotationMirror> mirrors = new ArrayList<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : container.getElementValues().entrySet()) {
+            if (!entry.getKey().getSimpleName().contentEquals(VALUE)) continue;
+            for (Object value : (List<?>) entry.getValue().getValue()) {
+                mirrors.add((AnnotationMirror) ((AnnotationValue) value).getValue());
+            }
+        }
+
+        return mirrors;
+    }
+
+    private boolean isAutoConfiguration(TypeElement type) {
+        return type.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(AUTO_CONFIGURATION));
+    }
+
+    private boolean validate(Element element, AnnotationMirror mirror, Class<? extends Annotation> annotation) {
+        Map<String, Object> attributes = this.attributesWithDefaults(mirror);
+        String annotationName = "@" + annotation.getSimpleName();
+        List<String> errors = new ArrayList<>();
+        int values = ((String[]) attributes.get(VALUE)).length;
+        int names = ((String[]) attributes.get(NAME)).length;
+        if (values == 0 && names == 0) {
+            errors.add("The name or value attribute of %s must be specified".formatted(annotationName));
+        } else if (values > 0 && names > 0) {
+            errors.add("The name and value attributes of %s are exclusive".formatted(annotationName));
+        }
+        if (annotation == ConditionalOnMapProperty.class && ((String[]) attributes.get(HAVING_VALUE)).length % 2 != 0) {
+            errors.add("The havingValue attribute of %s must be specified as pairs of key-value".formatted(annotationName));
+        }
+        if (annotation == ConditionalOnDurationProperty.class) {
+            String havingValue = (String) attributes.get(HAVING_VALUE);
+            try {
+                DurationStyle.detectAndParse(havingValue);
+            } catch (IllegalArgumentException e) {
+                errors.add("The havingValue attribute of %s is not a valid duration: '%s'".formatted(annotationName, havingValue));
+            }
+        }
+        if (annotation == ConditionalOnStringProperty.class && StringMatchType.MATCHES.name().equals(attributes.get(MATCH_TYPE))) {
+            String havingValue = (String) attributes.get(HAVING_VALUE);
+            int flags = Boolean.TRUE.equals(attributes.get(IGNORE_CASE)) ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0;
+            try {
+                Pattern.compile(Boolean.TRUE.equals(attributes.get(TRIM)) ? havingValue.trim() : havingValue, flags);
+            } catch (PatternSyntaxException e) {
+                errors.add("The havingValue attribute of %s is not a valid regular expression: %s".formatted(annotationName, e.getDescription()));
+            }
+        }
+
+        for (String error : errors) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, error, element, mirror);
+        }
+        return errors.isEmpty();
+    }
+
+    private Map<String, Object> explicitAttributes(AnnotationMirror mirror) {
+        return this.attributes(mirror.getElementValues());
+    }
+
+    private Map<String, Object> attributesWithDefaults(AnnotationMirror mirror) {
+        return this.attributes(this.processingEnv.getElementUtils().getElementValuesWithDefaults(mirror));
+    }
+
+    private Map<String, Object> attributes(Map<? extends ExecutableElement, ? extends AnnotationValue> values) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        values.forEach((attribute, value) -> attributes.put(attribute.getSimpleName().toString(), this.attributeValue(value.getValue())));
+        return attributes;
+    }
+
+    private Object attributeValue(Object value) {
+        if (value instanceof List<?> elements) {
+            String[] array = new String[elements.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = String.valueOf(this.attributeValue(((AnnotationValue) elements.get(i)).getValue()));
+            }
+            return array;
+        }
+        if (value instanceof VariableElement constant) return constant.getSimpleName().toString();
+        if (value instanceof TypeMirror type) return type.toString();
+        return value;
+    }
+
+    private void writeProperties(String location, Map<String, String> entries) {
+        try {
+            FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", location);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.ISO_8859_1)) {
+                for (Map.Entry<String, String> entry : entries.entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write %s: %s".formatted(location, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package io.conditionals.condition.processor;
+
+import io.conditionals.condition.ConditionalOnDoubleProperty;
+import io.conditionals.condition.ConditionalOnFloatProperty;
+import io.conditionals.condition.ConditionalOnIntegerProperty;
+import io.conditionals.condition.ConditionalOnLongProperty;
+import io.conditionals.condition.ConditionalOnStringProperty;
+import io.conditionals.condition.spec.ComparableMatchType;
+import io.conditionals.condition.spec.StringMatchType;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Source of a generated {@link io.conditionals.condition.spec.PropertyConditionEvaluator} for one configuration
+ * class.
+ *
+ * <p>Each supported declaration becomes a {@link io.conditionals.condition.spec.PropertyCollector} factory call
+ * whose keys, names and {@code matchIfMissing} flag are literals and whose predicate inlines the candidate, match
+ * type, normalization and negation. Regular expressions are compiled once into constants. Declarations of other
+ * annotation types are not generated and fall back to the reflective path at runtime.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+final class EvaluatorSourceWriter {
+    static final String SUFFIX = "__PropertyConditions";
+    private static final Set<Class<? extends Annotation>> SUPPORTED = Set.of(
+            ConditionalOnStringProperty.class,
+            ConditionalOnIntegerProperty.class,
+            ConditionalOnLongProperty.class,
+            ConditionalOnFloatProperty.class,
+            ConditionalOnDoubleProperty.class
+    );
+    private final String packageName;
+    private final String simpleName;
+    private final String sourceClassName;
+    private final List<String> constants = new ArrayList<>();
+    private final Map<String, List<String>> collectors = new LinkedHashMap<>();
+
+    /**
+     * Create a writer for the evaluator of the given configuration class.
+     *
+     * @param packageName package of the configuration class
+     * @param binaryName binary name of the configuration class
+     */
+    EvaluatorSourceWriter(String packageName, String binaryName) {
+        this.packageName = packageName;
+        this.simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + SUFFIX;
+        this.sourceClassName = binaryName;
+    }
+
+    static boolean isSupported(Class<? extends Annotation> annotation) {
+        return SUPPORTED.contains(annotation);
+    }
+
+    String getQualifiedName() {
+        return this.packageName.isEmpty() ? this.simpleName : this.packageName + "." + this.simpleName;
+    }
+
+    boolean isEmpty() {
+        return this.collectors.isEmpty();
+    }
+
+    /**
+     * Add the declarations of an annotation type on an element.
+     *
+     * @param element method name, or an empty string for the class
+     * @param annotation annotation type
+     * @param declarations attributes of each declaration, with defaults
+     */
+    void add(String element, Class<? extends Annotation> annotation, List<Map<String, Object>> declarations) {
+        List<String> expressions = this.collectors.computeIfAbsent(element + "@" + annotation.getName(), key -> new ArrayList<>());
+        for (Map<String, Object> attributes : declarations) {
+            expressions.add(this.collector(annotation, attributes));
+        }
+    }
+
+    String write() {
+        StringBuilder source = new StringBuilder();
+        if (!this.packageName.isEmpty()) {
+            source.append("package ").append(this.packageName).append(";\n\n");
+        }
+        source.append("import io.conditionals.condition.spec.PropertyCollector;\n")
+                .append("import io.conditionals.condition.spec.PropertyConditionEvaluator;\n\n")
+                .append("import java.util.List;\n\n")
+                .append("/**\n * Property conditions of {@code ").append(this.sourceClassName).append("}, generated by the conditionals-spring-boot processor.\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(ConditionMetadataProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(this.simpleName).append(" implements PropertyConditionEvaluator {\n");
+        for (String constant : this.constants) {
+            source.append("    ").append(constant).append("\n");
+        }
+        int index = 0;
+        for (List<String> expressions : this.collectors.values()) {
+            source.append("    private static final List<PropertyCollector> COLLECTORS_").append(index++).append(" = List.of(\n            ")
+                    .append(String.join(",\n            ", expressions))
+                    .append(");\n");
+        }
+        source.append("\n    @Override\n")
+                .append("    public List<PropertyCollector> getCollectors(String element, String annotationType) {\n")
+                .append("        return switch (element + \"@\" + annotationType) {\n");
+        index = 0;
+        for (String key : this.collectors.keySet()) {
+            source.append("            case ").append(literal(key)).append(" -> COLLECTORS_").append(index++).append(";\n");
+        }
+        return source.append("            default -> null;\n")
+                .append("        };\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private String collector(Class<? extends Annotation> annotation, Map<String, Object> attributes) {
+        String[] names = names(attributes);
+        String prefix = ((String) attributes.get("prefix")).trim();
+        if (!prefix.isEmpty() && !prefix.endsWith(".")) prefix = prefix + ".";
+        String[] keys = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            keys[i] = prefix + names[i];
+        }
+        boolean not = (Boolean) attributes.get("not");
+        String arguments = array(keys) + ", " + array(names) + ", " + attributes.get("matchIfMissing") + ", value -> ";
+        if (annotation == ConditionalOnStringProperty.class) {
+            return "PropertyCollector.ofString(" + arguments + negate(this.stringMatch(attributes), not) + ")";
+        }
+
+        ComparableMatchType matchType = ComparableMatchType.valueOf((String) attributes.get("matchType"));
+        Number havingValue = (Number) attributes.get("havingValue");
+        String comparison;
+        String factory;
+        if (annotation == ConditionalOnIntegerProperty.class) {
+            factory = "ofInt";
+            comparison = "Integer.compare(value, " + havingValue.intValue() + ")";
+        } else if (annotation == ConditionalOnLongProperty.class) {
+            factory = "ofLong";
+            comparison = "Long.compare(value, " + havingValue.longValue() + "L)";
+        } else if (annotation == ConditionalOnFloatProperty.class) {
+            factory = "ofFloat";
+            comparison = "Float.compare((float) value, " + floatLiteral(havingValue.floatValue()) + ")";
+        } else {
+            factory = "ofDouble";
+            comparison = "Double.compare(value, " + doubleLiteral(havingValue.doubleValue()) + ")";
+        }
+        return "PropertyCollector." + factory + "(" + arguments + negate(comparison + " " + operator(matchType) + " 0", not) + ")";
+    }
+
+    private String stringMatch(Map<String, Object> attributes) {
+        StringMatchType matchType = StringMatchType.valueOf((String) attributes.get("matchType"));
+        boolean trim = (Boolean) attributes.get("trim");
+        boolean ignoreCase = (Boolean) attributes.get("ignoreCase");
+        String property = trim ? "value.trim()" : "value";
+        String candidate = (String) attributes.get("havingValue");
+        if (trim) candidate = candidate.trim();
+        if (matchType == StringMatchType.MATCHES) {
+            String constant = "PATTERN_" + this.constants.size();
+            String flags = ignoreCase ? "java.util.regex.Pattern.CASE_INSENSITIVE | java.util.regex.Pattern.UNICODE_CASE" : "0";
+            this.constants.add("private static final java.util.regex.Pattern " + constant
+                    + " = java.util.regex.Pattern.compile(" + literal(candidate) + ", " + flags + ");");
+            return constant + ".matcher(" + property + ").matches()";
+        }
+        if (ignoreCase) {
+            property = property + ".toLowerCase(java.util.Locale.ROOT)";
+            candidate = candidate.toLowerCase(Locale.ROOT);
+        }
+        String method = switch (matchType) {
+            case EQUALS -> "equals";
+            case CONTAINS -> "contains";
+            case STARTS_WITH -> "startsWith";
+            case ENDS_WITH -> "endsWith";
+            case MATCHES -> throw new IllegalStateException();
+        };
+        return property + "." + method + "(" + literal(candidate) + ")";
+    }
+
+    private static String[] names(Map<String, Object> attributes) {
+        String[] value = (String[]) attributes.get("value");
+        return value.length > 0 ? value : (String[]) attributes.get("name");
+    }
+
+    private static String operator(ComparableMatchType matchType) {
+        return switch (matchType) {
+            case EQUALS -> "==";
+            case GREATER_THAN -> ">";
+            case LESS_THAN -> "<";
+            case GREATER_THAN_OR_EQUAL -> ">=";
+            case LESS_THAN_OR_EQUAL -> "<=";
+        };
+    }
+
+    private static String negate(String expression, boolean not) {
+        return not ? "!(" + expression + ")" : expression;
+    }
+
+    private static String floatLiteral(float value) {
+        if (Float.isNaN(value)) return "Float.NaN";
+        if (Float.isInfinite(value)) return value > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+        return Float.toString(value) + "f";
+    }
+
+    private static String doubleLiteral(double value) {
+        if (Double.isNaN(value)) return "Double.NaN";
+        if (Double.isInfinite(value)) return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        return Double.toString(value);
+    }
+
+    private static String array(String[] values) {
+        StringBuilder array = new StringBuilder("new String[] { ");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) array.append(", ");
+            array.append(literal(values[i]));
+        }
+        return array.append(" }").toString();
+    }
+
+    static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,228 @@
+package io.conditionals.condition.processor;
+
+import io.conditionals.condition.ConditionalOnDurationProperty;
+import io.conditionals.condition.ConditionalOnIntegerProperty;
+import io.conditionals.condition.ConditionalOnStringProperty;
+import io.conditionals.condition.spec.PropertyCollector;
+import io.conditionals.condition.spec.PropertyConditionEvaluator;
+import io.conditionals.condition.spec.PropertyConditionEvaluators;
+import io.conditionals.condition.spec.PropertyLookup;
+import io.conditionals.condition.utils.ConditionMetadataCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ConditionMetadataProcessorTest {
+    @TempDir
+    Path output;
+
+    @Test
+    void processor_shouldRecordDeclarationsOfAutoConfigurations() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile("""
+                package sample;
+
+                import io.conditionals.condition.*;
+                import io.conditionals.condition.spec.*;
+                import org.springframework.boot.autoconfigure.AutoConfiguration;
+                import org.springframework.context.annotation.Configuration;
+
+                @AutoConfiguration
+                @ConditionalOnStringProperty(name = "app.mode", havingValue = "a,b")
+                @ConditionalOnStringProperty(prefix = "app", value = "region", havingValue = "eu", ignoreCase = true)
+                @ConditionalOnIntegerProperty(name = "app.threads", havingValue = 8, matchType = ComparableMatchType.GREATER_THAN)
+                public class SampleAutoConfiguration {
+                    @Configuration
+                    @ConditionalOnStringProperty(name = "app.nested", havingValue = "on")
+                    public static class Ignored {
+                    }
+                }
+                """);
+
+        assertThat(diagnostics).noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+        Properties metadata = new Properties();
+        try (Reader reader = Files.newBufferedReader(this.output.resolve(ConditionMetadataCodec.METADATA_LOCATION))) {
+            metadata.load(reader);
+        }
+        assertThat(metadata).containsOnlyKeys(
+                "sample.SampleAutoConfiguration.ConditionalOnStringProperty",
+                "sample.SampleAutoConfiguration.ConditionalOnIntegerProperty");
+        assertThat(metadata.getProperty("sample.SampleAutoConfiguration.ConditionalOnIntegerProperty"))
+                .isEqualTo("name=app.threads&havingValue=8&matchType=GREATER_THAN");
+
+        List<AnnotationAttributes> declarations = ConditionMetadataCodec.decode(ConditionalOnStringProperty.class,
+                metadata.getProperty("sample.SampleAutoConfiguration.ConditionalOnStringProperty"));
+        assertThat(declarations).hasSize(2);
+        assertThat(declarations.get(0).getString("havingValue")).isEqualTo("a,b");
+        assertThat(declarations.get(1).getString("prefix")).isEqualTo("app");
+        assertThat(declarations.get(1).getStringArray("value")).containsExactly("region");
+        assertThat(declarations.get(1).getBoolean("ignoreCase")).isTrue();
+    }
+
+    @Test
+    void processor_shouldRejectMalformedDeclarations() throws IOException {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile("""
+                package sample;
+
+                import io.conditionals.condition.*;
+                import io.conditionals.condition.spec.*;
+                import org.springframework.boot.autoconfigure.AutoConfiguration;
+                import org.springframework.context.annotation.Bean;
+
+                @AutoConfiguration
+                @ConditionalOnMapProperty(name = "app.map", havingValue = { "mode", "fast", "region" })
+                @ConditionalOnDurationProperty(name = "app.timeout", havingValue = "ten seconds")
+                public class SampleAutoConfiguration {
+                    @Bean
+                    @ConditionalOnStringProperty(name = "app.host", havingValue = "demo[", matchType = StringMatchType.MATCHES)
+                    String host() {
+                        return "host";
+                    }
+
+                    @Bean
+                    @ConditionalOnIntegerProperty(value = "app.a", name = "app.b")
+                    Integer threads() {
+                        return 1;
+                    }
+                }
+                """);
+
+        assertThat(diagnostics)
+                .filteredOn(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .extracting(diagnostic -> diagnostic.getMessage(null))
+                .containsExactlyInAnyOrder(
+                        "The havingValue attribute of @ConditionalOnMapProperty must be specified as pairs of key-value",
+                        "The havingValue attribute of @ConditionalOnDurationProperty is not a valid duration: 'ten seconds'",
+                        "The havingValue attribute of @ConditionalOnStringProperty is not a valid regular expression: Unclosed character class",
+                        "The name and value attributes of @ConditionalOnIntegerProperty are exclusive");
+        assertThat(this.output.resolve(ConditionMetadataCodec.METADATA_LOCATION)).doesNotExist();
+    }
+
+    @Test
+    void processor_shouldGenerateEvaluatorsWhenEnabled() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile("""
+                package sample;
+
+                import io.conditionals.condition.*;
+                import io.conditionals.condition.spec.*;
+                import org.springframework.boot.autoconfigure.AutoConfiguration;
+                import org.springframework.context.annotation.Bean;
+
+                @AutoConfiguration
+                @ConditionalOnStringProperty(prefix = "app", name = "mode", havingValue = " FAST ", ignoreCase = true, trim = true)
+                public class SampleAutoConfiguration {
+                    @Bean
+                    @ConditionalOnIntegerProperty(name = "app.threads", havingValue = 8, matchType = ComparableMatchType.GREATER_THAN)
+                    @ConditionalOnIntegerProperty(name = "app.queue", havingValue = 100, not = true)
+                    Integer threads() {
+                        return 1;
+                    }
+
+                    @Bean
+                    @ConditionalOnStringProperty(name = "app.host", havingValue = "demo-\\\\d+", matchType = StringMatchType.MATCHES)
+                    String host() {
+                        return "host";
+                    }
+
+                    @Bean
+                    @ConditionalOnDurationProperty(name = "app.timeout", havingValue = "10s")
+                    String timeout() {
+                        return "timeout";
+                    }
+                }
+                """, "-Aconditionals.evaluators=true");
+
+        assertThat(diagnostics).noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+        Properties registry = new Properties();
+        try (Reader reader = Files.newBufferedReader(this.output.resolve(PropertyConditionEvaluators.REGISTRY_LOCATION))) {
+            registry.load(reader);
+        }
+        assertThat(registry).containsOnly(entry("sample.SampleAutoConfiguration", "sample.SampleAutoConfiguration__PropertyConditions"));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.output.toUri().toURL() }, this.getClass().getClassLoader())) {
+            PropertyConditionEvaluator evaluator = (PropertyConditionEvaluator) classLoader
+                    .loadClass("sample.SampleAutoConfiguration__PropertyConditions").getConstructor().newInstance();
+            StandardEnvironment environment = new StandardEnvironment();
+            environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                    "app.mode", "fast",
+                    "app.threads", "4",
+                    "app.queue", "100",
+                    "app.host", "demo-42")));
+
+            assertThat(this.collect(evaluator, "", ConditionalOnStringProperty.class, environment))
+                    .containsExactly(List.of(), List.of(), List.of());
+            assertThat(this.collect(evaluator, "threads", ConditionalOnIntegerProperty.class, environment))
+                    .containsExactly(List.of(), List.of("app.threads", "app.queue"), List.of());
+            assertThat(this.collect(evaluator, "host", ConditionalOnStringProperty.class, environment))
+                    .containsExactly(List.of(), List.of(), List.of());
+            assertThat(evaluator.getCollectors("timeout", ConditionalOnDurationProperty.class.getName())).isNull();
+            assertThat(evaluator.getCollectors("threads", ConditionalOnStringProperty.class.getName())).isNull();
+        }
+    }
+
+    private List<List<String>> collect(PropertyConditionEvaluator evaluator,
+                                       String element,
+                                       Class<? extends Annotation> annotationType,
+                                       StandardEnvironment environment) {
+        List<PropertyCollector> collectors = evaluator.getCollectors(element, annotationType.getName());
+        assertThat(collectors).isNotNull();
+        List<String> missing = new ArrayList<>();
+        List<String> nonMatching = new ArrayList<>();
+        List<String> malformed = new ArrayList<>();
+        PropertyLookup lookup = PropertyLookup.of(environment);
+        collectors.forEach(collector -> collector.collectProperties(lookup, missing, nonMatching, malformed));
+        return List.of(missing, nonMatching, malformed);
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(String source, String... options) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///sample/SampleAutoConfiguration.java"), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    this.options(options), null, List.of(file));
+            task.setProcessors(List.of(new ConditionMetadataProcessor()));
+            task.call();
+        }
+
+        return diagnostics.getDiagnostics();
+    }
+
+    private List<String> options(String... options) {
+        List<String> arguments = new ArrayList<>(List.of("-classpath", System.getProperty("java.class.path"), "-d", this.output.toString()));
+        if (options.length == 0) {
+            arguments.add("-proc:only");
+        }
+        arguments.addAll(List.of(options));
+        return arguments;
+    }
+}
@@ -16,8 +16,8 @@ import java.lang.annotation.*;
  *
  * <p><b>Duration parsing</b></p>
  * <p>The candidate {@link #havingValue()} and resolved property values are parsed using Spring Boot's
- * {@link org.springframework.boot.convert.DurationStyle#detectAndParse(String)}. Any parsing/conversion failures
- * are treated as non-matching values.</p>
+ * {@link org.springframework.boot.convert.DurationStyle#detectAndParse(String)}. Property values that cannot
+ * be parsed do not match and are reported as malformed.</p>
  *
  * <p><b>Property resolution</b></p>
  * <ul>
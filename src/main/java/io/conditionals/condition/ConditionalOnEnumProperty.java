@@ -24,10 +24,10 @@ import java.lang.annotation.*;
  *     (trim; append {@code '.'} when non-empty).</li>
  *     <li><b>Property name selection</b>: {@link #value()} and {@link #name()} are mutually exclusive; exactly one must
  *     be non-empty.</li>
- *     <li><b>Normalization</b>: both the resolved property value and {@link #havingValue()} are upper-cased using
- *     {@link java.util.Locale#ROOT} before enum conversion.</li>
- *     <li><b>Enum conversion</b>: conversion uses {@link Enum#valueOf(Class, String)}. If either side cannot be
- *     converted, the comparison is treated as non-matching.</li>
+ *     <li><b>Normalization</b>: both the resolved property value and {@link #havingValue()} are matched against
+ *     constant names ignoring case.</li>
+ *     <li><b>Enum conversion</b>: conversion uses a case-insensitive lookup of the constants of {@link #enumType()}.
+ *     If either side does not name a constant, the comparison is treated as non-matching.</li>
  *     <li><b>Missing behavior</b>: missing properties produce a no-match outcome unless {@link #matchIfMissing()} is {@code true}.</li>
  * </ul>
  *
@@ -99,8 +99,7 @@ public @interface ConditionalOnEnumProperty {
      * Candidate enum constant name to compare against the resolved property value.
      *
      * <p>The property value is resolved as a {@link String}. Both the resolved value and this candidate value
-     * are normalized by upper-casing using {@link java.util.Locale#ROOT} before conversion via
-     * {@link Enum#valueOf(Class, String)}.</p>
+     * are resolved to a constant of {@link #enumType()} ignoring case.</p>
      *
      * @return candidate enum constant name
      */
@@ -109,8 +108,8 @@ public @interface ConditionalOnEnumProperty {
     /**
      * Enum type used to convert and compare values.
      *
-     * <p>The backing condition uses {@link Enum#valueOf(Class, String)} for conversion. If conversion fails,
-     * the value is treated as non-matching.</p>
+     * <p>The backing condition resolves constant names case-insensitively. If a value does not name a constant,
+     * it is treated as non-matching.</p>
      *
      * @return enum type used for conversion
      */
@@ -19,15 +19,17 @@ import java.lang.annotation.*;
  *     <li>Property keys are built as {@code prefix + name} where {@link #prefix()} is normalized (trimmed;
  *     a trailing {@code '.'} is appended when the prefix is non-empty).</li>
  *     <li>{@link #value()} and {@link #name()} are mutually exclusive; exactly one must be specified.</li>
- *     <li>Values are resolved from {@link org.springframework.core.env.Environment} and converted to
- *     {@link Integer} using Spring's conversion service.</li>
+ *     <li>Values are resolved from {@link org.springframework.core.env.Environment}. {@link String} values are
+ *     parsed directly to {@code int} by {@link io.conditionals.condition.utils.NumberParser}, which accepts the
+ *     syntax of Spring's number conversion with a few extensions; other values are converted using Spring's
+ *     conversion service.</li>
  * </ul>
  *
  * <p><b>Comparison and negation</b></p>
  * <ul>
  *     <li>The resolved property value is compared against {@link #havingValue()} using {@link #matchType()}.</li>
  *     <li>Negation is applied as {@code (comparisonResult XOR not)}.</li>
- *     <li>Conversion failures are treated as non-matching values.</li>
+ *     <li>Malformed values do not match and are named in the condition outcome message.</li>
  * </ul>
  *
  * <p><b>Missing properties</b></p>
@@ -1,6 +1,7 @@
 package io.conditionals.condition;
 
 import io.conditionals.condition.impl.OnPortAvailableCondition;
+import io.conditionals.condition.spec.PortProbeStrategy;
 import org.springframework.context.annotation.Conditional;
 
 import java.lang.annotation.*;
@@ -10,8 +11,15 @@ import java.lang.annotation.*;
  * specified TCP ports are available for binding on the current machine.
  *
  * <p>This annotation is backed by {@link io.conditionals.condition.impl.OnPortAvailableCondition}.
- * The condition attempts to open a {@link java.net.ServerSocket} for each port in {@link #value()}.
- * If any port cannot be bound, the condition does not match.</p>
+ * The condition attempts to open a {@link java.net.ServerSocket} for each port in {@link #value()}, concurrently
+ * and at most once per port and refresh. If any port cannot be bound within {@link #timeout()}, the condition does
+ * not match and the outcome lists every unavailable port.</p>
+ *
+ * <p>With {@link #range()}, the condition also requires {@link #minFree()} available ports in the range, and can
+ * expose the ports it chose under {@link #property()}:</p>
+ * <pre>{@code
+ * @ConditionalOnPortAvailable(range = "20000-20999", minFree = 4, property = "sidecar.ports")
+ * }</pre>
  *
  * <p><b>Notes</b></p>
  * <ul>
@@ -29,9 +37,63 @@ import java.lang.annotation.*;
 @Conditional(OnPortAvailableCondition.class)
 public @interface ConditionalOnPortAvailable {
     /**
-     * Ports that must be available for the condition to match.
+     * Ports that must be available for the condition to match. At least one port or a {@link #range()} must be
+     * specified.
      *
      * @return ports to check
      */
-    int[] value();
+    int[] value() default {};
+
+    /**
+     * Inclusive range of ports, such as {@code 20000-20999}, of which at least {@link #minFree()} must be available
+     * for the condition to match. The range is scanned in ascending order and the scan stops once enough ports are
+     * found.
+     *
+     * @return port range, or an empty string for none
+     */
+    String range() default "";
+
+    /**
+     * Minimum number of available ports required in {@link #range()}.
+     *
+     * @return minimum number of free ports
+     */
+    int minFree() default 1;
+
+    /**
+     * Name of a property under which the ports chosen from {@link #range()} are exposed as a comma-separated list,
+     * such as {@code sidecar.ports}, so that beans can bind them without scanning again. A value configured
+     * explicitly takes precedence.
+     *
+     * @return property name, or an empty string to not expose the ports
+     */
+    String property() default "";
+
+    /**
+     * Maximum time to wait for each port probe, in a format accepted by
+     * {@link org.springframework.boot.convert.DurationStyle#detectAndParse(String)} (for example {@code 500ms}).
+     * Probes that take longer count as unavailable. A {@link #range()} scan stops after this time.
+     *
+     * @return probe timeout
+     */
+    String timeout() default "1s";
+
+    /**
+     * Strategy deciding whether a port is available. {@link PortProbeStrategy#LISTENING_SOCKETS} answers from a
+     * snapshot of the Linux socket tables without binding any socket, and falls back to
+     * {@link PortProbeStrategy#BIND} elsewhere.
+     *
+     * @return probe strategy
+     */
+    PortProbeStrategy strategy() default PortProbeStrategy.BIND;
+
+    /**
+     * Whether to keep the ports, including the ports chosen from {@link #range()}, bound after a successful check,
+     * for the application to take over from {@link io.conditionals.condition.impl.PortReservations}. Ports that are
+     * not taken while beans are created are released before lifecycle beans, such as an embedded web server, are
+     * started.
+     *
+     * @return {@code true} to reserve the ports
+     */
+    boolean reserve() default false;
 }
\ No newline at end of file
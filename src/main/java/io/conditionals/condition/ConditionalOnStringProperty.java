@@ -101,7 +101,9 @@ public @interface ConditionalOnStringProperty {
      * Whether to ignore case when performing the comparison.
      *
      * <p>Case-insensitivity applies to match types where it is meaningful (for example {@link StringMatchType#EQUALS},
-     * {@link StringMatchType#CONTAINS}, {@link StringMatchType#STARTS_WITH}, {@link StringMatchType#ENDS_WITH}).</p>
+     * {@link StringMatchType#CONTAINS}, {@link StringMatchType#STARTS_WITH}, {@link StringMatchType#ENDS_WITH}).
+     * For {@link StringMatchType#MATCHES} the regular expression is compiled with
+     * {@link java.util.regex.Pattern#CASE_INSENSITIVE} rather than lower-casing its source.</p>
      *
      * @return {@code true} to compare case-insensitively
      */
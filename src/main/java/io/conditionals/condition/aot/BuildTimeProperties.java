@@ -0,0 +1,66 @@
+package io.conditionals.condition.aot;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Properties declared as fixed at build time for an AOT-processed application.
+ *
+ * <p>Spring AOT evaluates conditions once, against the environment of the build, and a native image registers
+ * only the beans that matched then. A property read by a condition and changed at runtime is therefore silently
+ * ignored. Listing such properties in {@value #PROPERTY} (comma-separated, in the environment of the AOT build)
+ * makes the freeze explicit: {@link ConditionBeanFactoryInitializationAotProcessor} records their build-time
+ * values in the generated initialization code, and {@link #verify} fails the startup of the application when the
+ * runtime environment resolves any of them differently.</p>
+ *
+ * <p>Without {@value #PROPERTY} nothing is recorded or verified.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+public final class BuildTimeProperties {
+    /**
+     * Property listing the keys whose values are fixed at build time.
+     */
+    public static final String PROPERTY = "conditionals.aot.build-time-properties";
+
+    private BuildTimeProperties() {
+    }
+
+    /**
+     * Verify that the given properties resolve to their build-time values.
+     *
+     * <p>Invoked by generated AOT initialization code.</p>
+     *
+     * @param environment runtime environment
+     * @param keysAndValues alternating property keys and build-time values; a {@code null} value denotes a
+     *                      property that was not set at build time
+     * @throws IllegalStateException if any property resolves to a different value
+     */
+    public static void verify(Environment environment, @Nullable String... keysAndValues) {
+        Assert.isTrue(keysAndValues.length % 2 == 0, "Keys and values must be specified as pairs");
+        List<String> changed = new ArrayList<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            String key = keysAndValues[i];
+            Assert.notNull(key, "Property key must not be null");
+            String expected = keysAndValues[i + 1];
+            String actual = environment.getProperty(key);
+            if (!ObjectUtils.nullSafeEquals(expected, actual)) {
+                changed.add("'%s' was %s at build time but is %s".formatted(key, describe(expected), describe(actual)));
+            }
+        }
+        if (!changed.isEmpty()) {
+            throw new IllegalStateException("Conditions were evaluated at build time with different values of properties declared in "
+                    + PROPERTY + ": " + String.join(", ", changed));
+        }
+    }
+
+    private static String describe(@Nullable String value) {
+        return value != null ? "'" + value + "'" : "not set";
+    }
+}
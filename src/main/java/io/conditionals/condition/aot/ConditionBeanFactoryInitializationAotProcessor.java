@@ -0,0 +1,107 @@
+package io.conditionals.condition.aot;
+
+import io.conditionals.condition.ConditionalOnEnumProperty;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.RepeatableContainers;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.javapoet.CodeBlock;
+
+import javax.lang.model.element.Modifier;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link BeanFactoryInitializationAotProcessor} for the application-specific parts of this library.
+ *
+ * <p><b>Enum types</b></p>
+ * <p>The enum types referenced by {@code @ConditionalOnEnumProperty} on the classes and factory methods of the
+ * registered bean definitions, directly or through composed annotations, are registered for invocation of their
+ * public methods, which {@link Class#getEnumConstants()} requires.</p>
+ *
+ * <p><b>Build-time properties</b></p>
+ * <p>When the build environment lists keys in {@value BuildTimeProperties#PROPERTY}, their build-time values are
+ * recorded in the generated initialization code, which calls {@link BuildTimeProperties#verify} before the
+ * application context is refreshed. The frozen condition outcomes then cannot silently disagree with the runtime
+ * configuration.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see BuildTimeProperties
+ */
+public class ConditionBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+    @Override
+    public @Nullable BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> enumTypes = new LinkedHashSet<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            RegisteredBean bean = RegisteredBean.of(beanFactory, beanName);
+            collectEnumTypes(bean.getBeanClass(), enumTypes);
+            Method factoryMethod = bean.getMergedBeanDefinition().getResolvedFactoryMethod();
+            if (factoryMethod != null) {
+                collectEnumTypes(factoryMethod, enumTypes);
+            }
+        }
+        Map<String, @Nullable String> buildTimeProperties = buildTimeProperties(beanFactory);
+        if (enumTypes.isEmpty() && buildTimeProperties.isEmpty()) return null;
+
+        return new Contribution(enumTypes, buildTimeProperties);
+    }
+
+    private static void collectEnumTypes(AnnotatedElement element, Set<Class<?>> enumTypes) {
+        MergedAnnotations.from(element, MergedAnnotations.SearchStrategy.DIRECT, RepeatableContainers.standardRepeatables())
+                .stream(ConditionalOnEnumProperty.class)
+                .forEach(annotation -> enumTypes.add(annotation.getClass("enumType")));
+    }
+
+    private static Map<String, @Nullable String> buildTimeProperties(ConfigurableListableBeanFactory beanFactory) {
+        Map<String, @Nullable String> properties = new LinkedHashMap<>();
+        if (!beanFactory.containsBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME)) return properties;
+        Environment environment = beanFactory.getBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, Environment.class);
+        String[] keys = environment.getProperty(BuildTimeProperties.PROPERTY, String[].class, new String[0]);
+        for (String key : keys) {
+            String trimmed = key.trim();
+            if (!trimmed.isEmpty()) {
+                properties.put(trimmed, environment.getProperty(trimmed));
+            }
+        }
+
+        return properties;
+    }
+
+    /**
+     * Contribution registering enum hints and the verification of build-time properties.
+     */
+    private record Contribution(Set<Class<?>> enumTypes,
+                                Map<String, @Nullable String> buildTimeProperties) implements BeanFactoryInitializationAotContribution {
+        @Override
+        public void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+            for (Class<?> enumType : this.enumTypes) {
+                generationContext.getRuntimeHints().reflection().registerType(enumType, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            if (this.buildTimeProperties.isEmpty()) return;
+
+            CodeBlock.Builder arguments = CodeBlock.builder();
+            this.buildTimeProperties.forEach((key, value) -> arguments.add(", $S, $S", key, value));
+            GeneratedMethod method = beanFactoryInitializationCode.getMethods().add("verifyBuildTimeProperties", builder -> builder
+                    .addJavadoc("Verify the properties declared in {@code $L}.", BuildTimeProperties.PROPERTY)
+                    .addModifiers(Modifier.PRIVATE)
+                    .addParameter(ConfigurableEnvironment.class, "environment")
+                    .addStatement("$T.verify(environment$L)", BuildTimeProperties.class, arguments.build()));
+            beanFactoryInitializationCode.addInitializer(method.toMethodReference());
+        }
+    }
+}
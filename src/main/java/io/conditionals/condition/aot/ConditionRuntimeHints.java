@@ -0,0 +1,89 @@
+package io.conditionals.condition.aot;
+
+import io.conditionals.condition.impl.OnCharacterPropertyCondition;
+import io.conditionals.condition.impl.OnCollectionPropertyCondition;
+import io.conditionals.condition.impl.OnDoublePropertyCondition;
+import io.conditionals.condition.impl.OnDurationPropertyCondition;
+import io.conditionals.condition.impl.OnEnumPropertyCondition;
+import io.conditionals.condition.impl.OnFloatPropertyCondition;
+import io.conditionals.condition.impl.OnIntegerPropertyCondition;
+import io.conditionals.condition.impl.OnLongPropertyCondition;
+import io.conditionals.condition.impl.OnMapPropertyCondition;
+import io.conditionals.condition.impl.OnOsCondition;
+import io.conditionals.condition.impl.OnPortAvailableCondition;
+import io.conditionals.condition.impl.OnStringPropertyCondition;
+import io.conditionals.condition.impl.PropertyConditionImportFilter;
+import io.conditionals.condition.spec.PropertyConditionEvaluators;
+import io.conditionals.condition.utils.ConditionMetadataCodec;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the conditions and resources of this library.
+ *
+ * <p><b>Hints</b></p>
+ * <ul>
+ *     <li>Every condition in {@code io.conditionals.condition.impl} and the
+ *     {@link PropertyConditionImportFilter} are registered for constructor invocation, as Spring instantiates
+ *     them reflectively.</li>
+ *     <li>{@value ConditionMetadataCodec#METADATA_LOCATION} and
+ *     {@value PropertyConditionEvaluators#REGISTRY_LOCATION} are registered as resources.</li>
+ *     <li>Generated evaluators listed in the registry of the class loader are registered for constructor
+ *     invocation.</li>
+ * </ul>
+ *
+ * <p>Enum types referenced by {@code @ConditionalOnEnumProperty} depend on the application and are registered by
+ * {@link ConditionBeanFactoryInitializationAotProcessor}. The regular expressions of
+ * {@code @ConditionalOnStringProperty(matchType = MATCHES)} use {@link java.util.regex.Pattern} only and need no
+ * hints.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+public class ConditionRuntimeHints implements RuntimeHintsRegistrar {
+    private static final Log logger = LogFactory.getLog(ConditionRuntimeHints.class);
+    private static final List<Class<?>> CONDITIONS = List.of(
+            OnStringPropertyCondition.class,
+            OnCharacterPropertyCondition.class,
+            OnIntegerPropertyCondition.class,
+            OnLongPropertyCondition.class,
+            OnFloatPropertyCondition.class,
+            OnDoublePropertyCondition.class,
+            OnDurationPropertyCondition.class,
+            OnCollectionPropertyCondition.class,
+            OnMapPropertyCondition.class,
+            OnEnumPropertyCondition.class,
+            OnOsCondition.class,
+            OnPortAvailableCondition.class,
+            PropertyConditionImportFilter.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        for (Class<?> condition : CONDITIONS) {
+            hints.reflection().registerType(condition, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+        hints.resources()
+                .registerPattern(ConditionMetadataCodec.METADATA_LOCATION)
+                .registerPattern(PropertyConditionEvaluators.REGISTRY_LOCATION);
+
+        try {
+            Properties registry = PropertiesLoaderUtils.loadAllProperties(PropertyConditionEvaluators.REGISTRY_LOCATION, classLoader);
+            for (Object evaluator : registry.values()) {
+                hints.reflection().registerType(TypeReference.of((String) evaluator), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to load %s: %s".formatted(PropertyConditionEvaluators.REGISTRY_LOCATION, e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/**
+ * Spring AOT and GraalVM native-image support for the {@code conditionals-spring-boot} library.
+ *
+ * <p>Spring AOT evaluates the conditions of configuration classes and bean methods while processing the
+ * application at build time; the generated bean factory registers only the beans that matched, so a native image
+ * performs no condition evaluation at startup. Types in this package contribute the runtime hints needed by the
+ * library on the remaining runtime paths and an opt-in guard for properties whose values were fixed at build
+ * time.</p>
+ *
+ * <p><b>Registration</b></p>
+ * <p>{@link io.conditionals.condition.aot.ConditionRuntimeHints} and
+ * {@link io.conditionals.condition.aot.ConditionBeanFactoryInitializationAotProcessor} are registered in
+ * {@code META-INF/spring/aot.factories}.</p>
+ *
+ * <p><b>Nullability</b></p>
+ * <p>This package is {@link org.jspecify.annotations.NullMarked @NullMarked}. Unless otherwise specified,
+ * parameters and return values are non-null by default.</p>
+ */
+@NullMarked
+package io.conditionals.condition.aot;
+
+import org.jspecify.annotations.NullMarked;
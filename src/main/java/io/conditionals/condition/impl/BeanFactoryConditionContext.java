@@ -0,0 +1,50 @@
+package io.conditionals.condition.impl;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.Assert;
+
+/**
+ * Condition context exposing the bean factory and environment of the application being refreshed, for conditions
+ * evaluated outside of Spring's configuration class processing.
+ *
+ * @param beanFactory bean factory of the refresh
+ * @param environment environment of the refresh
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see PropertyConditionImportFilter
+ * @see PropertyConditionPreEvaluator
+ */
+record BeanFactoryConditionContext(ConfigurableListableBeanFactory beanFactory,
+                                   Environment environment) implements ConditionContext {
+    @Override
+    public BeanDefinitionRegistry getRegistry() {
+        Assert.state(this.beanFactory instanceof BeanDefinitionRegistry, "Bean factory is not a bean definition registry");
+        return (BeanDefinitionRegistry) this.beanFactory;
+    }
+
+    @Override
+    public ConfigurableListableBeanFactory getBeanFactory() {
+        return this.beanFactory;
+    }
+
+    @Override
+    public Environment getEnvironment() {
+        return this.environment;
+    }
+
+    @Override
+    public ResourceLoader getResourceLoader() {
+        return new DefaultResourceLoader(this.beanFactory.getBeanClassLoader());
+    }
+
+    @Override
+    public @Nullable ClassLoader getClassLoader() {
+        return this.beanFactory.getBeanClassLoader();
+    }
+}
@@ -0,0 +1,73 @@
+package io.conditionals.condition.impl;
+
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Property source exposing the ports chosen by {@code @ConditionalOnPortAvailable(range = ...)} under the name
+ * given by {@link io.conditionals.condition.ConditionalOnPortAvailable#property()}.
+ *
+ * <p>The source is added once per environment, with the lowest precedence, so that a value configured explicitly
+ * wins. Values are comma-separated port lists, which bind to {@code int[]} and {@code List<Integer>}.</p>
+ *
+ * <p><b>Memoization</b></p>
+ * <p>Publishing ports does not start a new environment generation of {@link ConditionOutcomeMemo}: conditions
+ * that scanned a range must not scan it again because they published the result. A property condition on a
+ * published name that was evaluated before the ports were published is therefore not evaluated again. Conditions
+ * evaluated afterwards see the ports: publishing a new value discards the lookup shared by the property conditions
+ * of the refresh, and the entry count of this source tells the
+ * {@link io.conditionals.condition.spec.PropertyIndex property index} to rebuild its snapshot.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is thread-safe.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+final class ChosenPortsPropertySource extends MapPropertySource {
+    /**
+     * Name of the property source.
+     */
+    static final String NAME = "conditionalsChosenPorts";
+
+    private ChosenPortsPropertySource() {
+        super(NAME, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Publish the given ports under the given property name, adding the property source to the environment on
+     * first use. Environments that are not configurable are left unchanged.
+     *
+     * @param context condition context of the refresh
+     * @param property property name
+     * @param ports chosen ports
+     */
+    static void publish(ConditionContext context, String property, int[] ports) {
+        if (!(context.getEnvironment() instanceof ConfigurableEnvironment configurableEnvironment)) return;
+
+        MutablePropertySources propertySources = configurableEnvironment.getPropertySources();
+        ChosenPortsPropertySource source;
+        synchronized (propertySources) {
+            PropertySource<?> existing = propertySources.get(NAME);
+            if (existing instanceof ChosenPortsPropertySource chosenPorts) {
+                source = chosenPorts;
+            } else {
+                source = new ChosenPortsPropertySource();
+                propertySources.addLast(source);
+            }
+        }
+
+        String value = IntStream.of(ports).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        if (!Objects.equals(source.getSource().put(property, value), value)) {
+            ConditionOutcomeMemo.discardLookup(context);
+        }
+    }
+}
@@ -5,8 +5,10 @@ import io.conditionals.condition.spec.PropertySpecMatcher;
 import io.conditionals.condition.utils.ConditionUtils;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 
 /**
  * {@link PropertySpringBootCondition} specialization for properties whose values are {@link Comparable}.
@@ -20,9 +22,15 @@ import java.lang.annotation.Annotation;
  * according to the configured match type. Negation is applied using
  * {@link ConditionUtils#revert(boolean, boolean)} with the spec's {@code not} attribute.</p>
  *
+ * <p><b>Natural order</b></p>
+ * <p>The matcher reports itself as a {@link ComparablePropertySpec.NaturalOrderMatcher natural-order matcher}
+ * unless a subclass overrides one of the {@code check*} methods, so that primitive specs such as
+ * {@link io.conditionals.condition.spec.NumberPropertySpec} bypass it only when doing so cannot change the
+ * outcome. Overrides are detected once per condition class.</p>
+ *
  * <p><b>Thread safety</b></p>
- * <p>Implementations are expected to be stateless. This base class creates a new matcher per evaluation and does
- * not store mutable state.</p>
+ * <p>Implementations are expected to be stateless. This base class creates its matcher once per condition instance
+ * and does not store mutable state.</p>
  *
  * @param <V> resolved property value type
  * @param <T> type accepted by {@link Comparable#compareTo(Object)} for {@code V}
@@ -31,6 +39,21 @@ import java.lang.annotation.Annotation;
  */
 @SuppressWarnings("unchecked")
 public abstract class ComparablePropertySpringBootCondition<V extends Comparable<T>, T> extends PropertySpringBootCondition<V, ComparablePropertySpec<V, T>> {
+    private static final String[] CHECK_METHODS = {
+            "checkEquals", "checkGreaterThan", "checkLessThan", "checkGreaterThanOrEqual", "checkLessThanOrEqual"
+    };
+    private static final ClassValue<Boolean> NATURAL_ORDER = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (String name : CHECK_METHODS) {
+                Method method = ReflectionUtils.findMethod(type, name, Comparable.class, Comparable.class);
+                if (method == null || method.getDeclaringClass() != ComparablePropertySpringBootCondition.class) return false;
+            }
+            return true;
+        }
+    };
+    private final Matcher matcher = new Matcher();
+
     /**
      * Evaluate {@code property == candidate} using {@link Comparable#compareTo(Object)}.
      *
@@ -99,20 +122,20 @@ public abstract class ComparablePropertySpringBootCondition<V extends Comparable
     }
 
     /**
-     * Create a matcher that dispatches to one of the {@code check*} methods based on the spec's match type.
+     * Return the matcher that dispatches to one of the {@code check*} methods based on the spec's match type.
      *
-     * @return matcher instance
+     * @return matcher instance bound to this condition
      */
     @Override
     protected PropertySpecMatcher<V, ComparablePropertySpec<V, T>> createPropertySpecMatcher() {
-        return new Matcher();
+        return this.matcher;
     }
 
     /**
      * Matcher implementation applying {@link io.conditionals.condition.spec.ComparableMatchType}-driven comparison
      * and {@code not}-based negation.
      */
-    public class Matcher implements PropertySpecMatcher<V, ComparablePropertySpec<V, T>> {
+    public class Matcher implements PropertySpecMatcher<V, ComparablePropertySpec<V, T>>, ComparablePropertySpec.NaturalOrderMatcher {
         @Override
         public boolean compare(ComparablePropertySpec<V, T> spec, @Nullable V property, V candidate) {
             if (property == null) return false;
@@ -126,5 +149,15 @@ public abstract class ComparablePropertySpringBootCondition<V extends Comparable
             };
             return ConditionUtils.revert(result, spec.isNot());
         }
+
+        /**
+         * Determine whether this matcher is the library's own and no {@code check*} method is overridden.
+         *
+         * @return {@code true} if comparisons follow {@link Comparable#compareTo(Object)}
+         */
+        @Override
+        public boolean isNaturalOrder() {
+            return this.getClass() == Matcher.class && NATURAL_ORDER.get(ComparablePropertySpringBootCondition.this.getClass());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,398 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.spec.PropertyLookup;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Outcomes of property conditions memoized for the duration of a context refresh.
+ *
+ * <p>Spring evaluates a condition once per {@link org.springframework.context.annotation.ConfigurationCondition.ConfigurationPhase
+ * configuration phase} that applies to it. Conditions that do not implement
+ * {@link org.springframework.context.annotation.ConfigurationCondition} are evaluated when a configuration class is
+ * parsed, again when its bean definitions are registered, and again for each import that repeats its metadata.
+ * Property conditions cannot declare a single phase: {@code PARSE_CONFIGURATION} would skip them on {@code @Bean}
+ * methods, and {@code REGISTER_BEAN} would let non-matching configuration classes contribute component scans and
+ * imports. Instead, {@link PropertySpringBootCondition} evaluates each declaration once and answers the later phases
+ * from this memo.</p>
+ *
+ * <p><b>Scope</b></p>
+ * <ul>
+ *     <li>A memo belongs to one bean factory. The bean factory is held weakly and the memo strongly, so the memo
+ *     lives exactly as long as the bean factory. A memo holds no reference to its bean factory.</li>
+ *     <li>Memoized outcomes, the shared lookup and the environment they belong to are released once the bean
+ *     factory has instantiated its singletons, which completes the refresh. Conditions evaluated later are evaluated
+ *     every time; only the counters below are kept.</li>
+ *     <li>Outcomes are keyed by condition type and metadata object. Only {@link ClassMetadata} and
+ *     {@link MethodMetadata} are memoized; other metadata, such as ad-hoc views created by callers, is evaluated
+ *     every time.</li>
+ *     <li>Outcomes belong to an environment generation: the environment instance, and for a
+ *     {@link ConfigurableEnvironment} its property sources, which must be the same instances in the same order,
+ *     with map-backed sources holding the same number of entries. Any difference discards every memoized outcome,
+ *     as {@link io.conditionals.condition.spec.PropertyIndex} discards its snapshot. Changing the value of an
+ *     existing key within a refresh is not detected. Ports published by {@link OnPortAvailableCondition} do not
+ *     start a new generation; they only discard the shared lookup described below.</li>
+ *     <li>Evaluations that throw are not memoized.</li>
+ * </ul>
+ *
+ * <p><b>Shared declarations</b></p>
+ * <p>Within an element, each declaration is evaluated through
+ * {@link #getDeclarationResult(Class, ConditionContext, Object, Supplier)}, keyed by condition type and the
+ * structurally compared {@link io.conditionals.condition.spec.PropertySpec spec}. Identical declarations on
+ * different classes and methods therefore read their properties once per environment generation.</p>
+ *
+ * <p><b>Shared keys</b></p>
+ * <p>Declarations that differ but test the same keys, such as many conditions on {@code app.mode} with different
+ * candidates, share a {@link PropertyLookup#caching(PropertyLookup) caching lookup} per environment generation
+ * ({@link #getLookup(ConditionContext, Supplier)}). Each key is read once and each value converted once per
+ * target type; only the comparison with the candidate remains per declaration.</p>
+ *
+ * <p><b>Disabling</b></p>
+ * <p>Memoization is enabled by default. Setting {@value #ENABLED_PROPERTY} to {@code false} evaluates every
+ * condition every time. The flag is read once per bean factory, when the first property condition is
+ * evaluated.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is thread-safe. Concurrent misses for the same key may evaluate the condition more than once; the
+ * outcomes are equal.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see PropertySpringBootCondition
+ */
+public final class ConditionOutcomeMemo {
+    /**
+     * Property disabling memoization when set to {@code false}.
+     */
+    public static final String ENABLED_PROPERTY = "conditionals.outcome-memo.enabled";
+    private static final String RELEASE_BEAN_NAME = "conditionalsConditionOutcomeMemoRelease";
+    private static final Map<ConfigurableListableBeanFactory, ConditionOutcomeMemo> MEMOS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder declarationHits = new LongAdder();
+    private final LongAdder declarationMisses = new LongAdder();
+    private final boolean enabled;
+    private volatile boolean released;
+    private volatile @Nullable State state;
+
+    private ConditionOutcomeMemo(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Return the memo of the given bean factory, if any condition has used it.
+     *
+     * @param beanFactory bean factory of the refresh
+     * @return memo, or {@code null} if no outcome was memoized for the bean factory
+     */
+    public static @Nullable ConditionOutcomeMemo find(ConfigurableListableBeanFactory beanFactory) {
+        return MEMOS.get(beanFactory);
+    }
+
+    /**
+     * Create the memo of the given bean factory on the calling thread, if no condition has used it yet.
+     *
+     * <p>Creating a memo registers a bean definition that releases it once the refresh completes. Callers that
+     * evaluate conditions on other threads invoke this first, on the refresh thread, because bean definitions must
+     * not be registered concurrently with configuration class processing.</p>
+     *
+     * @param beanFactory bean factory of the refresh
+     * @param environment environment of the refresh
+     */
+    static void prepare(ConfigurableListableBeanFactory beanFactory, Environment environment) {
+        get(beanFactory, environment);
+    }
+
+    /**
+     * Return the memoized outcome of a condition, evaluating it on a miss.
+     *
+     * @param condition condition type
+     * @param context condition context
+     * @param metadata metadata of the annotated element
+     * @param evaluation evaluation of the condition
+     * @return memoized or newly evaluated outcome
+     */
+    static ConditionOutcome getOutcome(Class<?> condition,
+                                       ConditionContext context,
+                                       AnnotatedTypeMetadata metadata,
+                                       Supplier<ConditionOutcome> evaluation) {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        if (beanFactory == null || !(metadata instanceof ClassMetadata || metadata instanceof MethodMetadata)) {
+            return evaluation.get();
+        }
+
+        ConditionOutcomeMemo memo = get(beanFactory, context.getEnvironment());
+        if (!memo.isActive()) return evaluation.get();
+        State state = memo.getState(context.getEnvironment());
+        return get(state.outcomes, new Key(condition, metadata), memo.hits, memo.misses, evaluation);
+    }
+
+    /**
+     * Return the memoized result of evaluating a single declaration, evaluating it on a miss.
+     *
+     * @param condition condition type
+     * @param context condition context
+     * @param declaration structurally comparable, immutable description of the declaration
+     * @param evaluation evaluation of the declaration; its result must be immutable or otherwise safe to share
+     * @param <T> result type
+     * @return memoized or newly evaluated result
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getDeclarationResult(Class<?> condition,
+                                      ConditionContext context,
+                                      Object declaration,
+                                      Supplier<T> evaluation) {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        if (beanFactory == null) return evaluation.get();
+
+        ConditionOutcomeMemo memo = get(beanFactory, context.getEnvironment());
+        if (!memo.isActive()) return evaluation.get();
+        State state = memo.getState(context.getEnvironment());
+        return (T) get(state.declarations, new Key(condition, declaration), memo.declarationHits, memo.declarationMisses, evaluation);
+    }
+
+    /**
+     * Return the lookup shared by the declarations of the current environment generation, creating it on first use.
+     *
+     * @param context condition context
+     * @param lookup lookup to share, invoked once per environment generation
+     * @return shared caching lookup, or the given lookup if memoization is not available
+     */
+    static PropertyLookup getLookup(ConditionContext context, Supplier<PropertyLookup> lookup) {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        if (beanFactory == null) return lookup.get();
+
+        ConditionOutcomeMemo memo = get(beanFactory, context.getEnvironment());
+        if (!memo.isActive()) return lookup.get();
+        State state = memo.getState(context.getEnvironment());
+        PropertyLookup shared = state.lookup;
+        if (shared == null) {
+            synchronized (state) {
+                shared = state.lookup;
+                if (shared == null) {
+                    shared = PropertyLookup.caching(lookup.get());
+                    state.lookup = shared;
+                }
+            }
+        }
+
+        return shared;
+    }
+
+    /**
+     * Discard the lookup shared by the declarations of the current environment generation, keeping memoized
+     * outcomes. Used when properties are added without starting a new generation.
+     *
+     * @param context condition context
+     */
+    static void discardLookup(ConditionContext context) {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        if (beanFactory == null) return;
+
+        ConditionOutcomeMemo memo = MEMOS.get(beanFactory);
+        State state = memo != null ? memo.state : null;
+        if (state == null) return;
+        synchronized (state) {
+            state.lookup = null;
+        }
+    }
+
+    private static ConditionOutcomeMemo get(ConfigurableListableBeanFactory beanFactory, Environment environment) {
+        return MEMOS.computeIfAbsent(beanFactory, key -> {
+            ConditionOutcomeMemo memo = new ConditionOutcomeMemo(environment.getProperty(ENABLED_PROPERTY, Boolean.class, true));
+            if (beanFactory.isConfigurationFrozen()) {
+                memo.released = true;
+            } else if (memo.enabled && beanFactory instanceof BeanDefinitionRegistry registry
+                    && !registry.containsBeanDefinition(RELEASE_BEAN_NAME)) {
+                RootBeanDefinition beanDefinition = new RootBeanDefinition(Release.class);
+                beanDefinition.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+                registry.registerBeanDefinition(RELEASE_BEAN_NAME, beanDefinition);
+            }
+
+            return memo;
+        });
+    }
+
+    private boolean isActive() {
+        return this.enabled && !this.released;
+    }
+
+    private void release() {
+        synchronized (this) {
+            this.released = true;
+            this.state = null;
+        }
+    }
+
+    private State getState(Environment environment) {
+        State current = this.state;
+        if (current != null && current.generation.isCurrent(environment)) return current;
+
+        synchronized (this) {
+            current = this.state;
+            if (current == null || !current.generation.isCurrent(environment)) {
+                current = new State(new Generation(environment));
+                if (!this.released) this.state = current;
+            }
+
+            return current;
+        }
+    }
+
+    private static <T> T get(Map<Key, T> results, Key key, LongAdder hits, LongAdder misses, Supplier<? extends T> evaluation) {
+        T result = results.get(key);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+
+        misses.increment();
+        result = evaluation.get();
+        results.put(key, result);
+        return result;
+    }
+
+    /**
+     * Return the number of evaluations answered from the memo.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of evaluations performed, which is the number of distinct condition and metadata pairs
+     * evaluated per environment generation.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of declaration evaluations answered from the memo.
+     *
+     * @return declaration hit count
+     */
+    public long getDeclarationHitCount() {
+        return this.declarationHits.sum();
+    }
+
+    /**
+     * Return the number of declarations evaluated, which is the number of distinct condition and spec pairs
+     * evaluated per environment generation.
+     *
+     * @return declaration miss count
+     */
+    public long getDeclarationMissCount() {
+        return this.declarationMisses.sum();
+    }
+
+    private record Key(Class<?> condition, Object element) {
+    }
+
+    /**
+     * Infrastructure bean releasing the memo of its bean factory once the singletons have been instantiated.
+     */
+    static final class Release implements SmartInitializingSingleton, BeanFactoryAware {
+        private @Nullable BeanFactory beanFactory;
+
+        @Override
+        public void setBeanFactory(BeanFactory beanFactory) {
+            this.beanFactory = beanFactory;
+        }
+
+        @Override
+        public void afterSingletonsInstantiated() {
+            ConditionOutcomeMemo memo = this.beanFactory != null ? MEMOS.get(this.beanFactory) : null;
+            if (memo != null) memo.release();
+        }
+    }
+
+    /**
+     * Results of one environment generation. A new generation starts with a new state, so evaluations that were
+     * started against an earlier generation cannot publish their results into it.
+     */
+    private static final class State {
+        private final Generation generation;
+        private final Map<Key, ConditionOutcome> outcomes = new ConcurrentHashMap<>();
+        private final Map<Key, Object> declarations = new ConcurrentHashMap<>();
+        private volatile @Nullable PropertyLookup lookup;
+
+        private State(Generation generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Identity of the environment and its property sources at the time outcomes were memoized.
+     */
+    private static final class Generation {
+        private final Environment environment;
+        private final PropertySource<?>[] sources;
+        private final int[] sizes;
+
+        private Generation(Environment environment) {
+            this.environment = environment;
+            this.sources = environment instanceof ConfigurableEnvironment configurableEnvironment
+                    ? configurableEnvironment.getPropertySources().stream()
+                            .filter(Generation::isTracked)
+                            .toArray(PropertySource[]::new)
+                    : new PropertySource<?>[0];
+            this.sizes = new int[this.sources.length];
+            for (int i = 0; i < this.sources.length; i++) {
+                this.sizes[i] = sizeOf(this.sources[i]);
+            }
+        }
+
+        private boolean isCurrent(Environment environment) {
+            if (environment != this.environment) return false;
+            if (!(environment instanceof ConfigurableEnvironment configurableEnvironment)) return true;
+            MutablePropertySources propertySources = configurableEnvironment.getPropertySources();
+            int i = 0;
+            for (PropertySource<?> source : propertySources) {
+                if (!isTracked(source)) continue;
+                if (i == this.sources.length || source != this.sources[i] || sizeOf(source) != this.sizes[i]) return false;
+                i++;
+            }
+
+            return i == this.sources.length;
+        }
+
+        private static boolean isTracked(PropertySource<?> propertySource) {
+            return !(propertySource instanceof ChosenPortsPropertySource);
+        }
+
+        private static int sizeOf(PropertySource<?> propertySource) {
+            return propertySource instanceof MapPropertySource mapPropertySource
+                    ? mapPropertySource.getSource().size()
+                    : -1;
+        }
+    }
+}
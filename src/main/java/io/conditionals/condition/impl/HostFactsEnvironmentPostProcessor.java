@@ -0,0 +1,214 @@
+package io.conditionals.condition.impl;
+
+import com.sun.management.UnixOperatingSystemMXBean;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * {@link EnvironmentPostProcessor} exposing facts about the host and the JVM as a read-only property source, so that
+ * the existing property conditions can select on them.
+ *
+ * <p>When {@value #ENABLED_PROPERTY} is {@code true}, facts are collected once at startup, in parallel on the {@link ForkJoinPool#commonPool() common pool}, and
+ * added as property source {@value #PROPERTY_SOURCE_NAME} with the lowest precedence, so that configured values
+ * override them. Conditions then read them like any other property, without touching {@code /proc} or MXBeans:</p>
+ * <pre>{@code
+ * @ConditionalOnIntegerProperty(name = "host.cpu.count", havingValue = 8, matchType = ComparableMatchType.GREATER_THAN_OR_EQUAL)
+ * @ConditionalOnLongProperty(name = "host.memory.max-heap-mb", havingValue = 4096, matchType = ComparableMatchType.LESS_THAN)
+ * @ConditionalOnStringProperty(name = "host.os.family", havingValue = "linux")
+ * }</pre>
+ *
+ * <p><b>Facts</b></p>
+ * <ul>
+ *     <li>{@code host.cpu.count}: processors available to the JVM, which honors container CPU limits.</li>
+ *     <li>{@code host.memory.max-heap-mb}: maximum heap size, in MiB.</li>
+ *     <li>{@code host.memory.container-limit-mb}: memory limit of the cgroup (v2 or v1), in MiB.</li>
+ *     <li>{@code host.memory.page-size}: kernel page size, in bytes, as passed to the process in
+ *     {@code /proc/self/auxv}.</li>
+ *     <li>{@code host.open-files.limit}: maximum number of open file descriptors of the process.</li>
+ *     <li>{@code host.java.version}: feature version of the running JDK, such as {@code 17}.</li>
+ *     <li>{@code host.os.family}: {@code linux}, {@code windows}, {@code mac} or {@code other}.</li>
+ *     <li>{@code host.os.arch}: value of the {@code os.arch} system property.</li>
+ * </ul>
+ * <p>Facts that cannot be determined, such as the container limit outside a memory-limited cgroup or the page size
+ * and open-file limit on other operating systems, are absent. Conditions on them can use {@code matchIfMissing}.
+ * Facts whose source fails, including with a {@link LinkageError} on JVMs without {@code com.sun.management}, are
+ * absent as well and never fail startup.</p>
+ *
+ * <p><b>Registration</b></p>
+ * <p>The post-processor is registered in {@code META-INF/spring.factories} and runs after configuration data has
+ * been loaded. It does nothing unless {@value #ENABLED_PROPERTY} is set to {@code true}, because collecting the facts
+ * costs startup time that applications which do not select on them should not pay.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is stateless and thread-safe.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+public class HostFactsEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+    /**
+     * Property enabling host facts.
+     */
+    public static final String ENABLED_PROPERTY = "conditionals.host-facts.enabled";
+
+    /**
+     * Name of the property source holding host facts.
+     */
+    public static final String PROPERTY_SOURCE_NAME = "conditionalsHostFacts";
+    private static final Log logger = LogFactory.getLog(HostFactsEnvironmentPostProcessor.class);
+    private static final long MIB = 1024 * 1024;
+    private static final long UNLIMITED = 1L << 60;
+    private static final List<Path> MEMORY_LIMITS = List.of(
+            Path.of("/sys/fs/cgroup/memory.max"),
+            Path.of("/sys/fs/cgroup/memory/memory.limit_in_bytes")
+    );
+    private static final Path AUXV = Path.of("/proc/self/auxv");
+    private static final long AT_NULL = 0;
+    private static final long AT_PAGESZ = 6;
+    private static final boolean UNIX_OPERATING_SYSTEM_PRESENT = ClassUtils.isPresent(
+            "com.sun.management.UnixOperatingSystemMXBean", HostFactsEnvironmentPostProcessor.class.getClassLoader());
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty(ENABLED_PROPERTY, Boolean.class, false)) return;
+        if (environment.getPropertySources().contains(PROPERTY_SOURCE_NAME)) return;
+
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, collect()));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Collect the host facts in parallel.
+     *
+     * @return unmodifiable map of the facts that could be determined
+     */
+    static Map<String, Object> collect() {
+        Map<String, Supplier<@Nullable Object>> facts = new LinkedHashMap<>();
+        facts.put("host.cpu.count", () -> Runtime.getRuntime().availableProcessors());
+        facts.put("host.memory.max-heap-mb", () -> Runtime.getRuntime().maxMemory() / MIB);
+        facts.put("host.memory.container-limit-mb", HostFactsEnvironmentPostProcessor::readContainerMemoryLimit);
+        facts.put("host.memory.page-size", HostFactsEnvironmentPostProcessor::readPageSize);
+        facts.put("host.open-files.limit", HostFactsEnvironmentPostProcessor::readOpenFilesLimit);
+        facts.put("host.java.version", () -> Runtime.version().feature());
+        facts.put("host.os.family", HostFactsEnvironmentPostProcessor::getOsFamily);
+        facts.put("host.os.arch", () -> System.getProperty("os.arch"));
+
+        Map<String, CompletableFuture<@Nullable Object>> futures = new LinkedHashMap<>();
+        facts.forEach((name, fact) -> futures.put(name, CompletableFuture.supplyAsync(() -> evaluate(name, fact), ForkJoinPool.commonPool())));
+        Map<String, Object> values = new LinkedHashMap<>();
+        futures.forEach((name, future) -> {
+            Object value = future.join();
+            if (value != null) {
+                values.put(name, value);
+            }
+        });
+        return Map.copyOf(values);
+    }
+
+    private static @Nullable Object evaluate(String name, Supplier<@Nullable Object> fact) {
+        try {
+            return fact.get();
+        } catch (RuntimeException | LinkageError e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Unable to determine host fact %s: %s".formatted(name, e.getMessage()));
+            }
+            return null;
+        }
+    }
+
+    private static @Nullable Long readContainerMemoryLimit() {
+        for (Path path : MEMORY_LIMITS) {
+            if (!Files.isReadable(path)) continue;
+            String limit = readString(path).trim();
+            if (limit.equals("max")) return null;
+            long bytes = Long.parseLong(limit);
+            return bytes < UNLIMITED ? bytes / MIB : null;
+        }
+
+        return null;
+    }
+
+    /**
+     * Read {@code AT_PAGESZ} from the auxiliary vector, a few hundred bytes of native words that the kernel passes to
+     * every process, rather than scanning the memory mappings of the process.
+     */
+    private static @Nullable Long readPageSize() {
+        if (!Files.isReadable(AUXV)) return null;
+        ByteBuffer auxv;
+        try {
+            auxv = ByteBuffer.wrap(Files.readAllBytes(AUXV)).order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        boolean wide = !"32".equals(System.getProperty("sun.arch.data.model"));
+        while (auxv.remaining() >= (wide ? 2 * Long.BYTES : 2 * Integer.BYTES)) {
+            long type = wide ? auxv.getLong() : Integer.toUnsignedLong(auxv.getInt());
+            long value = wide ? auxv.getLong() : Integer.toUnsignedLong(auxv.getInt());
+            if (type == AT_PAGESZ) return value;
+            if (type == AT_NULL) break;
+        }
+
+        return null;
+    }
+
+    private static @Nullable Long readOpenFilesLimit() {
+        return UNIX_OPERATING_SYSTEM_PRESENT ? UnixOperatingSystem.readOpenFilesLimit() : null;
+    }
+
+    private static String getOsFamily() {
+        String osName = System.getProperty(OnOsCondition.OS_NAME_PROPERTY_KEY, "").toLowerCase(Locale.ROOT);
+        if (osName.contains("linux")) return "linux";
+        if (osName.contains("windows")) return "windows";
+        if (osName.contains("mac")) return "mac";
+        return "other";
+    }
+
+    private static String readString(Path path) {
+        try {
+            return Files.readString(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Facts read through {@code com.sun.management}, kept in a separate class so that it is only loaded where that
+     * package is present.
+     */
+    private static final class UnixOperatingSystem {
+        private static @Nullable Long readOpenFilesLimit() {
+            OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+            return operatingSystem instanceof UnixOperatingSystemMXBean unix
+                    ? unix.getMaxFileDescriptorCount()
+                    : null;
+        }
+    }
+}
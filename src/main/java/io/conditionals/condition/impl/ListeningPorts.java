@@ -0,0 +1,100 @@
+package io.conditionals.condition.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Snapshot of the TCP ports with a listening socket on the local host, read from the Linux {@code /proc/net}
+ * socket tables.
+ *
+ * <p>Each table is read once with NIO. Every row in state {@code 0A} ({@code TCP_LISTEN}) marks the port of its
+ * local address in a {@link BitSet} of 65,536 bits, regardless of the bound address. A snapshot for which no
+ * table could be read is {@link #isAvailable() unavailable}; callers then probe ports by other means.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>Instances are immutable after construction and safe to share across threads.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see io.conditionals.condition.spec.PortProbeStrategy#LISTENING_SOCKETS
+ */
+final class ListeningPorts {
+    private static final List<Path> TABLES = List.of(Path.of("/proc/net/tcp"), Path.of("/proc/net/tcp6"));
+    private static final String LISTEN = "0A";
+    private static final int PORTS = 1 << 16;
+    private final BitSet ports;
+    private final boolean available;
+
+    private ListeningPorts(BitSet ports, boolean available) {
+        this.ports = ports;
+        this.available = available;
+    }
+
+    /**
+     * Read the listening ports of the local host.
+     *
+     * @return snapshot, unavailable if no socket table could be read
+     */
+    static ListeningPorts read() {
+        BitSet ports = new BitSet(PORTS);
+        boolean available = false;
+        for (Path table : TABLES) {
+            if (!Files.isReadable(table)) continue;
+            try (Stream<String> rows = Files.lines(table, StandardCharsets.US_ASCII)) {
+                rows.skip(1).forEach(row -> mark(row, ports));
+                available = true;
+            } catch (IOException | UncheckedIOException e) {
+                // Treated like an absent table
+            }
+        }
+
+        return new ListeningPorts(ports, available);
+    }
+
+    private static void mark(String row, BitSet ports) {
+        String[] columns = row.trim().split("\\s+");
+        if (columns.length < 4 || !LISTEN.equals(columns[3])) return;
+        String localAddress = columns[1];
+        int separator = localAddress.lastIndexOf(':');
+        if (separator < 0) return;
+        try {
+            ports.set(Integer.parseInt(localAddress.substring(separator + 1), 16));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            // Malformed row
+        }
+    }
+
+    /**
+     * Return whether at least one socket table could be read.
+     *
+     * @return {@code true} if the snapshot reflects the socket tables
+     */
+    boolean isAvailable() {
+        return this.available;
+    }
+
+    /**
+     * Return whether a socket is listening on the given port.
+     *
+     * @param port TCP port
+     * @return {@code true} if the port has a listening socket
+     */
+    boolean isListening(int port) {
+        return port >= 0 && port < PORTS && this.ports.get(port);
+    }
+
+    /**
+     * Clear the ports that have a listening socket from the given set.
+     *
+     * @param ports candidate ports, modified in place
+     */
+    void clearListening(BitSet ports) {
+        ports.andNot(this.ports);
+    }
+}
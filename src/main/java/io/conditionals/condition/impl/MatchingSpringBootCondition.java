@@ -46,8 +46,9 @@ public abstract class MatchingSpringBootCondition extends SpringBootCondition {
      *
      * <p>This implementation:</p>
      * <ul>
-     *     <li>Obtains annotation attributes via {@link #getAttributesStream(AnnotatedTypeMetadata)}.</li>
-     *     <li>Evaluates each instance via {@link #checkAttributes(ConditionMessage.Builder, ConditionContext, AnnotationAttributes)}.</li>
+     *     <li>Evaluates each annotation instance via {@link #getOutcomes(ConditionContext, AnnotatedTypeMetadata)},
+     *     which by default obtains attributes via {@link #getAttributesStream(AnnotatedTypeMetadata)} and checks
+     *     each instance via {@link #checkAttributes(ConditionMessage.Builder, ConditionContext, AnnotationAttributes)}.</li>
      *     <li>Aggregates individual {@link ConditionMessage} instances into the final {@link ConditionOutcome}.</li>
      * </ul>
      *
@@ -60,17 +61,29 @@ public abstract class MatchingSpringBootCondition extends SpringBootCondition {
         List<ConditionMessage> noMatch = new ArrayList<>();
         List<ConditionMessage> match = new ArrayList<>();
 
-        this.getAttributesStream(metadata)
-                .forEach(annotation -> {
-                    ConditionOutcome outcome = this.checkAttributes(this.getParentMessage(), context, annotation);
-                    (outcome.isMatch() ? match : noMatch).add(outcome.getConditionMessage());
-                });
+        this.getOutcomes(context, metadata)
+                .forEach(outcome -> (outcome.isMatch() ? match : noMatch).add(outcome.getConditionMessage()));
 
         return noMatch.isEmpty()
                 ? ConditionOutcome.match(ConditionMessage.of(match))
                 : ConditionOutcome.noMatch(ConditionMessage.of(noMatch));
     }
 
+    /**
+     * Evaluate every annotation instance of the annotated element.
+     *
+     * <p>The default implementation evaluates each element of {@link #getAttributesStream(AnnotatedTypeMetadata)}
+     * with {@link #checkAttributes(ConditionMessage.Builder, ConditionContext, AnnotationAttributes)}.</p>
+     *
+     * @param context the current condition context
+     * @param metadata annotation metadata for the item being evaluated
+     * @return stream of per-annotation outcomes
+     */
+    protected Stream<ConditionOutcome> getOutcomes(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return this.getAttributesStream(metadata)
+                .map(annotation -> this.checkAttributes(this.getParentMessage(), context, annotation));
+    }
+
     /**
      * Provide a stream of annotation attribute sets to evaluate.
      *
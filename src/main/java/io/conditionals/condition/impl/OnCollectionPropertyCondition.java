@@ -8,9 +8,13 @@ import io.conditionals.condition.spec.PropertySpecMatcher;
 import io.conditionals.condition.utils.ConditionUtils;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.util.Assert;
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * {@link org.springframework.boot.autoconfigure.condition.SpringBootCondition} implementation backing
@@ -29,12 +33,15 @@ import java.util.Arrays;
  * {@link ConditionUtils#revert(boolean, boolean)} using {@link Spec#isNot()}.</p>
  *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe. Matcher/spec instances are created per evaluation.</p>
+ * <p>This type is stateless and thread-safe. The matcher is a shared stateless instance and specs are cached
+ * by {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
  */
 public class OnCollectionPropertyCondition extends PropertySpringBootCondition<String[], OnCollectionPropertyCondition.Spec> {
+    private static final Matcher MATCHER = new Matcher();
+
     @Override
     protected Class<? extends Annotation> getAnnotationClass() {
         return ConditionalOnCollectionProperty.class;
@@ -52,7 +59,7 @@ public class OnCollectionPropertyCondition extends PropertySpringBootCondition<S
 
     @Override
     protected PropertySpecMatcher<String[], Spec> createPropertySpecMatcher() {
-        return new Matcher();
+        return MATCHER;
     }
 
     /**
@@ -62,17 +69,28 @@ public class OnCollectionPropertyCondition extends PropertySpringBootCondition<S
      * <p>If {@link Spec#size} is not {@code -1}, the resolved array length must equal the configured size.
      * If the size check fails, the result is the negation flag ({@link Spec#isNot()}) to preserve
      * {@code not}-inversion semantics for the size predicate.</p>
+     *
+     * <p><b>Adaptive containment</b></p>
+     * <p>{@link CollectionMatchType#CONTAINS_ANY} and {@link CollectionMatchType#CONTAINS_ALL} use nested linear
+     * scans for small candidates. Once the candidate has at least {@value #HASH_INDEX_THRESHOLD} elements they
+     * switch to hash lookups in an index of the candidate that the spec builds once at construction, turning the
+     * {@code O(n * m)} scan into {@code O(n)}.</p>
      */
     public static class Matcher implements PropertySpecMatcher<String[], Spec> {
+        /**
+         * Candidate length from which {@link Spec} builds a hash index of its candidate elements.
+         */
+        public static final int HASH_INDEX_THRESHOLD = 4;
+
         @Override
         public boolean compare(Spec spec, String @Nullable[] property, String[] candidate) {
             if (property == null) return false;
             boolean sizeMatches = spec.size == -1 || property.length == spec.size;
             boolean result = sizeMatches && switch (spec.getMatchType()) {
                 case EQUALS -> equals(property, candidate);
-                case CONTAINS_ANY -> containsAny(property, candidate);
-                case CONTAINS_ALL -> containsAll(property, candidate);
-                case CONTAINS_SEQUENCE -> containsSequence(property, candidate);
+                case CONTAINS_ANY -> containsAny(spec, property, candidate);
+                case CONTAINS_ALL -> containsAll(spec, property, candidate);
+                case CONTAINS_SEQUENCE -> containsSequence(spec, property, candidate);
                 case STARTS_WITH_ANY -> startsWithAny(property, candidate);
                 case STARTS_WITH_ALL -> startsWithAll(property, candidate);
                 case ENDS_WITH_ANY -> endsWithAny(property, candidate);
@@ -90,11 +108,25 @@ public class OnCollectionPropertyCondition extends PropertySpringBootCondition<S
 
         /**
          * Match if any element of {@code candidate} is contained in {@code property}.
+         *
+         * <p>Small candidates are scanned linearly; otherwise the candidate index built by the spec is probed once
+         * per property element.</p>
          */
-        private static boolean containsAny(String[] property, String[] candidate) {
+        private static boolean containsAny(Spec spec, String[] property, String[] candidate) {
             int candidateLength = candidate.length;
             if (candidateLength == 0) return true;
 
+            Map<String, Integer> candidateIndex = spec.candidateIndex;
+            if (candidateIndex != null) {
+                for (String propertyElement : property) {
+                    if (candidateIndex.containsKey(propertyElement)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
             for (String candidateElement : candidate) {
                 for (String propertyElement : property) {
                     if (propertyElement.equals(candidateElement)) {
@@ -108,13 +140,34 @@ public class OnCollectionPropertyCondition extends PropertySpringBootCondition<S
 
         /**
          * Match if all elements of {@code candidate} are contained in {@code property} (order-insensitive).
+         *
+         * <p>Small candidates are scanned linearly; otherwise each property element is looked up in the candidate
+         * index built by the spec and distinct candidate hits are counted.</p>
          */
-        private static boolean containsAll(String[] property, String[] candidate) {
+        private static boolean containsAll(Spec spec, String[] property, String[] candidate) {
             int candidateLength = candidate.length;
             if (candidateLength == 0) return true;
             int propertyLength = property.length;
             if (propertyLength < candidateLength) return false;
 
+            Map<String, Integer> candidateIndex = spec.candidateIndex;
+            if (candidateIndex != null) {
+                int distinct = candidateIndex.size();
+                boolean[] found = new boolean[distinct];
+                int foundCount = 0;
+                for (String propertyElement : property) {
+                    Integer index = candidateIndex.get(propertyElement);
+                    if (index != null && !found[index]) {
+                        found[index] = true;
+                        if (++foundCount == distinct) {
+                            return true;
+                        }
+                    }
+                }
+
+                return false;
+            }
+
             for (String candidateElement : candidate) {
                 boolean found = false;
                 for (String propertyElement : property) {
@@ -134,22 +187,27 @@ public class OnCollectionPropertyCondition extends PropertySpringBootCondition<S
 
         /**
          * Match if {@code property} contains {@code candidate} as a contiguous subsequence.
+         *
+         * <p>Uses Knuth-Morris-Pratt search with the failure table precomputed by the spec. The property is never
+         * rescanned, so the worst case is {@code O(n + m)} even for long, repetitive sequences.</p>
          */
-        private static boolean containsSequence(String[] property, String[] candidate) {
+        private static boolean containsSequence(Spec spec, String[] property, String[] candidate) {
             int candidateLength = candidate.length;
             if (candidateLength == 0) return true;
             int propertyLength = property.length;
             if (propertyLength < candidateLength) return false;
 
-            outer:
-            for (int i = 0; i <= property.length - candidate.length; i++) {
-                for (int j = 0; j < candidate.length; j++) {
-                    if (!property[i + j].equals(candidate[j])) {
-                        continue outer;
-                    }
+            int[] failure = spec.getSequenceFailureTable();
+            int matched = 0;
+            for (String propertyElement : property) {
+                while (matched > 0 && !propertyElement.equals(candidate[matched])) {
+                    matched = failure[matched - 1];
+                }
+                if (propertyElement.equals(candidate[matched]) && ++matched == candidateLength) {
+                    return true;
                 }
-                return true;
             }
+
             return false;
         }
 
@@ -233,6 +291,8 @@ public class OnCollectionPropertyCondition extends PropertySpringBootCondition<S
     public static class Spec extends MatchingPropertySpec<String[], Spec, CollectionMatchType> {
         private static final String SIZE = "size";
         private final int size;
+        private final @Nullable Map<String, Integer> candidateIndex;
+        private final int @Nullable [] sequenceFailureTable;
 
         /**
          * Create a new spec from annotation attributes.
@@ -243,6 +303,67 @@ public class OnCollectionPropertyCondition extends PropertySpringBootCondition<S
         private Spec(Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
             super(annotationType, annotationAttributes);
             this.size = annotationAttributes.getNumber(SIZE).intValue();
+            this.candidateIndex = this.createCandidateIndex();
+            this.sequenceFailureTable = this.getMatchType() == CollectionMatchType.CONTAINS_SEQUENCE
+                    ? createFailureTable(this.getHavingValue())
+                    : null;
+        }
+
+        /**
+         * Return the Knuth-Morris-Pratt failure table of the candidate sequence.
+         *
+         * <p>Element {@code i} holds the length of the longest proper prefix of {@code candidate[0..i]} that is also
+         * a suffix of it. The table is shared by every evaluation of this cached spec and is therefore only exposed
+         * to {@link Matcher}, which never modifies it.</p>
+         *
+         * @return failure table
+         * @throws IllegalStateException if the match type is not {@link CollectionMatchType#CONTAINS_SEQUENCE}
+         */
+        private int[] getSequenceFailureTable() {
+            Assert.state(this.sequenceFailureTable != null, "A failure table is only available for the CONTAINS_SEQUENCE match type");
+            return this.sequenceFailureTable;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            return super.equals(other) && this.size == ((Spec) other).size;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * super.hashCode() + this.size;
+        }
+
+        private static int[] createFailureTable(String[] candidate) {
+            int[] failure = new int[candidate.length];
+            int prefix = 0;
+            for (int i = 1; i < candidate.length; i++) {
+                while (prefix > 0 && !candidate[i].equals(candidate[prefix])) {
+                    prefix = failure[prefix - 1];
+                }
+                if (candidate[i].equals(candidate[prefix])) {
+                    prefix++;
+                }
+                failure[i] = prefix;
+            }
+            return failure;
+        }
+
+        /**
+         * Map each distinct candidate element to a dense index, or return {@code null} when the candidate is small
+         * enough for linear scans or the match type does not use it.
+         */
+        private @Nullable Map<String, Integer> createCandidateIndex() {
+            String[] candidate = this.getHavingValue();
+            CollectionMatchType matchType = this.getMatchType();
+            boolean indexed = matchType == CollectionMatchType.CONTAINS_ANY || matchType == CollectionMatchType.CONTAINS_ALL;
+            if (!indexed || candidate.length < Matcher.HASH_INDEX_THRESHOLD) return null;
+
+            Map<String, Integer> index = new HashMap<>(Math.max(16, candidate.length * 2));
+            for (String element : candidate) {
+                index.putIfAbsent(element, index.size());
+            }
+            return Collections.unmodifiableMap(index);
         }
     }
 }
@@ -2,6 +2,12 @@ package io.conditionals.condition.impl;
 
 import io.conditionals.condition.ConditionalOnDoubleProperties;
 import io.conditionals.condition.ConditionalOnDoubleProperty;
+import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.NumberPropertySpec;
+import io.conditionals.condition.spec.PropertyLookup;
+import io.conditionals.condition.utils.NumberParser;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationAttributes;
 
 import java.lang.annotation.Annotation;
 
@@ -14,8 +20,15 @@ import java.lang.annotation.Annotation;
  * and the {@code not} attribute. Repeatable declarations are supported via
  * {@link io.conditionals.condition.ConditionalOnDoubleProperties}.</p>
  *
+ * <p><b>Primitive evaluation</b></p>
+ * <p>Properties are evaluated by {@link Spec}, which parses {@link String} values with
+ * {@link NumberParser#parseDouble(CharSequence, double)} and compares {@code double} values without boxing. Subclasses
+ * overriding the {@code check*} methods inherited from {@link ComparablePropertySpringBootCondition}, or supplying
+ * another matcher, are evaluated through the matcher instead.</p>
+ *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe.</p>
+ * <p>This type is stateless and thread-safe. Spec instances are cached by
+ * {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
@@ -30,4 +43,47 @@ public class OnDoublePropertyCondition extends ComparablePropertySpringBootCondi
     protected Class<? extends Annotation> getAnnotationContainerClass() {
         return ConditionalOnDoubleProperties.class;
     }
+
+    @Override
+    protected ComparablePropertySpec<Double, Double> createSpec(@Nullable Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+        return new Spec(annotationType, annotationAttributes);
+    }
+
+    /**
+     * Specification comparing {@code double} property values with the {@code havingValue} attribute.
+     */
+    public static class Spec extends NumberPropertySpec<Double> {
+        private final double candidate;
+
+        /**
+         * Create a new spec from annotation attributes.
+         *
+         * @param annotationType annotation type producing the attributes
+         * @param annotationAttributes resolved annotation attributes
+         */
+        public Spec(Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+            super(annotationType, annotationAttributes);
+            this.candidate = this.getHavingValue();
+        }
+
+        @Override
+        protected @Nullable Double parse(CharSequence text) {
+            double property = NumberParser.parseDouble(text, Double.NaN);
+            return !Double.isNaN(property) || NumberParser.canParseDouble(text) ? property : null;
+        }
+
+        @Override
+        protected int compare(Object value, PropertyLookup lookup) {
+            if (value instanceof String text) {
+                double property = NumberParser.parseDouble(text, Double.NaN);
+                return !Double.isNaN(property) || NumberParser.canParseDouble(text)
+                        ? Double.compare(property, this.candidate)
+                        : MALFORMED;
+            }
+            double property = value instanceof Double number
+                    ? number
+                    : this.convertNumber(value, lookup);
+            return Double.compare(property, this.candidate);
+        }
+    }
 }
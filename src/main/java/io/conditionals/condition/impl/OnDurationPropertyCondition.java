@@ -3,12 +3,14 @@ package io.conditionals.condition.impl;
 import io.conditionals.condition.ConditionalOnDurationProperties;
 import io.conditionals.condition.ConditionalOnDurationProperty;
 import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.PropertyLookup;
 import io.conditionals.condition.spec.PropertySpecMatcher;
 import org.jspecify.annotations.Nullable;
 import org.springframework.boot.convert.DurationStyle;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.convert.ConversionException;
-import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
 
 import java.lang.annotation.Annotation;
 import java.time.Duration;
@@ -25,12 +27,14 @@ import java.util.List;
  *
  * <p><b>Property resolution and parsing</b></p>
  * <p>The {@link Spec} overrides
- * {@link ComparablePropertySpec#collectProperties(PropertyResolver, List, List, PropertySpecMatcher)} to read the
- * raw property as a {@link String} and parse it via {@link DurationStyle#detectAndParse(String)}. This ensures
- * consistent parsing regardless of conversion service configuration.</p>
+ * {@link ComparablePropertySpec#convert(Object, PropertyLookup)} to convert the raw property to a {@link String}
+ * and parse it via {@link DurationStyle#detectAndParse(String)}. This ensures consistent parsing regardless of
+ * conversion service configuration, while the property itself is still read with a single lookup by
+ * {@link ComparablePropertySpec#collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)}.</p>
  *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe. Spec instances are created per evaluation.</p>
+ * <p>This type is stateless and thread-safe. Spec instances are cached by
+ * {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
@@ -67,33 +71,23 @@ public class OnDurationPropertyCondition extends ComparablePropertySpringBootCon
         }
 
         /**
-         * Collect missing and non-matching properties by parsing each present value as a {@link Duration}.
+         * Convert a raw property value by parsing its {@link String} form as a {@link Duration}.
          *
-         * <p>Parsing failures are treated as non-matching values.</p>
+         * <p>Parsing failures are reported as {@link ConversionFailedException} and therefore reported as
+         * malformed values.</p>
          *
-         * @param resolver property resolver
-         * @param missing output list of missing property names
-         * @param nonMatching output list of non-matching property names
-         * @param matcher matcher used for comparison
+         * @param value raw property value
+         * @param lookup lookup providing conversion to {@link String}
+         * @return parsed duration
+         * @throws ConversionException if the value cannot be parsed
          */
-         @Override
-         public void collectProperties(PropertyResolver resolver, List<String> missing, List<String> nonMatching, PropertySpecMatcher<Duration, ComparablePropertySpec<Duration, Duration>> matcher) {
-             for (String name : this.getNames()) {
-                 try {
-                     String key = this.getPrefix() + name;
-                     if (resolver.containsProperty(key)) {
-                         String property = resolver.getProperty(key);
-                         Duration duration = DurationStyle.detectAndParse(property);
-                         if (!this.isMatch(duration, matcher)) {
-                             nonMatching.add(name);
-                         }
-                     } else if (!this.isMatchIfMissing()) {
-                         missing.add(name);
-                     }
-                 } catch (ConversionException | IllegalArgumentException e) {
-                     nonMatching.add(name);
-                 }
-             }
-         }
+        @Override
+        protected @Nullable Duration convert(Object value, PropertyLookup lookup) {
+            try {
+                return DurationStyle.detectAndParse(lookup.convert(value, String.class));
+            } catch (IllegalArgumentException e) {
+                throw new ConversionFailedException(TypeDescriptor.forObject(value), TypeDescriptor.valueOf(Duration.class), value, e);
+            }
+        }
     }
 }
@@ -15,18 +15,21 @@ import java.util.Locale;
  * {@link org.springframework.boot.autoconfigure.condition.SpringBootCondition} implementation backing
  * {@link io.conditionals.condition.ConditionalOnEnumProperty}.
  *
- * <p>This condition resolves the configured property as a {@link String} and attempts to convert both the
- * resolved value and the candidate value to an enum constant of the configured {@code enumType}.
- * Conversion uses {@link Enum#valueOf(Class, String)}. Values are normalized using
- * {@link String#toUpperCase(Locale)} with {@link Locale#ROOT} before conversion.</p>
+ * <p>This condition resolves the configured property as a {@link String} and resolves both the property value and
+ * the candidate value to an enum constant of the configured {@code enumType}, ignoring case. Constants are looked
+ * up in a case-insensitive table built once per enum type; the candidate constant is resolved once per spec.
+ * Values that do not name a constant are treated as non-matching.</p>
  *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe. Matcher/spec instances are created per evaluation.</p>
+ * <p>This type is stateless and thread-safe. The matcher is a shared stateless instance and specs are cached
+ * by {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
  */
 public class OnEnumPropertyCondition extends PropertySpringBootCondition<String, OnEnumPropertyCondition.Spec> {
+    private static final Matcher MATCHER = new Matcher();
+
     @Override
     protected Class<? extends Annotation> getAnnotationClass() {
         return ConditionalOnEnumProperty.class;
@@ -44,34 +47,33 @@ public class OnEnumPropertyCondition extends PropertySpringBootCondition<String,
 
     @Override
     protected PropertySpecMatcher<String, Spec> createPropertySpecMatcher() {
-        return new Matcher();
+        return MATCHER;
     }
 
     /**
-     * Matcher converting both sides to enum constants and comparing them for equality.
+     * Matcher resolving the property to an enum constant and comparing it to the precomputed candidate constant.
+     *
+     * <p>Resolution is a single case-insensitive hash lookup; unknown values never throw and are treated as
+     * non-matching.</p>
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public static class Matcher implements PropertySpecMatcher<String, Spec> {
         @Override
         public boolean compare(Spec spec, @Nullable String property, String candidate) {
             if (property == null) return false;
-            Class<? extends Enum> enumClass = spec.enumType;
-            String propertyName = property.toUpperCase(Locale.ROOT);
-            String candidateName = candidate.toUpperCase(Locale.ROOT);
-            try {
-                Enum propertyEnum = Enum.valueOf(enumClass, propertyName);
-                Enum candidateEnum = Enum.valueOf(enumClass, candidateName);
-                boolean equals = propertyEnum.equals(candidateEnum);
-                return ConditionUtils.revert(equals, spec.not);
-            } catch (IllegalArgumentException ex) {
-                return false;
-            }
+            Enum<?> candidateConstant = spec.candidateConstant;
+            if (candidateConstant == null) return false;
+            Enum<?> propertyConstant = spec.constants.find(property);
+            if (propertyConstant == null) return false;
+            return ConditionUtils.revert(propertyConstant == candidateConstant, spec.not);
         }
     }
 
     /**
      * {@link io.conditionals.condition.spec.PropertySpec} specialization capturing the enum type to use for
      * conversion.
+     *
+     * <p>The candidate constant is resolved once at construction. If {@code havingValue} does not name a constant
+     * of {@code enumType}, the spec never matches.</p>
      */
     @SuppressWarnings("rawtypes")
     public static class Spec extends PropertySpec<String, Spec> {
@@ -79,6 +81,8 @@ public class OnEnumPropertyCondition extends PropertySpringBootCondition<String,
         private static final String NOT = "not";
         private final Class<? extends Enum> enumType;
         private final boolean not;
+        private final EnumConstants constants;
+        private final @Nullable Enum<?> candidateConstant;
 
         /**
          * Create a new spec from annotation attributes.
@@ -90,6 +94,99 @@ public class OnEnumPropertyCondition extends PropertySpringBootCondition<String,
             super(annotationType, annotationAttributes);
             this.enumType = annotationAttributes.getClass(ENUM_TYPE);
             this.not = annotationAttributes.getBoolean(NOT);
+            this.constants = EnumConstants.INDEX.get(this.enumType);
+            this.candidateConstant = this.constants.find(this.getHavingValue());
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            return super.equals(other) && this.enumType == ((Spec) other).enumType && this.not == ((Spec) other).not;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * super.hashCode() + this.enumType.hashCode()) + Boolean.hashCode(this.not);
+        }
+    }
+
+    /**
+     * Case-insensitive, allocation-free lookup table of the constants of a single enum type.
+     *
+     * <p>Names are compared character by character after folding each character with
+     * {@link Character#toUpperCase(char)} followed by {@link Character#toLowerCase(char)}. Tables are built
+     * once per enum type and cached in a {@link ClassValue}. When two constants differ only by case, the
+     * upper-case one wins, matching the historical {@link String#toUpperCase(Locale)} based resolution.</p>
+     */
+    private static final class EnumConstants {
+        private static final ClassValue<EnumConstants> INDEX = new ClassValue<>() {
+            @Override
+            protected EnumConstants computeValue(Class<?> type) {
+                return new EnumConstants(type.getEnumConstants());
+            }
+        };
+        private final String[] names;
+        private final Enum<?>[] constants;
+        private final int mask;
+
+        private EnumConstants(Object @Nullable [] values) {
+            int length = values == null ? 0 : values.length;
+            int capacity = Integer.highestOneBit(Math.max(1, length) * 2 - 1) << 1;
+            this.names = new String[capacity];
+            this.constants = new Enum<?>[capacity];
+            this.mask = capacity - 1;
+            if (values == null) return;
+
+            for (Object value : values) {
+                Enum<?> constant = (Enum<?>) value;
+                String name = constant.name();
+                int index = hash(name) & this.mask;
+                while (this.names[index] != null && !equalsFolded(this.names[index], name)) {
+                    index = (index + 1) & this.mask;
+                }
+                if (this.names[index] == null || name.equals(name.toUpperCase(Locale.ROOT))) {
+                    this.names[index] = name;
+                    this.constants[index] = constant;
+                }
+            }
+        }
+
+        private @Nullable Enum<?> find(String name) {
+            int index = hash(name) & this.mask;
+            String candidate;
+            while ((candidate = this.names[index]) != null) {
+                if (equalsFolded(candidate, name)) {
+                    return this.constants[index];
+                }
+                index = (index + 1) & this.mask;
+            }
+            return null;
+        }
+
+        private static int hash(String name) {
+            int hash = 0;
+            for (int i = 0; i < name.length(); i++) {
+                hash = 31 * hash + fold(name.charAt(i));
+            }
+            return hash ^ (hash >>> 16);
+        }
+
+        private static boolean equalsFolded(String first, String second) {
+            int length = first.length();
+            if (length != second.length()) return false;
+
+            for (int i = 0; i < length; i++) {
+                char firstChar = first.charAt(i);
+                char secondChar = second.charAt(i);
+                if (firstChar != secondChar && fold(firstChar) != fold(secondChar)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static char fold(char c) {
+            return Character.toLowerCase(Character.toUpperCase(c));
         }
     }
 }
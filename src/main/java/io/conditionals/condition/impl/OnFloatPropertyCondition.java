@@ -2,6 +2,12 @@ package io.conditionals.condition.impl;
 
 import io.conditionals.condition.ConditionalOnFloatProperties;
 import io.conditionals.condition.ConditionalOnFloatProperty;
+import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.NumberPropertySpec;
+import io.conditionals.condition.spec.PropertyLookup;
+import io.conditionals.condition.utils.NumberParser;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationAttributes;
 
 import java.lang.annotation.Annotation;
 
@@ -14,8 +20,15 @@ import java.lang.annotation.Annotation;
  * and the {@code not} attribute. Repeatable declarations are supported via
  * {@link io.conditionals.condition.ConditionalOnFloatProperties}.</p>
  *
+ * <p><b>Primitive evaluation</b></p>
+ * <p>Properties are evaluated by {@link Spec}, which parses {@link String} values with
+ * {@link NumberParser#parseFloat(CharSequence, float)} and compares {@code float} values without boxing. Subclasses
+ * overriding the {@code check*} methods inherited from {@link ComparablePropertySpringBootCondition}, or supplying
+ * another matcher, are evaluated through the matcher instead.</p>
+ *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe.</p>
+ * <p>This type is stateless and thread-safe. Spec instances are cached by
+ * {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
@@ -30,4 +43,47 @@ public class OnFloatPropertyCondition extends ComparablePropertySpringBootCondit
     protected Class<? extends Annotation> getAnnotationContainerClass() {
         return ConditionalOnFloatProperties.class;
     }
+
+    @Override
+    protected ComparablePropertySpec<Float, Float> createSpec(@Nullable Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+        return new Spec(annotationType, annotationAttributes);
+    }
+
+    /**
+     * Specification comparing {@code float} property values with the {@code havingValue} attribute.
+     */
+    public static class Spec extends NumberPropertySpec<Float> {
+        private final float candidate;
+
+        /**
+         * Create a new spec from annotation attributes.
+         *
+         * @param annotationType annotation type producing the attributes
+         * @param annotationAttributes resolved annotation attributes
+         */
+        public Spec(Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+            super(annotationType, annotationAttributes);
+            this.candidate = this.getHavingValue();
+        }
+
+        @Override
+        protected @Nullable Float parse(CharSequence text) {
+            float property = NumberParser.parseFloat(text, Float.NaN);
+            return !Float.isNaN(property) || NumberParser.canParseFloat(text) ? property : null;
+        }
+
+        @Override
+        protected int compare(Object value, PropertyLookup lookup) {
+            if (value instanceof String text) {
+                float property = NumberParser.parseFloat(text, Float.NaN);
+                return !Float.isNaN(property) || NumberParser.canParseFloat(text)
+                        ? Float.compare(property, this.candidate)
+                        : MALFORMED;
+            }
+            float property = value instanceof Float number
+                    ? number
+                    : this.convertNumber(value, lookup);
+            return Float.compare(property, this.candidate);
+        }
+    }
 }
@@ -2,6 +2,12 @@ package io.conditionals.condition.impl;
 
 import io.conditionals.condition.ConditionalOnIntegerProperties;
 import io.conditionals.condition.ConditionalOnIntegerProperty;
+import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.NumberPropertySpec;
+import io.conditionals.condition.spec.PropertyLookup;
+import io.conditionals.condition.utils.NumberParser;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationAttributes;
 
 import java.lang.annotation.Annotation;
 
@@ -14,8 +20,15 @@ import java.lang.annotation.Annotation;
  * and the {@code not} attribute. Repeatable declarations are supported via
  * {@link io.conditionals.condition.ConditionalOnIntegerProperties}.</p>
  *
+ * <p><b>Primitive evaluation</b></p>
+ * <p>Properties are evaluated by {@link Spec}, which parses {@link String} values with
+ * {@link NumberParser#parseInt(CharSequence, int)} and compares {@code int} values without boxing. Subclasses
+ * overriding the {@code check*} methods inherited from {@link ComparablePropertySpringBootCondition}, or supplying
+ * another matcher, are evaluated through the matcher instead.</p>
+ *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe.</p>
+ * <p>This type is stateless and thread-safe. Spec instances are cached by
+ * {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
@@ -30,4 +43,47 @@ public class OnIntegerPropertyCondition extends ComparablePropertySpringBootCond
     protected Class<? extends Annotation> getAnnotationContainerClass() {
         return ConditionalOnIntegerProperties.class;
     }
+
+    @Override
+    protected ComparablePropertySpec<Integer, Integer> createSpec(@Nullable Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+        return new Spec(annotationType, annotationAttributes);
+    }
+
+    /**
+     * Specification comparing {@code int} property values with the {@code havingValue} attribute.
+     */
+    public static class Spec extends NumberPropertySpec<Integer> {
+        private final int candidate;
+
+        /**
+         * Create a new spec from annotation attributes.
+         *
+         * @param annotationType annotation type producing the attributes
+         * @param annotationAttributes resolved annotation attributes
+         */
+        public Spec(Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+            super(annotationType, annotationAttributes);
+            this.candidate = this.getHavingValue();
+        }
+
+        @Override
+        protected @Nullable Integer parse(CharSequence text) {
+            int property = NumberParser.parseInt(text, Integer.MIN_VALUE);
+            return property != Integer.MIN_VALUE || NumberParser.canParseInt(text) ? property : null;
+        }
+
+        @Override
+        protected int compare(Object value, PropertyLookup lookup) {
+            if (value instanceof String text) {
+                int property = NumberParser.parseInt(text, Integer.MIN_VALUE);
+                return property != Integer.MIN_VALUE || NumberParser.canParseInt(text)
+                        ? Integer.compare(property, this.candidate)
+                        : MALFORMED;
+            }
+            int property = value instanceof Integer number
+                    ? number
+                    : this.convertNumber(value, lookup);
+            return Integer.compare(property, this.candidate);
+        }
+    }
 }
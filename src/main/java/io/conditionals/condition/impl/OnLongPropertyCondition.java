@@ -2,6 +2,12 @@ package io.conditionals.condition.impl;
 
 import io.conditionals.condition.ConditionalOnLongProperties;
 import io.conditionals.condition.ConditionalOnLongProperty;
+import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.NumberPropertySpec;
+import io.conditionals.condition.spec.PropertyLookup;
+import io.conditionals.condition.utils.NumberParser;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationAttributes;
 
 import java.lang.annotation.Annotation;
 
@@ -14,8 +20,15 @@ import java.lang.annotation.Annotation;
  * and the {@code not} attribute. Repeatable declarations are supported via
  * {@link io.conditionals.condition.ConditionalOnLongProperties}.</p>
  *
+ * <p><b>Primitive evaluation</b></p>
+ * <p>Properties are evaluated by {@link Spec}, which parses {@link String} values with
+ * {@link NumberParser#parseLong(CharSequence, long)} and compares {@code long} values without boxing. Subclasses
+ * overriding the {@code check*} methods inherited from {@link ComparablePropertySpringBootCondition}, or supplying
+ * another matcher, are evaluated through the matcher instead.</p>
+ *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe.</p>
+ * <p>This type is stateless and thread-safe. Spec instances are cached by
+ * {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
@@ -30,4 +43,50 @@ public class OnLongPropertyCondition extends ComparablePropertySpringBootConditi
     protected Class<? extends Annotation> getAnnotationContainerClass() {
         return ConditionalOnLongProperties.class;
     }
+
+    @Override
+    protected ComparablePropertySpec<Long, Long> createSpec(@Nullable Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+        return new Spec(annotationType, annotationAttributes);
+    }
+
+    /**
+     * Specification comparing {@code long} property values with the {@code havingValue} attribute.
+     *
+     * <p>The {@code int} candidate declared by {@link ConditionalOnLongProperty#havingValue()} is widened to
+     * {@code long}, so properties outside the {@code int} range are compared rather than rejected.</p>
+     */
+    public static class Spec extends NumberPropertySpec<Long> {
+        private final long candidate;
+
+        /**
+         * Create a new spec from annotation attributes.
+         *
+         * @param annotationType annotation type producing the attributes
+         * @param annotationAttributes resolved annotation attributes
+         */
+        public Spec(Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+            super(annotationType, annotationAttributes, Number::longValue);
+            this.candidate = this.getHavingValue();
+        }
+
+        @Override
+        protected @Nullable Long parse(CharSequence text) {
+            long property = NumberParser.parseLong(text, Long.MIN_VALUE);
+            return property != Long.MIN_VALUE || NumberParser.canParseLong(text) ? property : null;
+        }
+
+        @Override
+        protected int compare(Object value, PropertyLookup lookup) {
+            if (value instanceof String text) {
+                long property = NumberParser.parseLong(text, Long.MIN_VALUE);
+                return property != Long.MIN_VALUE || NumberParser.canParseLong(text)
+                        ? Long.compare(property, this.candidate)
+                        : MALFORMED;
+            }
+            long property = value instanceof Long number
+                    ? number
+                    : this.convertNumber(value, lookup);
+            return Long.compare(property, this.candidate);
+        }
+    }
 }
@@ -4,15 +4,16 @@ import io.conditionals.condition.ConditionalOnMapProperties;
 import io.conditionals.condition.ConditionalOnMapProperty;
 import io.conditionals.condition.spec.MapMatchType;
 import io.conditionals.condition.spec.MatchingPropertySpec;
+import io.conditionals.condition.spec.PropertyLookup;
 import io.conditionals.condition.spec.PropertySpecMatcher;
 import io.conditionals.condition.utils.ConditionUtils;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.convert.ConversionException;
-import org.springframework.core.env.PropertyResolver;
 import org.springframework.util.Assert;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,16 +30,20 @@ import java.util.Objects;
  *
  * <p><b>Property resolution</b></p>
  * <p>The {@link Spec} overrides
- * {@link io.conditionals.condition.spec.PropertySpec#collectProperties(PropertyResolver, List, List, PropertySpecMatcher)}
- * to materialize a map by reading {@code prefix + name + "." + key} for each candidate key.</p>
+ * {@link io.conditionals.condition.spec.PropertySpec#collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)}
+ * to materialize a map by reading {@code prefix + name + "." + key} for each candidate key, with one lookup per
+ * sub-key.</p>
  *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe. Matcher/spec instances are created per evaluation.</p>
+ * <p>This type is stateless and thread-safe. The matcher is a shared stateless instance and specs are cached
+ * by {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
  */
 public class OnMapPropertyCondition extends PropertySpringBootCondition<Map<String, String>, OnMapPropertyCondition.Spec> {
+    private static final Matcher MATCHER = new Matcher();
+
     @Override
     protected Class<? extends Annotation> getAnnotationClass() {
         return ConditionalOnMapProperty.class;
@@ -56,7 +61,7 @@ public class OnMapPropertyCondition extends PropertySpringBootCondition<Map<Stri
 
     @Override
     protected PropertySpecMatcher<Map<String, String>, Spec> createPropertySpecMatcher() {
-        return new Matcher();
+        return MATCHER;
     }
 
     /**
@@ -144,7 +149,7 @@ public class OnMapPropertyCondition extends PropertySpringBootCondition<Map<Stri
                 for (int i = 0; i < pairs.length; i += 2) {
                     map.put(pairs[i], pairs[i + 1]);
                 }
-                return map;
+                return Collections.unmodifiableMap(map);
             });
         }
 
@@ -155,22 +160,23 @@ public class OnMapPropertyCondition extends PropertySpringBootCondition<Map<Stri
          * {@code prefix + name + "." + k}. Missing sub-keys are reported as missing unless
          * {@link #isMatchIfMissing()} is {@code true}.</p>
          *
-         * @param resolver property resolver
+         * @param lookup single-pass property lookup
          * @param missing output list of missing property names
          * @param nonMatching output list of non-matching property names
+         * @param malformed output list of property names with a sub-key that cannot be converted
          * @param matcher matcher used for comparison
          */
         @Override
-        public void collectProperties(PropertyResolver resolver, List<String> missing, List<String> nonMatching, PropertySpecMatcher<Map<String, String>, Spec> matcher) {
+        public void collectProperties(PropertyLookup lookup, List<String> missing, List<String> nonMatching, List<String> malformed, PropertySpecMatcher<Map<String, String>, Spec> matcher) {
             for (String name : this.getNames()) {
                 try {
                     Map<String, String> propertyMap = new HashMap<>();
                     boolean anyKeyFound = false;
                     for (String mapKey : this.getHavingValue().keySet()) {
                         String key = this.getPrefix() + name + "." + mapKey;
-                        String property = resolver.getProperty(key, String.class);
-                        if (property != null) {
-                            propertyMap.put(mapKey, property);
+                        Object value = lookup.find(key);
+                        if (value != null) {
+                            propertyMap.put(mapKey, lookup.convert(value, String.class));
                             anyKeyFound = true;
                         }
                     }
@@ -186,7 +192,7 @@ public class OnMapPropertyCondition extends PropertySpringBootCondition<Map<Stri
                         nonMatching.add(name);
                     }
                 } catch (ConversionException e) {
-                    nonMatching.add(name);
+                    malformed.add(name);
                 }
             }
         }
@@ -1,24 +1,98 @@
 package io.conditionals.condition.impl;
 
 import io.conditionals.condition.ConditionalOnPortAvailable;
+import io.conditionals.condition.spec.PortProbeStrategy;
 import io.conditionals.condition.utils.ConditionUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionMessage;
 import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link org.springframework.boot.autoconfigure.condition.SpringBootCondition} implementation backing
  * {@link io.conditionals.condition.ConditionalOnPortAvailable}.
  *
- * <p>This condition matches when all configured ports can be bound using {@link ServerSocket}.
- * Evaluation probes each port by attempting to create a server socket, enabling {@link ServerSocket#setReuseAddress(boolean)}
- * and closing it immediately.</p>
+ * <p>This condition matches when all configured ports are available. How availability is determined depends on
+ * {@link ConditionalOnPortAvailable#strategy()}:</p>
+ * <ul>
+ *     <li>{@link PortProbeStrategy#BIND} probes each port by binding a {@link ServerSocket} and closing it
+ *     immediately. A port is available if it can be bound.</li>
+ *     <li>{@link PortProbeStrategy#LISTENING_SOCKETS} binds nothing and reads the kernel's tables of listening
+ *     sockets instead. A port is available unless a socket is listening on it (see below).</li>
+ * </ul>
+ * <p>Reserving declarations always bind, and keep the socket open (see below).</p>
+ *
+ * <p><b>Probing</b></p>
+ * <ul>
+ *     <li>All distinct ports of a declaration are probed concurrently on daemon threads of a shared, unbounded
+ *     pool, and the evaluation waits for all of them.</li>
+ *     <li>A probe that does not complete within {@link ConditionalOnPortAvailable#timeout()} counts as
+ *     unavailable, as does a probe that fails, for example because the port is out of range.</li>
+ *     <li>Each port is probed once per refresh (see {@link ConditionOutcomeMemo}); other declarations naming the
+ *     same port reuse the result, including its timeout.</li>
+ *     <li>The outcome names every unavailable port.</li>
+ * </ul>
+ *
+ * <p><b>Listening sockets</b></p>
+ * <p>With {@link PortProbeStrategy#LISTENING_SOCKETS}, no socket is bound. {@code /proc/net/tcp} and
+ * {@code /proc/net/tcp6} are read once per refresh into a bitset of listening ports, and every declaration using the
+ * strategy is answered from that snapshot. A port is then unavailable only if a socket is listening on it, on any
+ * address; ports that could not be bound for other reasons, such as privileged ports, count as available. Where the
+ * tables cannot be read, the condition binds sockets as with {@link PortProbeStrategy#BIND}.</p>
+ *
+ * <p><b>Reservation</b></p>
+ * <p>With {@link ConditionalOnPortAvailable#reserve()}, each port is bound with a
+ * {@link java.nio.channels.ServerSocketChannel} that stays open in the {@link PortReservations} bean of the bean
+ * factory, for the application to take over. Reserving always binds, regardless of the strategy. Ports reserved by
+ * the application count as available for every other declaration. A port whose probe binds it only after
+ * {@link ConditionalOnPortAvailable#timeout()} has elapsed is released again by the probe, as are the ports chosen by
+ * a range scan that finds fewer than {@link ConditionalOnPortAvailable#minFree()}, so that a declaration that does
+ * not match holds no ports.</p>
+ *
+ * <p><b>Ranges</b></p>
+ * <p>With {@link ConditionalOnPortAvailable#range()}, the condition matches when at least
+ * {@link ConditionalOnPortAvailable#minFree()} ports of the range are available, in addition to the explicit ports.
+ * The range is scanned once per refresh and declaration:</p>
+ * <ul>
+ *     <li>Candidates are kept in a bitset of the range. With {@link PortProbeStrategy#LISTENING_SOCKETS}, ports
+ *     with a listening socket are cleared from it in one operation and the remaining ports are chosen without
+ *     binding.</li>
+ *     <li>Otherwise, candidates are probed one at a time on the evaluating thread, in ascending order, by binding a
+ *     {@link ServerSocketChannel}, or reserved with {@link ConditionalOnPortAvailable#reserve()}. Binding does not
+ *     wait on the network, so the scan is not spread over the probe pool.</li>
+ *     <li>Ports reserved by the application are skipped, so that overlapping ranges choose distinct ports. A
+ *     reserving declaration that is evaluated again gets the ports it reserved first (see
+ *     {@link PortReservations}).</li>
+ *     <li>The scan stops as soon as enough ports are found, or when {@link ConditionalOnPortAvailable#timeout()}
+ *     has elapsed.</li>
+ * </ul>
+ * <p>The chosen ports are published to the environment as a comma-separated list under
+ * {@link ConditionalOnPortAvailable#property()}, if set. Publishing does not discard memoized outcomes.</p>
  *
  * <p><b>Limitations</b></p>
  * <ul>
@@ -27,13 +101,26 @@ import java.util.Arrays;
  * </ul>
  *
  * <p><b>Thread safety</b></p>
- * <p>This type is stateless and thread-safe.</p>
+ * <p>This type is thread-safe. Instances hold no state; probes run on a daemon thread pool shared by all
+ * instances, and their results are kept per bean factory by {@link ConditionOutcomeMemo}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
  */
 public class OnPortAvailableCondition extends MatchingSpringBootCondition {
     private static final String VALUE = "value";
+    private static final String TIMEOUT = "timeout";
+    private static final String STRATEGY = "strategy";
+    private static final String RESERVE = "reserve";
+    private static final String RANGE = "range";
+    private static final String MIN_FREE = "minFree";
+    private static final String PROPERTY = "property";
+    private static final Log logger = LogFactory.getLog(OnPortAvailableCondition.class);
+    private static final ExecutorService PROBES = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "conditionals-port-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Override
     protected Class<? extends Annotation> getAnnotationClass() {
@@ -43,21 +130,240 @@ public class OnPortAvailableCondition extends MatchingSpringBootCondition {
     @Override
     protected ConditionOutcome determineOutcome(ConditionMessage.Builder message, ConditionContext context, AnnotationAttributes annotationAttributes) {
         int[] ports = (int[]) annotationAttributes.get(VALUE);
-        boolean portAvailable = isPortAvailable(ports);
-        return portAvailable
-                ? ConditionOutcome.match()
-                : ConditionUtils.noMatchBecause(message, "Port ", Arrays.toString(ports), " is not available");
+        String range = annotationAttributes.getString(RANGE);
+        Assert.state(ports.length > 0 || StringUtils.hasText(range), "The value or range attribute must be specified");
+        Duration timeout = DurationStyle.detectAndParse(annotationAttributes.getString(TIMEOUT));
+        PortProbeStrategy strategy = annotationAttributes.getEnum(STRATEGY);
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        @Nullable PortReservations reservations = beanFactory != null && annotationAttributes.getBoolean(RESERVE)
+                ? PortReservations.obtain(beanFactory)
+                : null;
+        @Nullable ListeningPorts listeningPorts = reservations == null && strategy == PortProbeStrategy.LISTENING_SOCKETS
+                ? ConditionOutcomeMemo.getDeclarationResult(this.getClass(), context, ListeningPorts.class, ListeningPorts::read)
+                : null;
+        List<String> unavailable = listeningPorts != null && listeningPorts.isAvailable()
+                ? findListening(ports, listeningPorts, findReservations(beanFactory))
+                : this.bind(ports, timeout, context, reservations);
+        if (!unavailable.isEmpty()) {
+            return ConditionUtils.noMatchBecause(message, unavailable.size() == 1 ? "Port " : "Ports ",
+                    String.join(", ", unavailable), unavailable.size() == 1 ? " is" : " are", " not available");
+        }
+        if (!StringUtils.hasText(range)) return ConditionOutcome.match();
+
+        PortRange portRange = PortRange.parse(range);
+        int minFree = annotationAttributes.getNumber(MIN_FREE);
+        Assert.state(minFree > 0 && minFree <= portRange.size(),
+                () -> "minFree must be between 1 and the size of range " + range + ", but was " + minFree);
+        @Nullable ListeningPorts snapshot = listeningPorts != null && listeningPorts.isAvailable() ? listeningPorts : null;
+        RangeDeclaration declaration = new RangeDeclaration(portRange, minFree, snapshot != null, reservations != null);
+        RangeScan scan = ConditionOutcomeMemo.getDeclarationResult(this.getClass(), context, declaration,
+                () -> reservations != null
+                        ? reservations.reserveOnce(declaration, () -> scan(portRange, minFree, timeout, null, reservations, reservations))
+                        : scan(portRange, minFree, timeout, snapshot, null, findReservations(beanFactory)));
+        if (scan.ports().length < minFree) {
+            return ConditionUtils.noMatchBecause(message, "Found ", String.valueOf(scan.ports().length), " of ", String.valueOf(minFree),
+                    " required free ports in range ", portRange.toString(), scan.timedOut() ? " (timed out)" : "");
+        }
+
+        String property = annotationAttributes.getString(PROPERTY);
+        if (StringUtils.hasText(property)) {
+            ChosenPortsPropertySource.publish(context, property, scan.ports());
+        }
+        return ConditionOutcome.match();
+    }
+
+    private static RangeScan scan(PortRange range,
+                                  int minFree,
+                                  Duration timeout,
+                                  @Nullable ListeningPorts listeningPorts,
+                                  @Nullable PortReservations reservations,
+                                  @Nullable PortReservations existingReservations) {
+        BitSet candidates = new BitSet(range.to() + 1);
+        candidates.set(range.from(), range.to() + 1);
+        if (listeningPorts != null) {
+            listeningPorts.clearListening(candidates);
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int[] chosen = new int[minFree];
+        int found = 0;
+        boolean timedOut = false;
+        for (int port = candidates.nextSetBit(range.from()); port >= 0 && found < minFree; port = candidates.nextSetBit(port + 1)) {
+            if (System.nanoTime() - deadline > 0) {
+                timedOut = true;
+                break;
+            }
+            if (existingReservations != null && existingReservations.isReserved(port)) continue;
+
+            boolean available = listeningPorts != null
+                    || (reservations != null ? reservations.reserve(port) : canBind(port));
+            if (available) {
+                chosen[found++] = port;
+            }
+        }
+        if (found < minFree && reservations != null) {
+            for (int i = 0; i < found; i++) {
+                reservations.release(chosen[i]);
+            }
+        }
+
+        return new RangeScan(Arrays.copyOf(chosen, found), timedOut);
+    }
+
+    private static boolean canBind(int port) {
+        try (ServerSocketChannel channel = ServerSocketChannel.open()) {
+            channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            channel.bind(new InetSocketAddress(port));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static @Nullable PortReservations findReservations(@Nullable ConfigurableListableBeanFactory beanFactory) {
+        return beanFactory != null && beanFactory.containsSingleton(PortReservations.BEAN_NAME)
+                ? beanFactory.getBean(PortReservations.BEAN_NAME, PortReservations.class)
+                : null;
     }
 
-    private boolean isPortAvailable(int[] ports) {
+    private static List<String> findListening(int[] ports, ListeningPorts listeningPorts, @Nullable PortReservations reservations) {
+        List<String> unavailable = new ArrayList<>();
         for (int port : ports) {
-            try (ServerSocket socket = new ServerSocket(port)) {
-                socket.setReuseAddress(true);
-            } catch (IOException e) {
-                return false;
+            String name = String.valueOf(port);
+            boolean reserved = reservations != null && reservations.isReserved(port);
+            if (!reserved && listeningPorts.isListening(port) && !unavailable.contains(name)) {
+                unavailable.add(name);
             }
         }
 
-        return true;
+        return unavailable;
+    }
+
+    private List<String> bind(int[] ports, Duration timeout, ConditionContext context, @Nullable PortReservations reservations) {
+        @Nullable PortReservations existingReservations = reservations != null ? reservations : findReservations(context.getBeanFactory());
+        Map<Integer, CompletableFuture<Availability>> probes = new LinkedHashMap<>();
+        for (int port : ports) {
+            Object key = reservations != null ? new Reservation(port) : port;
+            probes.computeIfAbsent(port, ignored -> ConditionOutcomeMemo.getDeclarationResult(this.getClass(), context, key,
+                    () -> probeAsync(port, timeout, reservations, existingReservations)));
+        }
+
+        List<String> unavailable = new ArrayList<>();
+        probes.forEach((port, probe) -> {
+            Availability availability = probe.join();
+            if (availability != Availability.AVAILABLE && availability != Availability.RESERVED) {
+                unavailable.add(availability == Availability.TIMED_OUT ? port + " (timed out)" : String.valueOf(port));
+            }
+        });
+        return unavailable;
+    }
+
+    /**
+     * Probe a port on {@link #PROBES}, completing with {@link Availability#TIMED_OUT} once the timeout elapses. A
+     * probe that reserves the port after the timeout already completed the result releases it again. A probe that
+     * fails completes with {@link Availability#UNAVAILABLE}, so that the memoized result never completes
+     * exceptionally.
+     */
+    private static CompletableFuture<Availability> probeAsync(int port,
+                                                              Duration timeout,
+                                                              @Nullable PortReservations reservations,
+                                                              @Nullable PortReservations existingReservations) {
+        CompletableFuture<Availability> result = new CompletableFuture<Availability>()
+                .completeOnTimeout(Availability.TIMED_OUT, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        PROBES.execute(() -> {
+            try {
+                Availability availability = probe(port, reservations, existingReservations);
+                if (!result.complete(availability) && availability == Availability.RESERVED && reservations != null) {
+                    reservations.release(port);
+                }
+            } catch (RuntimeException e) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Probing port %d failed; it counts as unavailable".formatted(port), e);
+                }
+                result.complete(Availability.UNAVAILABLE);
+            }
+        });
+        return result;
+    }
+
+    private static Availability probe(int port,
+                                      @Nullable PortReservations reservations,
+                                      @Nullable PortReservations existingReservations) {
+        if (reservations != null) {
+            if (reservations.isReserved(port)) return Availability.AVAILABLE;
+            if (reservations.reserve(port)) return Availability.RESERVED;
+            return reservations.isReserved(port) ? Availability.AVAILABLE : Availability.UNAVAILABLE;
+        }
+        if (existingReservations != null && existingReservations.isReserved(port)) {
+            return Availability.AVAILABLE;
+        }
+
+        try (ServerSocket socket = new ServerSocket(port)) {
+            socket.setReuseAddress(true);
+            return Availability.AVAILABLE;
+        } catch (IOException e) {
+            return Availability.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * Memo key of a port reservation, kept apart from plain probes of the same port.
+     */
+    private record Reservation(int port) {
+    }
+
+    /**
+     * Inclusive range of TCP ports.
+     */
+    private record PortRange(int from, int to) {
+        private static PortRange parse(String range) {
+            String trimmed = range.trim();
+            int separator = trimmed.indexOf('-');
+            try {
+                PortRange portRange = separator < 0
+                        ? new PortRange(Integer.parseInt(trimmed), Integer.parseInt(trimmed))
+                        : new PortRange(Integer.parseInt(trimmed.substring(0, separator).trim()),
+                                Integer.parseInt(trimmed.substring(separator + 1).trim()));
+                Assert.state(portRange.from() > 0 && portRange.from() <= portRange.to() && portRange.to() <= 65535,
+                        () -> "Invalid port range " + range);
+                return portRange;
+            } catch (NumberFormatException e) {
+                throw new IllegalStateException("Invalid port range " + range, e);
+            }
+        }
+
+        private int size() {
+            return this.to - this.from + 1;
+        }
+
+        @Override
+        public String toString() {
+            return this.from + "-" + this.to;
+        }
+    }
+
+    /**
+     * Memo key of a range scan.
+     */
+    private record RangeDeclaration(PortRange range, int minFree, boolean listening, boolean reserve) {
+    }
+
+    /**
+     * Ports chosen by a range scan, in ascending order, and whether the scan ran out of time.
+     */
+    private record RangeScan(int[] ports, boolean timedOut) {
+    }
+
+    /**
+     * Result of probing a single port.
+     */
+    private enum Availability {
+        AVAILABLE,
+        /**
+         * Available and bound by this probe into {@link PortReservations}.
+         */
+        RESERVED,
+        UNAVAILABLE,
+        TIMED_OUT
     }
 }
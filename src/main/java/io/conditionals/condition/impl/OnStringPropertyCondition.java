@@ -7,10 +7,15 @@ import io.conditionals.condition.spec.PropertySpecMatcher;
 import io.conditionals.condition.spec.StringMatchType;
 import io.conditionals.condition.utils.ConditionUtils;
 import org.jspecify.annotations.Nullable;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 import java.lang.annotation.Annotation;
 import java.util.Locale;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
@@ -34,7 +39,8 @@ import java.util.regex.PatternSyntaxException;
  * </ul>
  *
  * <p><b>Thread safety</b></p>
- * <p>Instances are stateless and therefore thread-safe. Nested matcher/spec objects are created per evaluation.</p>
+ * <p>Instances are stateless and therefore thread-safe. The matcher is a shared stateless instance and specs are
+ * cached by {@link io.conditionals.condition.spec.PropertySpecCache}.</p>
  *
  * @author Maksym Uimanov
  * @since 1.0
@@ -42,6 +48,8 @@ import java.util.regex.PatternSyntaxException;
  * @see io.conditionals.condition.ConditionalOnStringProperties
  */
 public class OnStringPropertyCondition extends PropertySpringBootCondition<String, OnStringPropertyCondition.Spec> {
+    private static final Matcher MATCHER = new Matcher();
+
     @Override
     protected Class<? extends Annotation> getAnnotationClass() {
         return ConditionalOnStringProperty.class;
@@ -59,7 +67,7 @@ public class OnStringPropertyCondition extends PropertySpringBootCondition<Strin
 
     @Override
     protected PropertySpecMatcher<String, Spec> createPropertySpecMatcher() {
-        return new Matcher();
+        return MATCHER;
     }
 
     /**
@@ -69,34 +77,40 @@ public class OnStringPropertyCondition extends PropertySpringBootCondition<Strin
      *
      * <p><b>Normalization</b></p>
      * <ul>
-     *     <li>If {@link io.conditionals.condition.ConditionalOnStringProperty#ignoreCase()} is enabled,
-     *     both the property value and candidate value are lower-cased using {@link Locale#ROOT}.</li>
      *     <li>If {@link io.conditionals.condition.ConditionalOnStringProperty#trim()} is enabled,
      *     both values are trimmed prior to comparison.</li>
+     *     <li>If {@link io.conditionals.condition.ConditionalOnStringProperty#ignoreCase()} is enabled,
+     *     both the property value and candidate value are lower-cased using {@link Locale#ROOT}. For
+     *     {@link StringMatchType#MATCHES} the precompiled pattern is case-insensitive instead and neither value is
+     *     lower-cased.</li>
+     *     <li>The candidate of the spec is normalized once, when the spec is created; only the property value is
+     *     normalized per comparison.</li>
      * </ul>
      */
     public static class Matcher implements PropertySpecMatcher<String, Spec> {
         @Override
         public boolean compare(Spec spec, @Nullable String property, String candidate) {
             if (property == null) return false;
-            if (spec.ignoreCase) {
-                property = property.toLowerCase(Locale.ROOT);
-                candidate = candidate.toLowerCase(Locale.ROOT);
-            }
-            if (spec.trim) {
-                property = property.trim();
-                candidate = candidate.trim();
-            }
+            boolean lowerCase = spec.ignoreCase && spec.getMatchType() != StringMatchType.MATCHES;
+            property = normalize(property, spec.trim, lowerCase);
+            candidate = candidate == spec.getHavingValue()
+                    ? spec.normalizedCandidate
+                    : normalize(candidate, spec.trim, lowerCase);
             boolean result = switch (spec.getMatchType()) {
                 case EQUALS -> equals(property, candidate);
                 case CONTAINS -> contains(property, candidate);
                 case STARTS_WITH -> startsWith(property, candidate);
                 case ENDS_WITH -> endsWith(property, candidate);
-                case MATCHES -> matches(property, candidate);
+                case MATCHES -> matches(property, spec.getPattern());
             };
             return ConditionUtils.revert(result, spec.isNot());
         }
 
+        private static String normalize(String value, boolean trim, boolean lowerCase) {
+            if (trim) value = value.trim();
+            return lowerCase ? value.toLowerCase(Locale.ROOT) : value;
+        }
+
         private static boolean equals(String property, String candidate) {
             return property.equals(candidate);
         }
@@ -113,12 +127,8 @@ public class OnStringPropertyCondition extends PropertySpringBootCondition<Strin
             return property.endsWith(candidate);
         }
 
-        private static boolean matches(String property, String candidate) {
-            try {
-                return property.matches(candidate);
-            } catch (PatternSyntaxException e) {
-                return false;
-            }
+        private static boolean matches(String property, Pattern pattern) {
+            return pattern.matcher(property).matches();
         }
     }
 
@@ -128,12 +138,24 @@ public class OnStringPropertyCondition extends PropertySpringBootCondition<Strin
      *
      * <p>In addition to the common attributes handled by {@link MatchingPropertySpec}, this spec captures
      * {@code ignoreCase} and {@code trim} options used by {@link Matcher}.</p>
+     *
+     * <p><b>Regular expressions</b></p>
+     * <p>For {@link StringMatchType#MATCHES} the (optionally trimmed) candidate is compiled once at construction,
+     * using {@link Pattern#CASE_INSENSITIVE} and {@link Pattern#UNICODE_CASE} when {@code ignoreCase} is set.
+     * Compiled patterns are shared across specs through a bounded cache. An invalid pattern is reported once when
+     * it is first compiled and never matches.</p>
      */
     public static class Spec extends MatchingPropertySpec<String, Spec, StringMatchType> {
         private static final String IGNORE_CASE = "ignoreCase";
         private static final String TRIM = "trim";
+        private static final int PATTERN_CACHE_CAPACITY = 256;
+        private static final Pattern NEVER_MATCHING = Pattern.compile("(?!)");
+        private static final Log logger = LogFactory.getLog(OnStringPropertyCondition.class);
+        private static final ConcurrentLruCache<PatternKey, Pattern> PATTERN_CACHE = new ConcurrentLruCache<>(PATTERN_CACHE_CAPACITY, Spec::compile);
         private final boolean ignoreCase;
         private final boolean trim;
+        private final String normalizedCandidate;
+        private final @Nullable Pattern pattern;
 
         /**
          * Create a new spec from annotation attributes.
@@ -145,6 +167,48 @@ public class OnStringPropertyCondition extends PropertySpringBootCondition<Strin
             super(annotationType, annotationAttributes);
             this.ignoreCase = annotationAttributes.getBoolean(IGNORE_CASE);
             this.trim = annotationAttributes.getBoolean(TRIM);
+            this.normalizedCandidate = Matcher.normalize(this.getHavingValue(), this.trim,
+                    this.ignoreCase && this.getMatchType() != StringMatchType.MATCHES);
+            this.pattern = this.getMatchType() == StringMatchType.MATCHES
+                    ? PATTERN_CACHE.get(new PatternKey(this.trim ? this.getHavingValue().trim() : this.getHavingValue(), this.ignoreCase))
+                    : null;
+        }
+
+        /**
+         * Return the precompiled pattern used for {@link StringMatchType#MATCHES}.
+         *
+         * @return compiled pattern
+         * @throws IllegalStateException if the match type is not {@link StringMatchType#MATCHES}
+         */
+        public Pattern getPattern() {
+            Assert.state(this.pattern != null, "A pattern is only available for the MATCHES match type");
+            return this.pattern;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            return super.equals(other) && this.ignoreCase == ((Spec) other).ignoreCase && this.trim == ((Spec) other).trim;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * super.hashCode() + Boolean.hashCode(this.ignoreCase)) + Boolean.hashCode(this.trim);
+        }
+
+        private static Pattern compile(PatternKey key) {
+            int flags = key.ignoreCase()
+                    ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE
+                    : 0;
+            try {
+                return Pattern.compile(key.regex(), flags);
+            } catch (PatternSyntaxException e) {
+                logger.warn("Invalid regular expression '%s' in @%s; it will never match: %s"
+                        .formatted(key.regex(), ConditionalOnStringProperty.class.getSimpleName(), e.getDescription()));
+                return NEVER_MATCHING;
+            }
+        }
+
+        private record PatternKey(String regex, boolean ignoreCase) {
         }
     }
 }
@@ -0,0 +1,213 @@
+package io.conditionals.condition.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the server sockets bound by {@code @ConditionalOnPortAvailable(reserve = true)}, from which the
+ * application adopts them.
+ *
+ * <p>Without reservation, the condition binds a port, releases it, and the server binds it again, leaving a window
+ * in which another process can take the port. With reservation, the condition keeps the bound
+ * {@link ServerSocketChannel} here, and a listener created by the application takes it over with
+ * {@link #take(int)}: the port is bound once and owned without a gap.</p>
+ *
+ * <p><b>Lifecycle</b></p>
+ * <ul>
+ *     <li>The registry is registered as singleton {@value #BEAN_NAME} of the bean factory when the first port is
+ *     reserved, and can be injected by type.</li>
+ *     <li>Channels must be taken while beans are created, for example in an initializer or factory method.</li>
+ *     <li>Channels that were not taken are closed when the context starts its lifecycle beans, in the earliest
+ *     phase, so that servers binding ports themselves, such as an embedded web server, find them free.</li>
+ *     <li>Channels that were not taken are also closed when the bean factory is destroyed, for example after a
+ *     failed refresh.</li>
+ * </ul>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is thread-safe.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see OnPortAvailableCondition
+ */
+public final class PortReservations implements SmartLifecycle, DisposableBean {
+    /**
+     * Name of the registry bean.
+     */
+    public static final String BEAN_NAME = "conditionalsPortReservations";
+    private static final Log logger = LogFactory.getLog(PortReservations.class);
+    private final Map<Integer, ServerSocketChannel> channels = new ConcurrentHashMap<>();
+    private final Map<Object, Object> declarations = new HashMap<>();
+    private volatile boolean running;
+
+    private PortReservations() {
+    }
+
+    /**
+     * Return the registry of the given bean factory, registering it on first use.
+     *
+     * @param beanFactory bean factory of the refresh
+     * @return registry
+     */
+    static PortReservations obtain(ConfigurableListableBeanFactory beanFactory) {
+        synchronized (beanFactory) {
+            if (beanFactory.containsSingleton(BEAN_NAME)) {
+                return beanFactory.getBean(BEAN_NAME, PortReservations.class);
+            }
+
+            PortReservations reservations = new PortReservations();
+            beanFactory.registerSingleton(BEAN_NAME, reservations);
+            if (beanFactory instanceof DefaultSingletonBeanRegistry registry) {
+                registry.registerDisposableBean(BEAN_NAME, reservations);
+            }
+            return reservations;
+        }
+    }
+
+    /**
+     * Bind a server socket channel to the given port on the wildcard address and keep it.
+     *
+     * @param port TCP port
+     * @return {@code true} if this call bound the port, {@code false} if it could not be bound, including because
+     * the registry already holds it
+     */
+    boolean reserve(int port) {
+        if (this.channels.containsKey(port)) return false;
+        try {
+            ServerSocketChannel channel = ServerSocketChannel.open();
+            try {
+                channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+                channel.bind(new InetSocketAddress(port));
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                return false;
+            }
+            ServerSocketChannel existing = this.channels.putIfAbsent(port, channel);
+            if (existing != null) {
+                channel.close();
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Return the ports reserved for the given declaration, reserving them on first use. Spring evaluates a
+     * declaration more than once per refresh; later evaluations get the ports of the first one instead of reserving
+     * others, whether or not outcomes are memoized.
+     *
+     * @param declaration structurally comparable, immutable description of the declaration
+     * @param reservation reservation of the ports, invoked at most once per declaration
+     * @param <T> result type
+     * @return result of the first reservation for the declaration
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> T reserveOnce(Object declaration, Supplier<T> reservation) {
+        Object result = this.declarations.get(declaration);
+        if (result == null) {
+            result = reservation.get();
+            this.declarations.put(declaration, result);
+        }
+
+        return (T) result;
+    }
+
+    /**
+     * Return whether this registry holds the given port.
+     *
+     * @param port TCP port
+     * @return {@code true} if the port is reserved and not taken yet
+     */
+    public boolean isReserved(int port) {
+        return this.channels.containsKey(port);
+    }
+
+    /**
+     * Return the reserved ports that have not been taken yet.
+     *
+     * @return reserved ports in ascending order
+     */
+    public Set<Integer> getPorts() {
+        return new TreeSet<>(this.channels.keySet());
+    }
+
+    /**
+     * Take over the channel bound to the given port. The caller owns the channel afterwards and is responsible
+     * for closing it.
+     *
+     * @param port TCP port
+     * @return bound channel, or {@code null} if the port is not reserved or was already taken
+     */
+    public @Nullable ServerSocketChannel take(int port) {
+        return this.channels.remove(port);
+    }
+
+    @Override
+    public void start() {
+        this.release();
+        this.running = true;
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public void destroy() {
+        this.release();
+    }
+
+    /**
+     * Close the channel bound to the given port, if this registry still holds it. Used to give up a reservation
+     * that the declaration reserving it no longer uses, such as one completing after the probe timed out.
+     *
+     * @param port TCP port
+     */
+    void release(int port) {
+        ServerSocketChannel channel = this.channels.remove(port);
+        if (channel == null) return;
+        try {
+            channel.close();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Released reserved port %d that was not taken".formatted(port));
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to release reserved port %d: %s".formatted(port, e.getMessage()));
+        }
+    }
+
+    private void release() {
+        for (Integer port : this.getPorts()) {
+            this.release(port);
+        }
+    }
+}
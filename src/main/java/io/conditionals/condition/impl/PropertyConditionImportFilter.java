@@ -0,0 +1,158 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.utils.ConditionMetadataCodec;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * {@link AutoConfigurationImportFilter} that evaluates this library's property conditions from auto-configuration
+ * metadata, before the candidate classes are loaded or parsed.
+ *
+ * <p>Spring Boot discards auto-configuration candidates early for its own conditions using
+ * {@code META-INF/spring-autoconfigure-metadata.properties}. This filter does the same for class-level declarations
+ * of {@code @ConditionalOnStringProperty}, {@code @ConditionalOnCharacterProperty},
+ * {@code @ConditionalOnIntegerProperty}, {@code @ConditionalOnLongProperty}, {@code @ConditionalOnFloatProperty},
+ * {@code @ConditionalOnDoubleProperty}, {@code @ConditionalOnDurationProperty},
+ * {@code @ConditionalOnCollectionProperty} and {@code @ConditionalOnMapProperty}, recorded as
+ * {@code <class name>.<annotation simple name>=<declarations>} in the format of {@link ConditionMetadataCodec}.
+ * Entries are read from Spring Boot's metadata and from {@value ConditionMetadataCodec#METADATA_LOCATION}; when
+ * both describe a class, the declarations of both must match.</p>
+ *
+ * <p><b>Semantics</b></p>
+ * <ul>
+ *     <li>Each declaration is evaluated by the condition backing the annotation, against the same environment and
+ *     with the same diagnostics as during configuration class parsing. A candidate is discarded when any
+ *     declaration does not match, and the outcome is recorded in the {@link ConditionEvaluationReport}.</li>
+ *     <li>Candidates without metadata, and entries that cannot be decoded, are kept; their conditions are
+ *     evaluated when the class is parsed, as usual.</li>
+ *     <li>Conditions of kept candidates are evaluated again when the class is parsed. The filter only removes
+ *     candidates that would not match.</li>
+ * </ul>
+ *
+ * <p>{@code @ConditionalOnEnumProperty} is not filtered because evaluating it requires loading the enum type.</p>
+ *
+ * <p><b>Registration</b></p>
+ * <p>The filter is registered in {@code META-INF/spring.factories}; Spring Boot invokes
+ * {@link BeanFactoryAware} and {@link EnvironmentAware} callbacks before {@link #match}.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see ConditionMetadataCodec
+ */
+public class PropertyConditionImportFilter implements AutoConfigurationImportFilter, BeanFactoryAware, EnvironmentAware {
+    private static final Log logger = LogFactory.getLog(PropertyConditionImportFilter.class);
+    private static final List<PropertySpringBootCondition<?, ?>> CONDITIONS = List.of(
+            new OnStringPropertyCondition(),
+            new OnCharacterPropertyCondition(),
+            new OnIntegerPropertyCondition(),
+            new OnLongPropertyCondition(),
+            new OnFloatPropertyCondition(),
+            new OnDoublePropertyCondition(),
+            new OnDurationPropertyCondition(),
+            new OnCollectionPropertyCondition(),
+            new OnMapPropertyCondition()
+    );
+    private @Nullable ConfigurableListableBeanFactory beanFactory;
+    private @Nullable Environment environment;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        Assert.isInstanceOf(ConfigurableListableBeanFactory.class, beanFactory);
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean[] match(@Nullable String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        Assert.state(this.beanFactory != null && this.environment != null, "Bean factory and environment must be set");
+        ConditionContext context = new BeanFactoryConditionContext(this.beanFactory, this.environment);
+        Properties generatedMetadata = loadGeneratedMetadata(this.beanFactory.getBeanClassLoader());
+        ConditionEvaluationReport report = ConditionEvaluationReport.find(this.beanFactory);
+        boolean[] match = new boolean[autoConfigurationClasses.length];
+        for (int i = 0; i < autoConfigurationClasses.length; i++) {
+            String autoConfigurationClass = autoConfigurationClasses[i];
+            match[i] = autoConfigurationClass == null
+                    || this.match(autoConfigurationClass, autoConfigurationMetadata, generatedMetadata, context, report);
+        }
+
+        return match;
+    }
+
+    private boolean match(String autoConfigurationClass,
+                          AutoConfigurationMetadata autoConfigurationMetadata,
+                          Properties generatedMetadata,
+                          ConditionContext context,
+                          @Nullable ConditionEvaluationReport report) {
+        for (PropertySpringBootCondition<?, ?> condition : CONDITIONS) {
+            String key = condition.getAnnotationClass().getSimpleName();
+            if (!this.match(autoConfigurationClass, autoConfigurationMetadata.get(autoConfigurationClass, key), condition, context, report)
+                    || !this.match(autoConfigurationClass, generatedMetadata.getProperty(autoConfigurationClass + "." + key), condition, context, report)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean match(String autoConfigurationClass,
+                          @Nullable String declarations,
+                          PropertySpringBootCondition<?, ?> condition,
+                          ConditionContext context,
+                          @Nullable ConditionEvaluationReport report) {
+        if (declarations != null) {
+            List<AnnotationAttributes> attributes;
+            try {
+                attributes = ConditionMetadataCodec.decode(condition.getAnnotationClass(), declarations);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring auto-configuration metadata of %s: %s".formatted(autoConfigurationClass, e.getMessage()));
+                return true;
+            }
+            for (AnnotationAttributes declaration : attributes) {
+                ConditionOutcome outcome = condition.checkAttributes(condition.getParentMessage(), context, declaration);
+                if (!outcome.isMatch()) {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Filtered auto-configuration %s: %s".formatted(autoConfigurationClass, outcome.getMessage()));
+                    }
+                    if (report != null) {
+                        report.recordConditionEvaluation(autoConfigurationClass, condition, outcome);
+                    }
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static Properties loadGeneratedMetadata(@Nullable ClassLoader classLoader) {
+        try {
+            return PropertiesLoaderUtils.loadAllProperties(ConditionMetadataCodec.METADATA_LOCATION, classLoader);
+        } catch (IOException e) {
+            logger.warn("Unable to load %s: %s".formatted(ConditionMetadataCodec.METADATA_LOCATION, e.getMessage()));
+            return new Properties();
+        }
+    }
+}
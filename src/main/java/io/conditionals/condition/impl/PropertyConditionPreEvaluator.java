@@ -0,0 +1,252 @@
+package io.conditionals.condition.impl;
+
+import io.conditionals.condition.utils.ConditionMetadataCodec;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Opt-in {@link ApplicationContextInitializer} that evaluates this library's property conditions in parallel,
+ * before Spring reaches them on the refresh thread.
+ *
+ * <p>Spring evaluates conditions one at a time while it processes configuration classes. When
+ * {@value #ENABLED_PROPERTY} is {@code true}, this initializer registers a {@link BeanDefinitionRegistryPostProcessor}
+ * that runs before configuration class processing and hands the conditions it can discover to the
+ * {@link ForkJoinPool#commonPool() common pool}. The refresh thread continues without waiting. When Spring later
+ * evaluates a condition, {@link ConditionOutcomeMemo} answers it from the pre-computed result, or evaluates it
+ * itself if the result is not available yet.</p>
+ *
+ * <p><b>Discovered conditions</b></p>
+ * <ul>
+ *     <li>Classes and {@code @Bean} methods of the bean definitions registered when the post-processor runs that
+ *     carry {@link AnnotatedBeanDefinition annotation metadata}, typically the application's primary sources.</li>
+ *     <li>Class-level declarations of auto-configuration candidates recorded in
+ *     {@value ConditionMetadataCodec#METADATA_LOCATION} and {@value #AUTO_CONFIGURATION_METADATA_LOCATION}, as read by
+ *     {@link PropertyConditionImportFilter}.</li>
+ * </ul>
+ * <p>Classes found later by component scanning are evaluated on the refresh thread as usual.</p>
+ *
+ * <p><b>Consistency</b></p>
+ * <p>Results belong to the environment generation they were computed against (see {@link ConditionOutcomeMemo}).
+ * Property sources added later, for example by {@code @PropertySource}, start a new generation, and results
+ * computed against the earlier one are not used. Failing evaluations are logged at debug level and repeated on the
+ * refresh thread, which reports them as usual.</p>
+ *
+ * <p><b>Lifetime</b></p>
+ * <p>The post-processor keeps the pre-evaluation and cancels it once configuration classes have been processed, or
+ * when the bean factory is destroyed, for example after a failed refresh. Evaluations that have not started by then
+ * are skipped, so no background work outlives the phase it serves.</p>
+ *
+ * <p><b>Registration</b></p>
+ * <p>The initializer is registered in {@code META-INF/spring.factories} and does nothing unless enabled. It
+ * requires {@value ConditionOutcomeMemo#ENABLED_PROPERTY} to be left enabled; otherwise pre-computed results could
+ * not be served, and the initializer logs that pre-evaluation is skipped.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see ConditionOutcomeMemo
+ */
+public class PropertyConditionPreEvaluator implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+    /**
+     * Property enabling parallel pre-evaluation.
+     */
+    public static final String ENABLED_PROPERTY = "conditionals.pre-evaluation.enabled";
+
+    /**
+     * Location of Spring Boot's auto-configuration metadata.
+     */
+    public static final String AUTO_CONFIGURATION_METADATA_LOCATION = "META-INF/spring-autoconfigure-metadata.properties";
+    private static final Log logger = LogFactory.getLog(PropertyConditionPreEvaluator.class);
+    private static final List<PropertySpringBootCondition<?, ?>> CONDITIONS = List.of(
+            new OnStringPropertyCondition(),
+            new OnCharacterPropertyCondition(),
+            new OnIntegerPropertyCondition(),
+            new OnLongPropertyCondition(),
+            new OnFloatPropertyCondition(),
+            new OnDoublePropertyCondition(),
+            new OnDurationPropertyCondition(),
+            new OnEnumPropertyCondition(),
+            new OnCollectionPropertyCondition(),
+            new OnMapPropertyCondition()
+    );
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        Environment environment = applicationContext.getEnvironment();
+        if (!environment.getProperty(ENABLED_PROPERTY, Boolean.class, false)) return;
+        if (!environment.getProperty(ConditionOutcomeMemo.ENABLED_PROPERTY, Boolean.class, true)) {
+            logger.warn("Skipping pre-evaluation of property conditions: %s requires %s to be enabled"
+                    .formatted(ENABLED_PROPERTY, ConditionOutcomeMemo.ENABLED_PROPERTY));
+            return;
+        }
+
+        applicationContext.addBeanFactoryPostProcessor(new PreEvaluationPostProcessor(this, environment));
+    }
+
+    /**
+     * Start evaluating the discoverable conditions of the given bean factory on the common pool.
+     *
+     * <p>Bean definitions are inspected on the calling thread; metadata is read and conditions are evaluated
+     * asynchronously. Cancelling the returned future skips the evaluations that have not started yet.</p>
+     *
+     * @param beanFactory bean factory of the refresh
+     * @param environment environment of the refresh
+     * @return future completing when every discovered condition has been evaluated
+     */
+    public CompletableFuture<Void> preEvaluate(ConfigurableListableBeanFactory beanFactory, Environment environment) {
+        ConditionOutcomeMemo.prepare(beanFactory, environment);
+        List<AnnotatedTypeMetadata> elements = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (beanDefinition instanceof AnnotatedBeanDefinition annotatedBeanDefinition) {
+                AnnotationMetadata metadata = annotatedBeanDefinition.getMetadata();
+                elements.add(metadata);
+                elements.addAll(metadata.getAnnotatedMethods(Bean.class.getName()));
+            }
+        }
+
+        ConditionContext context = new BeanFactoryConditionContext(beanFactory, environment);
+        CompletableFuture<Void> preEvaluation = new CompletableFuture<>();
+        ForkJoinPool.commonPool().execute(() -> {
+            try {
+                List<Runnable> evaluations = new ArrayList<>();
+                for (AnnotatedTypeMetadata element : elements) {
+                    for (PropertySpringBootCondition<?, ?> condition : CONDITIONS) {
+                        if (condition.getAttributesStream(element).anyMatch(Objects::nonNull)) {
+                            evaluations.add(() -> condition.getMatchOutcome(context, element));
+                        }
+                    }
+                }
+                if (!preEvaluation.isDone()) {
+                    collectMetadataEvaluations(context, beanFactory.getBeanClassLoader(), evaluations);
+                }
+                evaluations.parallelStream()
+                        .filter(evaluation -> !preEvaluation.isDone())
+                        .forEach(PropertyConditionPreEvaluator::evaluate);
+                preEvaluation.complete(null);
+            } catch (RuntimeException | Error e) {
+                preEvaluation.completeExceptionally(e);
+            }
+        });
+        return preEvaluation;
+    }
+
+    private static void collectMetadataEvaluations(ConditionContext context,
+                                                   @Nullable ClassLoader classLoader,
+                                                   List<Runnable> evaluations) {
+        for (String location : List.of(ConditionMetadataCodec.METADATA_LOCATION, AUTO_CONFIGURATION_METADATA_LOCATION)) {
+            Properties metadata = loadMetadata(location, classLoader);
+            for (String key : metadata.stringPropertyNames()) {
+                for (PropertySpringBootCondition<?, ?> condition : CONDITIONS) {
+                    if (key.endsWith("." + condition.getAnnotationClass().getSimpleName())) {
+                        collectDeclarations(context, condition, metadata.getProperty(key), evaluations);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void collectDeclarations(ConditionContext context,
+                                            PropertySpringBootCondition<?, ?> condition,
+                                            String declarations,
+                                            List<Runnable> evaluations) {
+        List<AnnotationAttributes> attributes;
+        try {
+            attributes = ConditionMetadataCodec.decode(condition.getAnnotationClass(), declarations);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        for (AnnotationAttributes declaration : attributes) {
+            evaluations.add(() -> condition.checkAttributes(condition.getParentMessage(), context, declaration));
+        }
+    }
+
+    private static Properties loadMetadata(String location, @Nullable ClassLoader classLoader) {
+        try {
+            return PropertiesLoaderUtils.loadAllProperties(location, classLoader);
+        } catch (IOException e) {
+            logger.debug("Unable to load %s: %s".formatted(location, e.getMessage()));
+            return new Properties();
+        }
+    }
+
+    private static void evaluate(Runnable evaluation) {
+        try {
+            evaluation.run();
+        } catch (RuntimeException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Pre-evaluation of a property condition failed; it is evaluated again during refresh", e);
+            }
+        }
+    }
+
+    /**
+     * Post-processor starting pre-evaluation before configuration classes are processed, and cancelling it once
+     * they have been processed.
+     */
+    private static final class PreEvaluationPostProcessor implements BeanDefinitionRegistryPostProcessor, PriorityOrdered {
+        private static final String DISPOSABLE_NAME = "conditionalsPropertyConditionPreEvaluation";
+        private final PropertyConditionPreEvaluator preEvaluator;
+        private final Environment environment;
+        private volatile @Nullable CompletableFuture<Void> preEvaluation;
+
+        private PreEvaluationPostProcessor(PropertyConditionPreEvaluator preEvaluator, Environment environment) {
+            this.preEvaluator = preEvaluator;
+            this.environment = environment;
+        }
+
+        @Override
+        public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+            if (registry instanceof ConfigurableListableBeanFactory beanFactory) {
+                this.preEvaluation = this.preEvaluator.preEvaluate(beanFactory, this.environment);
+                if (registry instanceof DefaultSingletonBeanRegistry singletonRegistry) {
+                    singletonRegistry.registerDisposableBean(DISPOSABLE_NAME, this::cancel);
+                }
+            }
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+            this.cancel();
+        }
+
+        private void cancel() {
+            CompletableFuture<Void> current = this.preEvaluation;
+            if (current != null) {
+                current.cancel(false);
+                this.preEvaluation = null;
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
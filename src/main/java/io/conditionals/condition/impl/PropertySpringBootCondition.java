@@ -1,18 +1,25 @@
 package io.conditionals.condition.impl;
 
+import io.conditionals.condition.spec.PropertyCollector;
+import io.conditionals.condition.spec.PropertyConditionEvaluators;
+import io.conditionals.condition.spec.PropertyIndex;
+import io.conditionals.condition.spec.PropertyLookup;
 import io.conditionals.condition.spec.PropertySpec;
+import io.conditionals.condition.spec.PropertySpecCache;
 import io.conditionals.condition.spec.PropertySpecMatcher;
 import io.conditionals.condition.utils.ConditionUtils;
 import org.jspecify.annotations.Nullable;
 import org.springframework.boot.autoconfigure.condition.ConditionMessage;
 import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.env.PropertyResolver;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -26,7 +33,8 @@ import java.util.stream.Stream;
  *     <li>Creating a {@link PropertySpec} representation of the annotation attributes.</li>
  *     <li>Resolving properties from the {@link org.springframework.core.env.Environment} (via
  *     {@link ConditionContext#getEnvironment()}).</li>
- *     <li>Reporting missing properties and value mismatches using {@link ConditionMessage} diagnostics.</li>
+ *     <li>Reporting missing properties, malformed values and value mismatches using {@link ConditionMessage}
+ *     diagnostics.</li>
  * </ul>
  *
  * <p><b>Repeatable handling</b></p>
@@ -35,6 +43,28 @@ import java.util.stream.Stream;
  * primary annotation's attributes as well as any instances from the container annotation returned by
  * {@link #getAnnotationContainerClass()}.</p>
  *
+ * <p><b>Spec caching</b></p>
+ * <p>Specs are obtained through {@link #getSpec(Class, AnnotationAttributes)}, which consults the JVM-wide
+ * {@link PropertySpecCache#shared() spec cache} so that identical annotation declarations are parsed only once.
+ * Implementations of {@link #createSpec(Class, AnnotationAttributes)} must therefore return immutable specs that
+ * do not depend on the evaluation context.</p>
+ *
+ * <p><b>Property index</b></p>
+ * <p>When {@value PropertyIndex#ENABLED_PROPERTY} is {@code true}, properties are resolved through a
+ * {@link PropertyIndex} snapshot of the environment instead of walking every property source per key.</p>
+ *
+ * <p><b>Generated evaluators</b></p>
+ * <p>When the {@code conditionals-spring-boot-processor} generated a
+ * {@link io.conditionals.condition.spec.PropertyConditionEvaluator} for the configuration class, its
+ * {@link PropertyCollector collectors} are evaluated instead of the annotation attributes
+ * (see {@link #getOutcomes(ConditionContext, AnnotatedTypeMetadata)}).</p>
+ *
+ * <p><b>Memoization</b></p>
+ * <p>Spring evaluates a condition again in each configuration phase and for each import that repeats the
+ * metadata. {@link #getMatchOutcome(ConditionContext, AnnotatedTypeMetadata)} evaluates each class or method
+ * declaration once per refresh and environment generation and answers repeated evaluations from the
+ * {@link ConditionOutcomeMemo}.</p>
+ *
  * <p><b>Thread safety</b></p>
  * <p>Implementations are expected to be stateless. This base class allocates only per-evaluation state.</p>
  *
@@ -44,6 +74,19 @@ import java.util.stream.Stream;
  * @since 1.0
  */
 public abstract class PropertySpringBootCondition<V, S extends PropertySpec<V, S>> extends MatchingSpringBootCondition {
+    /**
+     * Evaluate the condition, or return the outcome memoized for the same metadata during the current refresh.
+     *
+     * @param context the current condition context
+     * @param metadata annotation metadata for the item being evaluated
+     * @return aggregated condition outcome
+     * @see ConditionOutcomeMemo
+     */
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return ConditionOutcomeMemo.getOutcome(this.getClass(), context, metadata, () -> super.getMatchOutcome(context, metadata));
+    }
+
     /**
      * Return a stream of annotation attributes for evaluation, including repeatable container values.
      *
@@ -67,16 +110,23 @@ public abstract class PropertySpringBootCondition<V, S extends PropertySpec<V, S
      *
      * <p>This implementation:</p>
      * <ul>
-     *     <li>Creates a {@link PropertySpec} via {@link #createSpec(Class, AnnotationAttributes)}.</li>
-     *     <li>Resolves property values from {@link PropertyResolver} obtained from {@link ConditionContext}.</li>
-     *     <li>Collects missing properties and non-matching properties via
-     *     {@link PropertySpec#collectProperties(PropertyResolver, List, List, PropertySpecMatcher)}.</li>
+     *     <li>Obtains a {@link PropertySpec} via {@link #getSpec(Class, AnnotationAttributes)}.</li>
+     *     <li>Resolves property values from the {@link PropertyResolver} returned by
+     *     {@link PropertyIndex#getResolver(ConditionContext)}, which is the environment itself unless the property
+     *     index is enabled.</li>
+     *     <li>Collects missing, non-matching and malformed properties via
+     *     {@link PropertySpec#collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)}, which reads each
+     *     key with a single lookup. Declarations with {@link PropertySpec#equals(Object) equal} specs share the
+     *     result within a refresh and environment generation, and all declarations share one lookup that reads each
+     *     key and converts each value once (see {@link ConditionOutcomeMemo}).</li>
      *     <li>Constructs a {@link ConditionOutcome} with structured diagnostics.</li>
      * </ul>
      *
      * <p><b>Decision criteria</b></p>
      * <ul>
      *     <li>If any required property is missing, the outcome is {@code noMatch}.</li>
+     *     <li>Else if any present property has a value that cannot be converted, the outcome is {@code noMatch} and
+     *     the message names the malformed properties.</li>
      *     <li>Else if any present property does not match, the outcome is {@code noMatch}.</li>
      *     <li>Otherwise, the outcome is {@code match}.</li>
      * </ul>
@@ -89,15 +139,74 @@ public abstract class PropertySpringBootCondition<V, S extends PropertySpec<V, S
     @Override
     protected ConditionOutcome determineOutcome(ConditionMessage.Builder message, ConditionContext context, AnnotationAttributes annotationAttributes) {
         Class<? extends Annotation> annotationType = annotationAttributes.annotationType();
-        S spec = this.createSpec(annotationType, annotationAttributes);
-        List<String> missingProperties = new ArrayList<>();
-        List<String> nonMatchingProperties = new ArrayList<>();
+        S spec = this.getSpec(annotationType, annotationAttributes);
+        Mismatches mismatches = ConditionOutcomeMemo.getDeclarationResult(this.getClass(), context, spec, () -> {
+            List<String> missingProperties = new ArrayList<>();
+            List<String> nonMatchingProperties = new ArrayList<>();
+            List<String> malformedProperties = new ArrayList<>();
+            PropertyLookup lookup = ConditionOutcomeMemo.getLookup(context, () -> PropertyLookup.of(PropertyIndex.getResolver(context)));
+            spec.collectProperties(lookup, missingProperties, nonMatchingProperties, malformedProperties, this.createPropertySpecMatcher());
+            return new Mismatches(List.copyOf(missingProperties), List.copyOf(nonMatchingProperties), List.copyOf(malformedProperties));
+        });
+        return this.createOutcome(message, mismatches.missing(), mismatches.nonMatching(), mismatches.malformed());
+    }
+
+    /**
+     * Evaluate every annotation instance, using build-time generated collectors when available.
+     *
+     * <p>If {@link PropertyConditionEvaluators} provides collectors for the annotated element and
+     * {@link #getAnnotationClass()}, each collector is evaluated against the same {@link PropertyLookup} as
+     * {@link #determineOutcome(ConditionMessage.Builder, ConditionContext, AnnotationAttributes)} uses and produces
+     * the same diagnostics. Otherwise annotation attributes are evaluated as usual.</p>
+     *
+     * <p>Generated collectors mirror the condition that the annotation declares through {@link Conditional}. They
+     * are therefore used only when this condition is that declared condition; subclasses that reuse the annotation
+     * always evaluate its attributes, so that overrides of {@link #createSpec(Class, AnnotationAttributes)} and
+     * {@link #createPropertySpecMatcher()} take effect.</p>
+     *
+     * @param context the current condition context
+     * @param metadata annotation metadata for the item being evaluated
+     * @return stream of per-annotation outcomes
+     */
+    @Override
+    protected Stream<ConditionOutcome> getOutcomes(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Class<? extends Annotation> annotationClass = this.getAnnotationClass();
+        if (!this.isDeclaredBy(annotationClass)) return super.getOutcomes(context, metadata);
+        List<PropertyCollector> collectors = PropertyConditionEvaluators.find(context.getClassLoader(), metadata, annotationClass);
+        if (collectors == null) return super.getOutcomes(context, metadata);
 
-        PropertyResolver resolver = context.getEnvironment();
-        spec.collectProperties(resolver, missingProperties, nonMatchingProperties, this.createPropertySpecMatcher());
+        PropertyLookup lookup = ConditionOutcomeMemo.getLookup(context, () -> PropertyLookup.of(PropertyIndex.getResolver(context)));
+        return collectors.stream()
+                .map(collector -> {
+                    List<String> missingProperties = new ArrayList<>();
+                    List<String> nonMatchingProperties = new ArrayList<>();
+                    List<String> malformedProperties = new ArrayList<>();
+                    collector.collectProperties(lookup, missingProperties, nonMatchingProperties, malformedProperties);
+                    return this.createOutcome(this.getParentMessage(), missingProperties, nonMatchingProperties, malformedProperties);
+                });
+    }
+
+    private boolean isDeclaredBy(Class<? extends Annotation> annotationClass) {
+        Conditional conditional = annotationClass.getAnnotation(Conditional.class);
+        return conditional != null && Arrays.asList(conditional.value()).contains(this.getClass());
+    }
+
+    /**
+     * Properties of a declaration that are missing, do not match or cannot be converted.
+     */
+    private record Mismatches(List<String> missing, List<String> nonMatching, List<String> malformed) {
+    }
+
+    private ConditionOutcome createOutcome(ConditionMessage.Builder message,
+                                           List<String> missingProperties,
+                                           List<String> nonMatchingProperties,
+                                           List<String> malformedProperties) {
         if (!missingProperties.isEmpty()) {
             return ConditionOutcome.noMatch(message.didNotFind("property", "properties")
                     .items(ConditionMessage.Style.QUOTE, missingProperties));
+        } else if (!malformedProperties.isEmpty()) {
+            return ConditionOutcome.noMatch(message.found("malformed value in property", "malformed value in properties")
+                    .items(ConditionMessage.Style.QUOTE, malformedProperties));
         } else {
             return !nonMatchingProperties.isEmpty()
                     ? ConditionOutcome.noMatch(message.found("different value in property", "different value in properties")
@@ -106,6 +215,21 @@ public abstract class PropertySpringBootCondition<V, S extends PropertySpec<V, S
         }
     }
 
+    /**
+     * Return the specification object for the given annotation attributes.
+     *
+     * <p>The default implementation looks the spec up in {@link PropertySpecCache#shared()} and delegates to
+     * {@link #createSpec(Class, AnnotationAttributes)} on a cache miss.</p>
+     *
+     * @param annotationType concrete annotation type for the current attributes (may be {@code null} depending on
+     *                       metadata source)
+     * @param annotationAttributes resolved annotation attributes
+     * @return cached or newly created spec representing the annotation configuration
+     */
+    protected S getSpec(@Nullable Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+        return PropertySpecCache.shared().get(this.getClass(), annotationType, annotationAttributes, this::createSpec);
+    }
+
     /**
      * Create a specification object from the given annotation attributes.
      *
@@ -119,6 +243,8 @@ public abstract class PropertySpringBootCondition<V, S extends PropertySpec<V, S
     /**
      * Create the matcher used to compare resolved property values to the candidate value.
      *
+     * <p>Matchers are stateless; implementations are encouraged to return a shared instance.</p>
+     *
      * @return matcher instance
      */
     protected abstract PropertySpecMatcher<V, S> createPropertySpecMatcher();
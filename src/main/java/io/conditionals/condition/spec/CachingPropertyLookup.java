@@ -0,0 +1,78 @@
+package io.conditionals.condition.spec;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link PropertyLookup} reading each key and converting each value to each target type once.
+ *
+ * <p>Specs that test the same key with different candidates or matchers would otherwise read the key and convert
+ * its value once per spec. This lookup remembers the raw value of every key it has found, including absent keys,
+ * and the result of converting a raw value to a target type, including {@link ConversionException failures}.
+ * Conversions are only remembered for immutable scalar values (strings, numbers, booleans,
+ * characters and enum constants); other values are converted every time.</p>
+ *
+ * <p>The lookup does not observe changes of the underlying property sources; its owner discards it when they change
+ * (see {@link io.conditionals.condition.impl.ConditionOutcomeMemo}).</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see PropertyLookup#caching(PropertyLookup)
+ */
+final class CachingPropertyLookup implements PropertyLookup {
+    private static final Object ABSENT = new Object();
+    private final PropertyLookup delegate;
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+    private final Map<Conversion, Object> conversions = new ConcurrentHashMap<>();
+
+    CachingPropertyLookup(PropertyLookup delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public @Nullable Object find(String key) {
+        Object value = this.values.computeIfAbsent(key, this::read);
+        return value != ABSENT ? value : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T convert(Object value, Class<T> targetType) {
+        if (!isScalar(value)) return this.delegate.convert(value, targetType);
+
+        Object result = this.conversions.computeIfAbsent(new Conversion(value, targetType), this::convert);
+        if (result instanceof ConversionFailure failure) throw failure.exception();
+        return result != ABSENT ? (T) result : null;
+    }
+
+    private Object read(String key) {
+        Object value = this.delegate.find(key);
+        return value != null ? value : ABSENT;
+    }
+
+    private Object convert(Conversion conversion) {
+        try {
+            Object converted = this.delegate.convert(conversion.value(), conversion.targetType());
+            return converted != null ? converted : ABSENT;
+        } catch (ConversionException e) {
+            return new ConversionFailure(e);
+        }
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof String
+                || value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>;
+    }
+
+    private record Conversion(Object value, Class<?> targetType) {
+    }
+
+    private record ConversionFailure(ConversionException exception) {
+    }
+}
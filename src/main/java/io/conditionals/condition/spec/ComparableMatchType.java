@@ -20,5 +20,25 @@ public enum ComparableMatchType {
     /** Match when {@code property.compareTo(candidate) >= 0}. */
     GREATER_THAN_OR_EQUAL,
     /** Match when {@code property.compareTo(candidate) <= 0}. */
-    LESS_THAN_OR_EQUAL
+    LESS_THAN_OR_EQUAL;
+
+    /**
+     * Interpret a comparison result according to this match type.
+     *
+     * <p>Used by primitive-specialized specs, which compare with {@link Integer#compare(int, int)},
+     * {@link Long#compare(long, long)}, {@link Float#compare(float, float)} or
+     * {@link Double#compare(double, double)} instead of {@link Comparable#compareTo(Object)}.</p>
+     *
+     * @param comparison result of comparing the property with the candidate
+     * @return {@code true} if the comparison result satisfies this match type
+     */
+    public boolean matches(int comparison) {
+        return switch (this) {
+            case EQUALS -> comparison == 0;
+            case GREATER_THAN -> comparison > 0;
+            case LESS_THAN -> comparison < 0;
+            case GREATER_THAN_OR_EQUAL -> comparison >= 0;
+            case LESS_THAN_OR_EQUAL -> comparison <= 0;
+        };
+    }
 }
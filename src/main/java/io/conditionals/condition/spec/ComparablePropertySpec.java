@@ -46,4 +46,21 @@ public class ComparablePropertySpec<V extends Comparable<T>, T> extends Matching
     public ComparablePropertySpec(Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes, Function<Object, V> havingValueMapper) {
         super(annotationType, annotationAttributes, havingValueMapper);
     }
+
+    /**
+     * {@link PropertySpecMatcher} that can report whether it orders values naturally.
+     *
+     * <p>Specs with a primitive evaluation path, such as {@link NumberPropertySpec}, only take it for matchers
+     * implementing this interface whose {@link #isNaturalOrder()} returns {@code true}; any other matcher is
+     * consulted for every value.</p>
+     */
+    public interface NaturalOrderMatcher {
+        /**
+         * Determine whether this matcher interprets {@link ComparableMatchType} and {@code not} exactly as
+         * {@link Comparable#compareTo(Object)} followed by {@link ComparableMatchType#matches(int)} would.
+         *
+         * @return {@code true} if the matcher compares values in their natural order
+         */
+        boolean isNaturalOrder();
+    }
 }
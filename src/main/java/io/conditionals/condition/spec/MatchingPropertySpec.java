@@ -1,5 +1,6 @@
 package io.conditionals.condition.spec;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.core.annotation.AnnotationAttributes;
 
 import java.lang.annotation.Annotation;
@@ -81,4 +82,16 @@ public abstract class MatchingPropertySpec<V, S extends MatchingPropertySpec<V,
     public E getMatchType() {
         return matchType;
     }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (!super.equals(other)) return false;
+        MatchingPropertySpec<?, ?, ?> spec = (MatchingPropertySpec<?, ?, ?>) other;
+        return this.not == spec.not && this.matchType == spec.matchType;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * super.hashCode() + Boolean.hashCode(this.not)) + this.matchType.hashCode();
+    }
 }
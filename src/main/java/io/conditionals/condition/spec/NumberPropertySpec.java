@@ -0,0 +1,182 @@
+package io.conditionals.condition.spec;
+
+import io.conditionals.condition.utils.ConditionUtils;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link ComparablePropertySpec} specialization for primitive numeric properties.
+ *
+ * <p>The generic comparable path converts every property through the
+ * {@link org.springframework.core.convert.ConversionService}, boxes the result and compares it with
+ * {@link Comparable#compareTo(Object)}. Subclasses of this spec instead hold the candidate as a primitive, parse
+ * {@link String} property values directly with {@link io.conditionals.condition.utils.NumberParser} and compare
+ * primitives, so evaluating a matching property does not allocate. The parser also accepts hexadecimal values,
+ * underscores between digits and unit suffixes such as {@code 64k} or {@code 2Mi}.</p>
+ *
+ * <p><b>Evaluation model</b></p>
+ * <ul>
+ *     <li>Each key is read once through {@link PropertyLookup#find(String)}.</li>
+ *     <li>The value is compared by {@link #compare(Object, PropertyLookup)} and the result is interpreted with
+ *     {@link ComparableMatchType#matches(int)} and negated with
+ *     {@link ConditionUtils#revert(boolean, boolean)} when {@link #isNot()} is set.</li>
+ *     <li>{@link String} values are parsed once; those for which {@link #compare(Object, PropertyLookup)} returns
+ *     {@link #MALFORMED} are reported as malformed without throwing. Values of other types that cannot be converted
+ *     are reported as malformed as well.</li>
+ * </ul>
+ *
+ * <p><b>Matchers</b></p>
+ * <p>The primitive comparison only replaces the {@link PropertySpecMatcher} passed to
+ * {@link #collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)} when it is a
+ * {@link NaturalOrderMatcher} reporting {@link NaturalOrderMatcher#isNaturalOrder() natural order}. Any other
+ * matcher, such as one returned by an overridden {@code createPropertySpecMatcher()} or the library matcher of a
+ * condition overriding its {@code check*} methods, is consulted through the generic path, with {@link String} values
+ * still parsed by {@link #parse(CharSequence)}.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>Instances are immutable after construction and are thread-safe.</p>
+ *
+ * @param <V> boxed numeric type
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+public abstract class NumberPropertySpec<V extends Number & Comparable<V>> extends ComparablePropertySpec<V, V> {
+    /**
+     * Result of {@link #compare(Object, PropertyLookup)} for a {@link String} value that is not a valid number.
+     */
+    protected static final int MALFORMED = Integer.MIN_VALUE;
+
+    /**
+     * Create a spec from annotation attributes.
+     *
+     * @param annotationType annotation type producing the attributes
+     * @param annotationAttributes resolved annotation attributes
+     */
+    protected NumberPropertySpec(Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes) {
+        super(annotationType, annotationAttributes);
+    }
+
+    /**
+     * Create a spec from annotation attributes, widening or narrowing the numeric {@code havingValue} attribute.
+     *
+     * @param annotationType annotation type producing the attributes
+     * @param annotationAttributes resolved annotation attributes
+     * @param havingValueMapper mapper applied to the numeric {@code havingValue} attribute
+     */
+    protected NumberPropertySpec(Class<? extends Annotation> annotationType, AnnotationAttributes annotationAttributes, Function<Number, V> havingValueMapper) {
+        super(annotationType, annotationAttributes, attribute -> havingValueMapper.apply((Number) attribute));
+    }
+
+    /**
+     * Evaluate each configured property by comparing primitives and collect mismatches.
+     *
+     * <p>Matchers that do not report natural order are delegated to the generic path.</p>
+     *
+     * @param lookup single-pass property lookup
+     * @param missing output list of missing property names
+     * @param nonMatching output list of non-matching property names
+     * @param malformed output list of property names whose value is not a valid number
+     * @param matcher comparison strategy; bypassed if it is a {@link NaturalOrderMatcher} in natural order
+     */
+    @Override
+    public void collectProperties(PropertyLookup lookup,
+                                  List<String> missing,
+                                  List<String> nonMatching,
+                                  List<String> malformed,
+                                  PropertySpecMatcher<V, ComparablePropertySpec<V, V>> matcher) {
+        if (!(matcher instanceof NaturalOrderMatcher naturalOrder && naturalOrder.isNaturalOrder())) {
+            super.collectProperties(lookup, missing, nonMatching, malformed, matcher);
+            return;
+        }
+
+        String[] names = this.getNames();
+        String[] keys = this.getKeys();
+        for (int i = 0; i < keys.length; i++) {
+            Object value = lookup.find(keys[i]);
+            if (value == null) {
+                if (!this.isMatchIfMissing()) {
+                    missing.add(names[i]);
+                }
+            } else {
+                try {
+                    int comparison = this.compare(value, lookup);
+                    if (comparison == MALFORMED) {
+                        malformed.add(names[i]);
+                    } else if (!ConditionUtils.revert(this.getMatchType().matches(comparison), this.isNot())) {
+                        nonMatching.add(names[i]);
+                    }
+                } catch (ConversionException e) {
+                    malformed.add(names[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Convert a raw property value for matchers consulted through the generic path.
+     *
+     * <p>{@link String} values are parsed with {@link #parse(CharSequence)}, so both paths accept the same
+     * syntax; other values are converted with {@link #convertNumber(Object, PropertyLookup)}.</p>
+     *
+     * @param value raw property value
+     * @param lookup lookup providing conversion
+     * @return converted value
+     * @throws ConversionException if the value is not a valid number
+     */
+    @Override
+    protected V convert(Object value, PropertyLookup lookup) {
+        if (!(value instanceof String text)) return this.convertNumber(value, lookup);
+        V number = this.parse(text);
+        if (number == null) {
+            throw new ConversionFailedException(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(this.getHavingValueType()), text,
+                    new NumberFormatException("Invalid number '" + text + "'"));
+        }
+        return number;
+    }
+
+    /**
+     * Parse a {@link String} property value into the boxed type in a single pass, without throwing.
+     *
+     * @param text raw property value
+     * @return parsed value, or {@code null} if the text is not a valid number
+     */
+    protected abstract @Nullable V parse(CharSequence text);
+
+    /**
+     * Compare a raw property value with the candidate.
+     *
+     * <p>{@link String} values are parsed once, typically with a {@code NumberParser} method taking a fallback,
+     * and reported as {@link #MALFORMED} rather than with an exception.</p>
+     *
+     * @param value raw property value (never {@code null})
+     * @param lookup lookup used to convert values that are neither {@link String} nor of the expected type
+     * @return {@code -1}, {@code 0} or {@code 1} as the property is less than, equal to or greater than the
+     * candidate, or {@link #MALFORMED} if a {@link String} value is not a valid number
+     * @throws ConversionException if a value that is not a {@link String} cannot be converted
+     */
+    protected abstract int compare(Object value, PropertyLookup lookup);
+
+    /**
+     * Convert a value that is neither a {@link String} nor of the expected type.
+     *
+     * @param value raw property value
+     * @param lookup lookup providing conversion
+     * @return converted value
+     * @throws ConversionException if the value cannot be converted or the conversion yields {@code null}
+     */
+    protected V convertNumber(Object value, PropertyLookup lookup) {
+        V converted = lookup.convert(value, this.getHavingValueType());
+        if (converted == null) {
+            throw new ConversionFailedException(TypeDescriptor.forObject(value), TypeDescriptor.valueOf(this.getHavingValueType()), value,
+                    new IllegalArgumentException("Conversion of '" + value + "' yielded null"));
+        }
+        return converted;
+    }
+}
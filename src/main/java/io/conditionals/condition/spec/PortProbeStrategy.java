@@ -0,0 +1,22 @@
+package io.conditionals.condition.spec;
+
+/**
+ * Strategy used by {@link io.conditionals.condition.ConditionalOnPortAvailable} to decide whether a port is
+ * available.
+ *
+ * <p>Interpretation of these constants is performed by
+ * {@link io.conditionals.condition.impl.OnPortAvailableCondition}.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+public enum PortProbeStrategy {
+    /** Bind a {@link java.net.ServerSocket} to each port and release it immediately. */
+    BIND,
+    /**
+     * Treat a port as available unless a TCP socket is listening on it, according to a single snapshot of
+     * {@code /proc/net/tcp} and {@code /proc/net/tcp6} per refresh. Falls back to {@link #BIND} where these files
+     * cannot be read.
+     */
+    LISTENING_SOCKETS
+}
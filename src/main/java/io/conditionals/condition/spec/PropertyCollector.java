@@ -0,0 +1,216 @@
+package io.conditionals.condition.spec;
+
+import io.conditionals.condition.utils.NumberParser;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionException;
+
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Evaluation of a single conditional annotation declaration whose configuration is known at build time.
+ *
+ * <p>Collectors are created by classes generated by the {@code conditionals-spring-boot-processor} (see
+ * {@link PropertyConditionEvaluator}). The generated code passes keys, names and a match predicate with the
+ * candidate, match type and {@code not} flag inlined; the factories of this type supply the property resolution,
+ * conversion and diagnostics of the corresponding {@link PropertySpec}, so both paths report the same
+ * missing, non-matching and malformed properties.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>Collectors created by the factories are immutable and thread-safe, provided the predicates are.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see PropertyConditionEvaluator
+ */
+@FunctionalInterface
+public interface PropertyCollector {
+    /**
+     * Evaluate each configured property and collect mismatches, as
+     * {@link PropertySpec#collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)} does.
+     *
+     * @param lookup single-pass property lookup
+     * @param missing output list of missing property names
+     * @param nonMatching output list of non-matching property names
+     * @param malformed output list of property names whose value cannot be converted
+     */
+    void collectProperties(PropertyLookup lookup, List<String> missing, List<String> nonMatching, List<String> malformed);
+
+    /**
+     * Create a collector for {@code String} properties, as {@code @ConditionalOnStringProperty} evaluates them.
+     *
+     * @param keys property keys, including the prefix
+     * @param names property names reported in diagnostics
+     * @param matchIfMissing whether missing properties match
+     * @param matcher predicate applied to the converted value, including normalization and negation
+     * @return collector
+     */
+    static PropertyCollector ofString(String[] keys, String[] names, boolean matchIfMissing, Predicate<String> matcher) {
+        return (lookup, missing, nonMatching, malformed) -> {
+            for (int i = 0; i < keys.length; i++) {
+                try {
+                    Object value = lookup.find(keys[i]);
+                    if (value != null) {
+                        String property = lookup.convert(value, String.class);
+                        if (property == null || !matcher.test(property)) {
+                            nonMatching.add(names[i]);
+                        }
+                    } else if (!matchIfMissing) {
+                        missing.add(names[i]);
+                    }
+                } catch (ConversionException e) {
+                    malformed.add(names[i]);
+                }
+            }
+        };
+    }
+
+    /**
+     * Create a collector for {@code int} properties, as {@code @ConditionalOnIntegerProperty} evaluates them.
+     *
+     * @param keys property keys, including the prefix
+     * @param names property names reported in diagnostics
+     * @param matchIfMissing whether missing properties match
+     * @param matcher predicate applied to the parsed value, including negation
+     * @return collector
+     */
+    static PropertyCollector ofInt(String[] keys, String[] names, boolean matchIfMissing, IntPredicate matcher) {
+        return (lookup, missing, nonMatching, malformed) -> {
+            for (int i = 0; i < keys.length; i++) {
+                Object value = lookup.find(keys[i]);
+                if (value == null) {
+                    if (!matchIfMissing) missing.add(names[i]);
+                } else if (value instanceof String text) {
+                    int property = NumberParser.parseInt(text, Integer.MIN_VALUE);
+                    if (property == Integer.MIN_VALUE && !NumberParser.canParseInt(text)) {
+                        malformed.add(names[i]);
+                    } else if (!matcher.test(property)) {
+                        nonMatching.add(names[i]);
+                    }
+                } else {
+                    Integer number = convert(value, Integer.class, lookup);
+                    if (number == null) {
+                        malformed.add(names[i]);
+                    } else if (!matcher.test(number)) {
+                        nonMatching.add(names[i]);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Create a collector for {@code long} properties, as {@code @ConditionalOnLongProperty} evaluates them.
+     *
+     * @param keys property keys, including the prefix
+     * @param names property names reported in diagnostics
+     * @param matchIfMissing whether missing properties match
+     * @param matcher predicate applied to the parsed value, including negation
+     * @return collector
+     */
+    static PropertyCollector ofLong(String[] keys, String[] names, boolean matchIfMissing, LongPredicate matcher) {
+        return (lookup, missing, nonMatching, malformed) -> {
+            for (int i = 0; i < keys.length; i++) {
+                Object value = lookup.find(keys[i]);
+                if (value == null) {
+                    if (!matchIfMissing) missing.add(names[i]);
+                } else if (value instanceof String text) {
+                    long property = NumberParser.parseLong(text, Long.MIN_VALUE);
+                    if (property == Long.MIN_VALUE && !NumberParser.canParseLong(text)) {
+                        malformed.add(names[i]);
+                    } else if (!matcher.test(property)) {
+                        nonMatching.add(names[i]);
+                    }
+                } else {
+                    Long number = convert(value, Long.class, lookup);
+                    if (number == null) {
+                        malformed.add(names[i]);
+                    } else if (!matcher.test(number)) {
+                        nonMatching.add(names[i]);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Create a collector for {@code float} properties, as {@code @ConditionalOnFloatProperty} evaluates them. The
+     * parsed {@code float} is widened to {@code double}, which is exact.
+     *
+     * @param keys property keys, including the prefix
+     * @param names property names reported in diagnostics
+     * @param matchIfMissing whether missing properties match
+     * @param matcher predicate applied to the parsed value, including negation
+     * @return collector
+     */
+    static PropertyCollector ofFloat(String[] keys, String[] names, boolean matchIfMissing, DoublePredicate matcher) {
+        return (lookup, missing, nonMatching, malformed) -> {
+            for (int i = 0; i < keys.length; i++) {
+                Object value = lookup.find(keys[i]);
+                if (value == null) {
+                    if (!matchIfMissing) missing.add(names[i]);
+                } else if (value instanceof String text) {
+                    float property = NumberParser.parseFloat(text, Float.NaN);
+                    if (Float.isNaN(property) && !NumberParser.canParseFloat(text)) {
+                        malformed.add(names[i]);
+                    } else if (!matcher.test(property)) {
+                        nonMatching.add(names[i]);
+                    }
+                } else {
+                    Float number = convert(value, Float.class, lookup);
+                    if (number == null) {
+                        malformed.add(names[i]);
+                    } else if (!matcher.test(number)) {
+                        nonMatching.add(names[i]);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Create a collector for {@code double} properties, as {@code @ConditionalOnDoubleProperty} evaluates them.
+     *
+     * @param keys property keys, including the prefix
+     * @param names property names reported in diagnostics
+     * @param matchIfMissing whether missing properties match
+     * @param matcher predicate applied to the parsed value, including negation
+     * @return collector
+     */
+    static PropertyCollector ofDouble(String[] keys, String[] names, boolean matchIfMissing, DoublePredicate matcher) {
+        return (lookup, missing, nonMatching, malformed) -> {
+            for (int i = 0; i < keys.length; i++) {
+                Object value = lookup.find(keys[i]);
+                if (value == null) {
+                    if (!matchIfMissing) missing.add(names[i]);
+                } else if (value instanceof String text) {
+                    double property = NumberParser.parseDouble(text, Double.NaN);
+                    if (Double.isNaN(property) && !NumberParser.canParseDouble(text)) {
+                        malformed.add(names[i]);
+                    } else if (!matcher.test(property)) {
+                        nonMatching.add(names[i]);
+                    }
+                } else {
+                    Double number = convert(value, Double.class, lookup);
+                    if (number == null) {
+                        malformed.add(names[i]);
+                    } else if (!matcher.test(number)) {
+                        nonMatching.add(names[i]);
+                    }
+                }
+            }
+        };
+    }
+
+    private static <T> @Nullable T convert(Object value, Class<T> type, PropertyLookup lookup) {
+        if (type.isInstance(value)) return type.cast(value);
+        try {
+            return lookup.convert(value, type);
+        } catch (ConversionException e) {
+            return null;
+        }
+    }
+}
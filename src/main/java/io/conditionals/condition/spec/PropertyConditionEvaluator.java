@@ -0,0 +1,32 @@
+package io.conditionals.condition.spec;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Build-time generated evaluation of the property conditions declared on one configuration class and its
+ * methods.
+ *
+ * <p>With the {@code conditionals.evaluators} option, the {@code conditionals-spring-boot-processor} generates an
+ * implementation named {@code <class>__PropertyConditions} next to each configuration class and lists it in
+ * {@value PropertyConditionEvaluators#REGISTRY_LOCATION}.
+ * {@link io.conditionals.condition.impl.PropertySpringBootCondition} then evaluates the returned collectors instead
+ * of reading annotation attributes and building specs, and falls back to that reflective path for elements and
+ * annotations the evaluator does not cover.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see PropertyConditionEvaluators
+ */
+public interface PropertyConditionEvaluator {
+    /**
+     * Return the collectors of the given annotation type declared on an element of the configuration class.
+     *
+     * @param element name of the annotated method, or an empty string for the class itself
+     * @param annotationType fully qualified name of the conditional annotation type
+     * @return one collector per declaration, in declaration order, or {@code null} if the declarations were not
+     * generated
+     */
+    @Nullable List<PropertyCollector> getCollectors(String element, String annotationType);
+}
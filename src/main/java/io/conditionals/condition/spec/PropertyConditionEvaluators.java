@@ -0,0 +1,119 @@
+package io.conditionals.condition.spec;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of generated {@link PropertyConditionEvaluator} classes.
+ *
+ * <p>The registry reads {@value #REGISTRY_LOCATION} once per class loader. Each entry maps the binary name of a
+ * configuration class to the name of its generated evaluator, which is instantiated on first use. Configuration
+ * classes without an entry are answered with a single map lookup.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is thread-safe. Registries are held per class loader for as long as the class loader is reachable.
+ * Generated evaluators are referenced softly, so that they do not keep their class loader reachable; an evaluator
+ * whose reference was cleared is instantiated again.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see PropertyConditionEvaluator
+ */
+public final class PropertyConditionEvaluators {
+    /**
+     * Location of the generated registry.
+     */
+    public static final String REGISTRY_LOCATION = "META-INF/conditionals-property-evaluators.properties";
+    private static final Log logger = LogFactory.getLog(PropertyConditionEvaluators.class);
+    private static final PropertyConditionEvaluator NONE = (element, annotationType) -> null;
+    private static final Map<ClassLoader, Registry> REGISTRIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PropertyConditionEvaluators() {
+    }
+
+    /**
+     * Return the generated collectors for the declarations of an annotation type on an annotated element.
+     *
+     * @param classLoader class loader of the application, or {@code null} for the default class loader
+     * @param metadata metadata of a configuration class or bean method
+     * @param annotationType conditional annotation type
+     * @return collectors in declaration order, or {@code null} if none were generated
+     */
+    public static @Nullable List<PropertyCollector> find(@Nullable ClassLoader classLoader,
+                                                        AnnotatedTypeMetadata metadata,
+                                                        Class<? extends Annotation> annotationType) {
+        String className;
+        String element;
+        if (metadata instanceof MethodMetadata methodMetadata) {
+            className = methodMetadata.getDeclaringClassName();
+            element = methodMetadata.getMethodName();
+        } else if (metadata instanceof ClassMetadata classMetadata) {
+            className = classMetadata.getClassName();
+            element = "";
+        } else {
+            return null;
+        }
+
+        ClassLoader loader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+        if (loader == null) return null;
+        Registry registry = REGISTRIES.computeIfAbsent(loader, PropertyConditionEvaluators::load);
+        String evaluatorClassName = registry.evaluatorClassNames().get(className);
+        if (evaluatorClassName == null) return null;
+        SoftReference<PropertyConditionEvaluator> reference = registry.evaluators().get(className);
+        PropertyConditionEvaluator evaluator = reference != null ? reference.get() : null;
+        if (evaluator == null) {
+            evaluator = instantiate(evaluatorClassName, loader);
+            registry.evaluators().put(className, new SoftReference<>(evaluator));
+        }
+
+        return evaluator.getCollectors(element, annotationType.getName());
+    }
+
+    private static Registry load(ClassLoader classLoader) {
+        Map<String, String> evaluatorClassNames = new HashMap<>();
+        try {
+            Properties properties = PropertiesLoaderUtils.loadAllProperties(REGISTRY_LOCATION, classLoader);
+            properties.forEach((className, evaluatorClassName) -> evaluatorClassNames.put((String) className, (String) evaluatorClassName));
+        } catch (IOException e) {
+            logger.warn("Unable to load %s: %s".formatted(REGISTRY_LOCATION, e.getMessage()));
+        }
+
+        return new Registry(Map.copyOf(evaluatorClassNames), new ConcurrentHashMap<>());
+    }
+
+    private static PropertyConditionEvaluator instantiate(String evaluatorClassName, ClassLoader classLoader) {
+        try {
+            return BeanUtils.instantiateClass(ClassUtils.forName(evaluatorClassName, classLoader), PropertyConditionEvaluator.class);
+        } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+            logger.warn("Unable to instantiate generated evaluator %s, using annotation attributes instead: %s"
+                    .formatted(evaluatorClassName, e.getMessage()));
+            return NONE;
+        }
+    }
+
+    /**
+     * Registry of one class loader: evaluator class names by configuration class name, which hold no reference to
+     * the class loader, and the evaluators instantiated so far.
+     */
+    private record Registry(Map<String, String> evaluatorClassNames,
+                            Map<String, SoftReference<PropertyConditionEvaluator>> evaluators) {
+    }
+}
@@ -0,0 +1,300 @@
+package io.conditionals.condition.spec;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.IterableConfigurationPropertySource;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.AbstractPropertyResolver;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Opt-in, evaluation-time index of the property keys visible through a {@link ConfigurableEnvironment}.
+ *
+ * <p>Resolving a property through the {@link Environment} walks every {@link PropertySource} in precedence order,
+ * and {@link PropertySpec#collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)} does so for every
+ * key, present or missing. Applications with many property sources pay for that walk on every condition. This
+ * index snapshots the keys of all enumerable sources into a single hash map that records, for each key, the
+ * highest-precedence source defining it, so that present and missing keys are both answered with one hash
+ * lookup.</p>
+ *
+ * <p><b>Enabling</b></p>
+ * <p>The index is disabled by default. Set {@value #ENABLED_PROPERTY} to {@code true} to use it for the conditions
+ * of this library. The flag is read once per bean factory, when the first property condition is evaluated. The
+ * index and its snapshot live as long as the bean factory, which is held weakly.</p>
+ *
+ * <p><b>Lookup semantics</b></p>
+ * <ul>
+ *     <li>When Spring Boot's {@link ConfigurationPropertySources} are attached to the environment and the key is a
+ *     valid {@link ConfigurationPropertyName}, keys are indexed and matched using relaxed names, as Spring Boot's own
+ *     property resolver does.</li>
+ *     <li>Otherwise keys are matched exactly, as {@link org.springframework.core.env.PropertySourcesPropertyResolver}
+ *     does.</li>
+ *     <li>Sources whose keys cannot be enumerated (for example {@code random.*}), and system environment sources in
+ *     exact mode (which map {@code app.mode} to {@code APP_MODE}), are probed directly, and only when they take
+ *     precedence over the indexed source.</li>
+ *     <li>Values are always read from the live source. Placeholders are resolved against the index and values are
+ *     converted with the environment's {@link org.springframework.core.convert.ConversionService}.</li>
+ * </ul>
+ *
+ * <p><b>Invalidation</b></p>
+ * <p>Before each condition evaluation, {@link #getResolver()} compares the environment's
+ * {@link MutablePropertySources} with the snapshot: sources must be the same instances in the same order, and
+ * map-backed sources must have the same number of entries. Any difference rebuilds the snapshot. Changing the value
+ * of an existing key does not require a rebuild.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is thread-safe. Snapshots are immutable once built and are published through a volatile field.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see io.conditionals.condition.impl.PropertySpringBootCondition
+ */
+public final class PropertyIndex {
+    /**
+     * Property enabling the index for the conditions of this library.
+     */
+    public static final String ENABLED_PROPERTY = "conditionals.property-index.enabled";
+    private static final Map<ConfigurableListableBeanFactory, Registration> REGISTRATIONS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private final ConfigurableEnvironment environment;
+    private volatile @Nullable Snapshot snapshot;
+
+    /**
+     * Create a new index for the given environment. The snapshot is built lazily by {@link #getResolver()}.
+     *
+     * @param environment environment whose property sources are indexed
+     */
+    public PropertyIndex(ConfigurableEnvironment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Return the resolver that property conditions should use for the given context.
+     *
+     * <p>Returns a validated index snapshot when {@value #ENABLED_PROPERTY} is {@code true} and the context exposes
+     * a bean factory and a {@link ConfigurableEnvironment}; otherwise returns the environment itself.</p>
+     *
+     * @param context condition context
+     * @return resolver to use for the current evaluation
+     */
+    public static PropertyResolver getResolver(ConditionContext context) {
+        Environment environment = context.getEnvironment();
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        if (beanFactory == null || !(environment instanceof ConfigurableEnvironment configurableEnvironment)) {
+            return environment;
+        }
+
+        Registration registration = REGISTRATIONS.get(beanFactory);
+        if (registration == null || registration.environment() != environment) {
+            boolean enabled = environment.getProperty(ENABLED_PROPERTY, Boolean.class, false);
+            registration = new Registration(environment, enabled ? new PropertyIndex(configurableEnvironment) : null);
+            REGISTRATIONS.put(beanFactory, registration);
+        }
+
+        PropertyIndex index = registration.index();
+        return index != null
+                ? index.getResolver()
+                : environment;
+    }
+
+    /**
+     * Return a resolver backed by an up-to-date snapshot, rebuilding it if the property sources changed.
+     *
+     * @return snapshot resolver
+     */
+    public PropertyResolver getResolver() {
+        MutablePropertySources propertySources = this.environment.getPropertySources();
+        Snapshot current = this.snapshot;
+        if (current == null || !current.isCurrent(propertySources)) {
+            current = new Snapshot(this.environment, propertySources);
+            this.snapshot = current;
+        }
+
+        return current;
+    }
+
+    private static int sizeOf(PropertySource<?> propertySource) {
+        return propertySource instanceof MapPropertySource mapPropertySource
+                ? mapPropertySource.getSource().size()
+                : -1;
+    }
+
+    private record Registration(Environment environment, @Nullable PropertyIndex index) {
+    }
+
+    /**
+     * Immutable view of the property sources at the time it was built.
+     */
+    private static final class Snapshot extends AbstractPropertyResolver {
+        private final PropertySource<?>[] sources;
+        private final int[] sizes;
+        private final Map<String, Integer> keys = new HashMap<>();
+        private final int[] probes;
+        private final ConfigurationPropertySource @Nullable [] relaxedSources;
+        private final Map<ConfigurationPropertyName, Integer> relaxedKeys = new HashMap<>();
+        private final int[] relaxedProbes;
+
+        private Snapshot(ConfigurableEnvironment environment, MutablePropertySources propertySources) {
+            this.sources = propertySources.stream().toArray(PropertySource[]::new);
+            this.sizes = new int[this.sources.length];
+            List<Integer> probes = new ArrayList<>();
+            boolean attached = false;
+            for (int i = 0; i < this.sources.length; i++) {
+                PropertySource<?> source = this.sources[i];
+                this.sizes[i] = sizeOf(source);
+                if (ConfigurationPropertySources.isAttachedConfigurationPropertySource(source)) {
+                    attached = true;
+                } else if (source instanceof EnumerablePropertySource<?> enumerable && !(source instanceof SystemEnvironmentPropertySource)) {
+                    for (String name : enumerable.getPropertyNames()) {
+                        this.keys.putIfAbsent(name, i);
+                    }
+                } else {
+                    probes.add(i);
+                }
+            }
+            this.probes = toArray(probes);
+
+            if (attached) {
+                List<ConfigurationPropertySource> relaxedSources = new ArrayList<>();
+                List<Integer> relaxedProbes = new ArrayList<>();
+                for (ConfigurationPropertySource source : ConfigurationPropertySources.get(environment)) {
+                    int i = relaxedSources.size();
+                    relaxedSources.add(source);
+                    if (source instanceof IterableConfigurationPropertySource iterable) {
+                        for (ConfigurationPropertyName name : iterable) {
+                            this.relaxedKeys.putIfAbsent(name, i);
+                        }
+                    } else {
+                        relaxedProbes.add(i);
+                    }
+                }
+                this.relaxedSources = relaxedSources.toArray(ConfigurationPropertySource[]::new);
+                this.relaxedProbes = toArray(relaxedProbes);
+            } else {
+                this.relaxedSources = null;
+                this.relaxedProbes = new int[0];
+            }
+
+            this.setConversionService(environment.getConversionService());
+        }
+
+        private static int[] toArray(List<Integer> values) {
+            return values.stream()
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private boolean isCurrent(MutablePropertySources propertySources) {
+            if (propertySources.size() != this.sources.length) return false;
+            int i = 0;
+            for (PropertySource<?> source : propertySources) {
+                if (source != this.sources[i] || sizeOf(source) != this.sizes[i]) return false;
+                i++;
+            }
+
+            return true;
+        }
+
+        @Override
+        public boolean containsProperty(String key) {
+            ConfigurationPropertyName name = this.getRelaxedName(key);
+            if (name != null) return this.findRelaxed(name) != null;
+            if (this.keys.containsKey(key)) return true;
+            for (int probe : this.probes) {
+                if (this.sources[probe].containsProperty(key)) return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public @Nullable String getProperty(String key) {
+            return this.getProperty(key, String.class, true);
+        }
+
+        @Override
+        public <T> @Nullable T getProperty(String key, Class<T> targetValueType) {
+            return this.getProperty(key, targetValueType, true);
+        }
+
+        @Override
+        protected @Nullable String getPropertyAsRawString(String key) {
+            return this.getProperty(key, String.class, false);
+        }
+
+        private <T> @Nullable T getProperty(String key, Class<T> targetValueType, boolean resolveNestedPlaceholders) {
+            ConfigurationPropertyName name = this.getRelaxedName(key);
+            Object value = name != null
+                    ? this.findRelaxed(name)
+                    : this.findExact(key);
+            if (value == null) return null;
+            if (resolveNestedPlaceholders && value instanceof String string) {
+                value = this.resolveNestedPlaceholders(string);
+            }
+
+            return this.convertValueIfNecessary(value, targetValueType);
+        }
+
+        private @Nullable ConfigurationPropertyName getRelaxedName(String key) {
+            return this.relaxedSources != null
+                    ? ConfigurationPropertyName.ofIfValid(key)
+                    : null;
+        }
+
+        private @Nullable Object findRelaxed(ConfigurationPropertyName name) {
+            ConfigurationPropertySource[] relaxedSources = this.relaxedSources;
+            if (relaxedSources == null) return null;
+            Integer hit = this.relaxedKeys.get(name);
+            int limit = hit != null ? hit : relaxedSources.length;
+            for (int probe : this.relaxedProbes) {
+                if (probe >= limit) break;
+                ConfigurationProperty property = relaxedSources[probe].getConfigurationProperty(name);
+                if (property != null) return property.getValue();
+            }
+            if (hit == null) return null;
+
+            ConfigurationProperty property = relaxedSources[hit].getConfigurationProperty(name);
+            return property != null
+                    ? property.getValue()
+                    : null;
+        }
+
+        private @Nullable Object findExact(String key) {
+            Integer hit = this.keys.get(key);
+            int limit = hit != null ? hit : this.sources.length;
+            for (int probe : this.probes) {
+                if (probe >= limit) break;
+                Object value = this.sources[probe].getProperty(key);
+                if (value != null) return value;
+            }
+            if (hit == null) return null;
+
+            for (int i = hit; i < this.sources.length; i++) {
+                PropertySource<?> source = this.sources[i];
+                if (ConfigurationPropertySources.isAttachedConfigurationPropertySource(source)) continue;
+                Object value = source.getProperty(key);
+                if (value != null) return value;
+            }
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.conditionals.condition.spec;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.env.ConfigurablePropertyResolver;
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * Internal single-pass property access used by {@link PropertySpec} implementations.
+ *
+ * <p>Checking {@link PropertyResolver#containsProperty(String)} before calling
+ * {@link PropertyResolver#getProperty(String, Class)} walks the property sources twice for every present key. A
+ * lookup instead distinguishes "absent" from "present with a raw value" in a single traversal
+ * ({@link #find(String)}), and conversion to the target type is applied afterwards ({@link #convert(Object, Class)})
+ * without touching the property sources again.</p>
+ *
+ * <p><b>Semantics</b></p>
+ * <ul>
+ *     <li>{@link #find(String)} returns the value of the highest-precedence source with placeholders resolved, or
+ *     {@code null} if no source provides a non-null value.</li>
+ *     <li>{@link #convert(Object, Class)} uses the resolver's {@link ConversionService} when it exposes one (as every
+ *     {@link org.springframework.core.env.ConfigurableEnvironment} does), falling back to
+ *     {@link DefaultConversionService#getSharedInstance()}, which mirrors how the resolver itself converts.</li>
+ * </ul>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>Lookups created by {@link #of(PropertyResolver)} are as thread-safe as the underlying resolver.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see PropertySpec#collectProperties(PropertyLookup, java.util.List, java.util.List, java.util.List, PropertySpecMatcher)
+ */
+public interface PropertyLookup {
+    /**
+     * Find the raw value of the given key in a single traversal of the property sources.
+     *
+     * @param key property key
+     * @return resolved raw value, or {@code null} if the key is absent
+     */
+    @Nullable Object find(String key);
+
+    /**
+     * Convert a raw value returned by {@link #find(String)} to the given type.
+     *
+     * @param value raw property value
+     * @param targetType type to convert to
+     * @param <T> target type
+     * @return converted value (may be {@code null} if the conversion service maps the value to {@code null})
+     * @throws ConversionException if the value cannot be converted
+     */
+    <T> @Nullable T convert(Object value, Class<T> targetType);
+
+    /**
+     * Create a lookup backed by the given resolver.
+     *
+     * @param resolver property resolver, typically the {@link org.springframework.core.env.Environment} or a
+     *                 {@link PropertyIndex} snapshot
+     * @return lookup delegating to {@code resolver}
+     */
+    static PropertyLookup of(PropertyResolver resolver) {
+        @Nullable ConversionService conversionService = resolver instanceof ConfigurablePropertyResolver configurable
+                ? configurable.getConversionService()
+                : null;
+        return new ResolverPropertyLookup(resolver, conversionService);
+    }
+
+    /**
+     * Create a lookup that reads each key of {@code delegate} once and converts each scalar value to each target
+     * type once.
+     *
+     * <p>The returned lookup never observes later changes of the underlying property sources and is meant to be
+     * shared for as long as they are known to be unchanged.</p>
+     *
+     * @param delegate lookup to read from
+     * @return thread-safe caching lookup
+     */
+    static PropertyLookup caching(PropertyLookup delegate) {
+        return new CachingPropertyLookup(delegate);
+    }
+}
@@ -6,9 +6,11 @@ import org.springframework.core.convert.ConversionException;
 import org.springframework.core.env.PropertyResolver;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -26,15 +28,23 @@ import java.util.function.Function;
  *     <li>Resolve the set of property names to evaluate ({@link #resolveNames(AnnotationAttributes)}), enforcing
  *     the {@code value}/{@code name} exclusivity common to this library's annotations.</li>
  *     <li>Hold the candidate "having" value and its runtime type for conversion-based resolution.</li>
- *     <li>Collect missing and non-matching property names for structured match diagnostics
- *     ({@link #collectProperties(PropertyResolver, List, List, PropertySpecMatcher)}).</li>
+ *     <li>Collect missing, non-matching and malformed property names for structured match diagnostics
+ *     ({@link #collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)}).</li>
  * </ul>
  *
  * <p><b>Evaluation model</b></p>
  * <p>For each configured name, the effective property key is {@code prefix + name}. If the key exists, the
- * property value is retrieved as {@link #getHavingValueType()} and compared against {@link #getHavingValue()}
- * using a caller-provided {@link PropertySpecMatcher}. Missing properties are treated as no-match unless
- * {@link #isMatchIfMissing()} is {@code true}. Conversion failures are treated as non-matching values.</p>
+ * property value is converted to {@link #getHavingValueType()} and compared against {@link #getHavingValue()}
+ * using a caller-provided {@link PropertySpecMatcher}. Each key is read with a single
+ * {@link PropertyLookup#find(String) lookup} and converted afterwards. Missing properties are treated as no-match
+ * unless {@link #isMatchIfMissing()} is {@code true}. Values that cannot be converted are reported as malformed.</p>
+ *
+ * <p><b>Equality</b></p>
+ * <p>Specs are compared structurally: two specs are equal when they are of the same type and have the same
+ * annotation type, normalized prefix, names, candidate value and {@code matchIfMissing} flag. Subclasses holding
+ * further configuration include it in {@link #equals(Object)} and {@link #hashCode()}. Equal specs evaluate a
+ * property identically, so declarations that differ only in spelling (for example {@code value} versus
+ * {@code name}, or a prefix with or without a trailing dot) can share one evaluation.</p>
  *
  * <p><b>Thread safety</b></p>
  * <p>Instances are immutable after construction. Provided that {@link PropertySpecMatcher} implementations are
@@ -71,6 +81,7 @@ public abstract class PropertySpec<V, S extends PropertySpec<V, S>> {
     private final Class<? extends Annotation> annotationType;
     private final String prefix;
     private final String[] names;
+    private final String[] keys;
     private final V havingValue;
     private final Class<V> havingValueType;
     private final boolean matchIfMissing;
@@ -94,6 +105,10 @@ public abstract class PropertySpec<V, S extends PropertySpec<V, S>> {
         this.annotationType = annotationType;
         this.prefix = this.resolvePrefix(annotationAttributes);
         this.names = this.resolveNames(annotationAttributes);
+        this.keys = new String[this.names.length];
+        for (int i = 0; i < this.names.length; i++) {
+            this.keys[i] = this.prefix + this.names[i];
+        }
         this.havingValue = havingValueMapper.apply(annotationAttributes.get(HAVING_VALUE));
         this.havingValueType = (Class<V>) this.havingValue.getClass();
         this.matchIfMissing = annotationAttributes.getBoolean(MATCH_IF_MISSING);
@@ -147,39 +162,80 @@ public abstract class PropertySpec<V, S extends PropertySpec<V, S>> {
      *
      * <p>For each {@link #getNames() name}:</p>
      * <ul>
-     *     <li>If {@code resolver} contains the property key {@code prefix + name}, the value is retrieved using
-     *     {@link PropertyResolver#getProperty(String, Class)} with {@link #getHavingValueType()} and compared using
+     *     <li>The property key {@code prefix + name} is looked up once with {@link PropertyLookup#find(String)}.</li>
+     *     <li>If a value is present, it is converted with {@link #convert(Object, PropertyLookup)} and compared using
      *     {@link #isMatch(Object, PropertySpecMatcher)}.</li>
      *     <li>If the key is absent and {@link #isMatchIfMissing()} is {@code false}, the name is added to
      *     {@code missing}.</li>
-     *     <li>If conversion fails (for example due to an invalid format), the name is added to {@code nonMatching}.</li>
+     *     <li>If conversion fails (for example due to an invalid format), the name is added to {@code malformed}.</li>
      * </ul>
      *
-     * @param resolver property resolver used to access configuration properties (never {@code null})
+     * @param lookup single-pass property lookup (never {@code null})
      * @param missing output list receiving names for which the property key was not present and missing is not allowed
      * @param nonMatching output list receiving names for which the property was present but did not match
+     * @param malformed output list receiving names for which the property was present but could not be converted
      * @param matcher comparison strategy used to decide whether a resolved value matches the candidate
      */
-    public void collectProperties(PropertyResolver resolver,
+    public void collectProperties(PropertyLookup lookup,
                                   List<String> missing,
                                   List<String> nonMatching,
+                                  List<String> malformed,
                                   PropertySpecMatcher<V, S> matcher) {
-        for (String name : this.getNames()) {
+        String[] names = this.getNames();
+        String[] keys = this.getKeys();
+        for (int i = 0; i < keys.length; i++) {
             try {
-                String key = this.getPrefix() + name;
-                if (resolver.containsProperty(key)) {
-                    if (!this.isMatch(resolver.getProperty(key, this.getHavingValueType()), matcher)) {
-                        nonMatching.add(name);
+                Object value = lookup.find(keys[i]);
+                if (value != null) {
+                    if (!this.isMatch(this.convert(value, lookup), matcher)) {
+                        nonMatching.add(names[i]);
                     }
                 } else if (!this.isMatchIfMissing()) {
-                    missing.add(name);
+                    missing.add(names[i]);
                 }
             } catch (ConversionException e) {
-                nonMatching.add(name);
+                malformed.add(names[i]);
             }
         }
     }
 
+    /**
+     * Evaluate each configured property name and collect mismatches, reporting values that cannot be converted as
+     * non-matching.
+     *
+     * <p>Retained for callers written against the signature without a {@code malformed} list; delegates to
+     * {@link #collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)} with {@code nonMatching}
+     * receiving malformed names as well.</p>
+     *
+     * @param lookup single-pass property lookup (never {@code null})
+     * @param missing output list receiving names for which the property key was not present and missing is not allowed
+     * @param nonMatching output list receiving names for which the property was present but did not match or could
+     * not be converted
+     * @param matcher comparison strategy used to decide whether a resolved value matches the candidate
+     */
+    public void collectProperties(PropertyLookup lookup,
+                                  List<String> missing,
+                                  List<String> nonMatching,
+                                  PropertySpecMatcher<V, S> matcher) {
+        this.collectProperties(lookup, missing, nonMatching, nonMatching, matcher);
+    }
+
+    /**
+     * Convert a raw property value found by {@link PropertyLookup#find(String)} to the value type of this spec.
+     *
+     * <p>The default implementation converts to {@link #getHavingValueType()} using
+     * {@link PropertyLookup#convert(Object, Class)}. Subclasses with custom parsing rules override this method
+     * rather than {@link #collectProperties(PropertyLookup, List, List, List, PropertySpecMatcher)}.</p>
+     *
+     * @param value raw property value
+     * @param lookup lookup providing conversion
+     * @return converted value (may be {@code null})
+     * @throws ConversionException if the value cannot be converted
+     */
+    protected @Nullable V convert(Object value, PropertyLookup lookup) {
+        return lookup.convert(value, this.getHavingValueType());
+    }
+
     /**
      * Compare a single resolved property value against the candidate value using the provided matcher.
      *
@@ -223,6 +279,15 @@ public abstract class PropertySpec<V, S extends PropertySpec<V, S>> {
         return names;
     }
 
+    /**
+     * Return the effective property keys ({@code prefix + name}), computed once at construction.
+     *
+     * @return property keys in the same order as {@link #getNames()}
+     */
+    public String[] getKeys() {
+        return keys;
+    }
+
     /**
      * Return the candidate ("having") value used for matching.
      *
@@ -235,7 +300,7 @@ public abstract class PropertySpec<V, S extends PropertySpec<V, S>> {
     /**
      * Return the runtime type of the candidate value.
      *
-     * <p>This type is used to request conversion when resolving properties from a {@link PropertyResolver}.</p>
+     * <p>This type is the conversion target for property values read through a {@link PropertyLookup}.</p>
      *
      * @return runtime class of {@link #getHavingValue()}
      */
@@ -252,6 +317,27 @@ public abstract class PropertySpec<V, S extends PropertySpec<V, S>> {
         return matchIfMissing;
     }
 
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) return true;
+        if (other == null || this.getClass() != other.getClass()) return false;
+        PropertySpec<?, ?> spec = (PropertySpec<?, ?>) other;
+        return this.matchIfMissing == spec.matchIfMissing
+                && this.annotationType == spec.annotationType
+                && this.prefix.equals(spec.prefix)
+                && Arrays.equals(this.names, spec.names)
+                && ObjectUtils.nullSafeEquals(this.havingValue, spec.havingValue);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = ObjectUtils.nullSafeHashCode(this.annotationType);
+        result = 31 * result + this.prefix.hashCode();
+        result = 31 * result + Arrays.hashCode(this.names);
+        result = 31 * result + ObjectUtils.nullSafeHashCode(this.havingValue);
+        return 31 * result + Boolean.hashCode(this.matchIfMissing);
+    }
+
     /**
      * Return a concise representation of this specification for diagnostics.
      *
@@ -0,0 +1,253 @@
+package io.conditionals.condition.spec;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ObjectUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Bounded cache of immutable {@link PropertySpec} instances, partitioned per class loader.
+ *
+ * <p>Spring creates a new condition instance for each evaluation and rebuilds {@link AnnotationAttributes} on every
+ * metadata access, so the same annotation declaration is typically parsed several times during a single context
+ * refresh. This cache maps an annotation declaration to the spec created for it, allowing conditions to skip
+ * re-parsing (for example map pair splitting, duration parsing or class lookups).</p>
+ *
+ * <p><b>Cache key</b></p>
+ * <p>Entries are keyed by the owning condition type, the annotation type and the <em>contents</em> of the
+ * annotation attributes. Attribute values are compared structurally (arrays element by element), because Spring
+ * does not preserve attribute map identity across metadata lookups.</p>
+ *
+ * <p><b>Class loaders</b></p>
+ * <p>Each declaration is cached in the partition of the class loader that can see every class it refers to: the
+ * owning condition type, the annotation type, and class and enum attribute values. Partitions are held per class
+ * loader for as long as the class loader is reachable, and are referenced softly, so that specs referring to
+ * application classes do not keep their class loader reachable; a partition whose reference was cleared starts
+ * empty. The factory creating a spec is not retained.</p>
+ *
+ * <p><b>Eviction</b></p>
+ * <p>Each partition is bounded and evicts least recently used entries once {@link #capacity()} is exceeded. Specs
+ * that fail to be created (for example due to invalid annotation configuration) are never cached.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is thread-safe. Cached specs are immutable and may be shared across threads and application
+ * contexts.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ * @see io.conditionals.condition.impl.PropertySpringBootCondition
+ */
+public final class PropertySpecCache {
+    /**
+     * Default maximum number of cached specs used by {@link #shared()}.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+    private static final PropertySpecCache SHARED = new PropertySpecCache(DEFAULT_CAPACITY);
+    private final int capacity;
+    private final Map<ClassLoader, SoftReference<ConcurrentLruCache<Key, PropertySpec<?, ?>>>> partitions =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new cache holding at most {@code capacity} specs.
+     *
+     * @param capacity maximum number of cached specs per class loader; must not be negative
+     */
+    public PropertySpecCache(int capacity) {
+        Assert.isTrue(capacity >= 0, "Capacity must not be negative");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Return the cache instance used by this library's conditions.
+     *
+     * @return shared cache
+     */
+    public static PropertySpecCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Return the spec for the given annotation declaration, creating it with {@code factory} if necessary.
+     *
+     * @param owner condition type producing the spec; used to separate specs of different conditions
+     * @param annotationType annotation type of the declaration (may be {@code null} depending on metadata source)
+     * @param annotationAttributes resolved annotation attributes
+     * @param factory factory invoked on cache miss
+     * @param <S> spec type
+     * @return cached or newly created spec
+     */
+    @SuppressWarnings("unchecked")
+    public <S extends PropertySpec<?, ?>> S get(Class<?> owner,
+                                                @Nullable Class<? extends Annotation> annotationType,
+                                                AnnotationAttributes annotationAttributes,
+                                                BiFunction<@Nullable Class<? extends Annotation>, AnnotationAttributes, S> factory) {
+        this.lookups.increment();
+        ClassLoader classLoader = getClassLoader(owner, annotationType, annotationAttributes);
+        return (S) this.getPartition(classLoader).get(new Key(owner, annotationType, annotationAttributes, factory));
+    }
+
+    private ConcurrentLruCache<Key, PropertySpec<?, ?>> getPartition(ClassLoader classLoader) {
+        synchronized (this.partitions) {
+            SoftReference<ConcurrentLruCache<Key, PropertySpec<?, ?>>> reference = this.partitions.get(classLoader);
+            ConcurrentLruCache<Key, PropertySpec<?, ?>> partition = reference != null ? reference.get() : null;
+            if (partition == null) {
+                partition = new ConcurrentLruCache<>(this.capacity, this::create);
+                this.partitions.put(classLoader, new SoftReference<>(partition));
+            }
+
+            return partition;
+        }
+    }
+
+    private static ClassLoader getClassLoader(Class<?> owner,
+                                              @Nullable Class<? extends Annotation> annotationType,
+                                              AnnotationAttributes annotationAttributes) {
+        ClassLoader classLoader = owner.getClassLoader();
+        classLoader = narrow(classLoader, annotationType);
+        for (Object value : annotationAttributes.values()) {
+            if (value instanceof Object[] values) {
+                for (Object element : values) {
+                    classLoader = narrow(classLoader, element);
+                }
+            } else {
+                classLoader = narrow(classLoader, value);
+            }
+        }
+
+        return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+    }
+
+    private static @Nullable ClassLoader narrow(@Nullable ClassLoader classLoader, @Nullable Object value) {
+        Class<?> type = value instanceof Class<?> clazz ? clazz
+                : value instanceof Enum<?> constant ? constant.getDeclaringClass()
+                : null;
+        return type != null && !ClassUtils.isCacheSafe(type, classLoader) ? type.getClassLoader() : classLoader;
+    }
+
+    /**
+     * Return the number of lookups answered from the cache.
+     *
+     * @return hit count since creation or the last {@link #clear()}
+     */
+    public long getHitCount() {
+        return Math.max(0, this.lookups.sum() - this.misses.sum());
+    }
+
+    /**
+     * Return the number of lookups that required a spec to be created.
+     *
+     * @return miss count since creation or the last {@link #clear()}
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the current number of cached specs.
+     *
+     * @return cache size
+     */
+    public int size() {
+        synchronized (this.partitions) {
+            int size = 0;
+            for (SoftReference<ConcurrentLruCache<Key, PropertySpec<?, ?>>> reference : this.partitions.values()) {
+                ConcurrentLruCache<Key, PropertySpec<?, ?>> partition = reference.get();
+                if (partition != null) size += partition.size();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Return the maximum number of cached specs per class loader.
+     *
+     * @return cache capacity
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Remove all cached specs and reset hit/miss counters.
+     */
+    public void clear() {
+        this.partitions.clear();
+        this.lookups.reset();
+        this.misses.reset();
+    }
+
+    private PropertySpec<?, ?> create(Key key) {
+        this.misses.increment();
+        BiFunction<@Nullable Class<? extends Annotation>, AnnotationAttributes, ? extends PropertySpec<?, ?>> factory = key.factory;
+        Assert.state(factory != null, "Spec factory already used");
+        key.factory = null;
+        return factory.apply(key.annotationType, key.annotationAttributes);
+    }
+
+    /**
+     * Cache key comparing annotation attributes by content.
+     *
+     * <p>The factory is carried along to create the spec on a miss and does not participate in equality. It is
+     * cleared once used, so that cached keys do not retain the condition instance it may be bound to.</p>
+     */
+    private static final class Key {
+        private final Class<?> owner;
+        private final @Nullable Class<? extends Annotation> annotationType;
+        private final AnnotationAttributes annotationAttributes;
+        private @Nullable BiFunction<@Nullable Class<? extends Annotation>, AnnotationAttributes, ? extends PropertySpec<?, ?>> factory;
+        private final int hash;
+
+        private Key(Class<?> owner,
+                    @Nullable Class<? extends Annotation> annotationType,
+                    AnnotationAttributes annotationAttributes,
+                    BiFunction<@Nullable Class<? extends Annotation>, AnnotationAttributes, ? extends PropertySpec<?, ?>> factory) {
+            this.owner = owner;
+            this.annotationType = annotationType;
+            this.annotationAttributes = annotationAttributes;
+            this.factory = factory;
+            this.hash = 31 * (31 * owner.hashCode() + ObjectUtils.nullSafeHashCode(annotationType)) + hashAttributes(annotationAttributes);
+        }
+
+        private static int hashAttributes(AnnotationAttributes annotationAttributes) {
+            int hash = 0;
+            for (Map.Entry<String, Object> entry : annotationAttributes.entrySet()) {
+                hash += entry.getKey().hashCode() ^ ObjectUtils.nullSafeHashCode(entry.getValue());
+            }
+            return hash;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object other) {
+            if (this == other) return true;
+            if (!(other instanceof Key key)) return false;
+            if (this.hash != key.hash || this.owner != key.owner || this.annotationType != key.annotationType) return false;
+            if (this.annotationAttributes.size() != key.annotationAttributes.size()) return false;
+
+            for (Map.Entry<String, Object> entry : this.annotationAttributes.entrySet()) {
+                Object otherValue = key.annotationAttributes.get(entry.getKey());
+                if (!ObjectUtils.nullSafeEquals(entry.getValue(), otherValue)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
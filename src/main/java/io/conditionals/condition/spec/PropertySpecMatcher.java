@@ -5,18 +5,18 @@ import org.jspecify.annotations.Nullable;
 /**
  * Strategy interface used to compare a resolved property value to a candidate ("having") value.
  *
- * <p>Matchers are used by {@link PropertySpec#collectProperties(org.springframework.core.env.PropertyResolver, java.util.List, java.util.List, PropertySpecMatcher)}
+ * <p>Matchers are used by {@link PropertySpec#collectProperties(PropertyLookup, java.util.List, java.util.List, java.util.List, PropertySpecMatcher)}
  * and are created by {@link io.conditionals.condition.impl.PropertySpringBootCondition} implementations to
  * apply type-specific matching semantics (numeric comparison, string matching, collection semantics, etc.).</p>
  *
  * <p><b>Nullability</b></p>
- * <p>The {@code property} argument may be {@code null} (for example if a resolver returns {@code null} for a
- * present key). Implementations should treat {@code null} as non-matching unless the specific condition
+ * <p>The {@code property} argument may be {@code null} (for example if conversion maps a present value to
+ * {@code null}). Implementations should treat {@code null} as non-matching unless the specific condition
  * semantics require otherwise.</p>
  *
  * <p><b>Thread safety</b></p>
- * <p>Implementations should be stateless or otherwise thread-safe. The library typically creates matcher
- * instances per evaluation.</p>
+ * <p>Implementations should be stateless or otherwise thread-safe. The library typically shares a single matcher
+ * instance across evaluations.</p>
  *
  * @param <V> resolved property value type
  * @param <S> spec type
@@ -0,0 +1,38 @@
+package io.conditionals.condition.spec;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Default {@link PropertyLookup} delegating to a {@link PropertyResolver}.
+ *
+ * <p>{@link #find(String)} requests the value as {@link Object}, which resolves placeholders but leaves the value
+ * unconverted, so the resolver walks its property sources once per key.</p>
+ *
+ * @param resolver property resolver
+ * @param conversionService conversion service of the resolver, or {@code null} if it does not expose one
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+record ResolverPropertyLookup(PropertyResolver resolver,
+                              @Nullable ConversionService conversionService) implements PropertyLookup {
+    @Override
+    public @Nullable Object find(String key) {
+        return this.resolver.getProperty(key, Object.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T convert(Object value, Class<T> targetType) {
+        ConversionService conversionService = this.conversionService;
+        if (conversionService == null) {
+            if (ClassUtils.isAssignableValue(targetType, value)) return (T) value;
+            conversionService = DefaultConversionService.getSharedInstance();
+        }
+
+        return conversionService.convert(value, targetType);
+    }
+}
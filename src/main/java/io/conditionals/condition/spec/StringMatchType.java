@@ -18,6 +18,6 @@ public enum StringMatchType {
     STARTS_WITH,
     /** Match when {@code property.endsWith(candidate)} (optionally normalized by the condition). */
     ENDS_WITH,
-    /** Match when {@code property.matches(candidate)} treating {@code candidate} as a regular expression. */
+    /** Match when the whole property matches {@code candidate} treated as a regular expression (compiled once per spec). */
     MATCHES
 }
@@ -0,0 +1,181 @@
+package io.conditionals.condition.utils;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Text encoding of conditional annotation declarations stored in
+ * {@code META-INF/spring-autoconfigure-metadata.properties} or {@value #METADATA_LOCATION}.
+ *
+ * <p>Spring Boot stores auto-configuration metadata as {@code <class name>.<key>=<value>} entries. For the
+ * conditions of this library the key is the simple name of the annotation (for example
+ * {@code ConditionalOnStringProperty}) and the value lists every declaration of that annotation on the class,
+ * including repeated ones. Entries written by hand go into Spring Boot's file; entries generated by the
+ * {@code conditionals-spring-boot-processor} annotation processor go into {@value #METADATA_LOCATION}, because
+ * Spring Boot's own annotation processor owns the former during compilation.</p>
+ *
+ * <p><b>Format</b></p>
+ * <ul>
+ *     <li>Declarations are separated by {@code ;}.</li>
+ *     <li>A declaration is a list of {@code attribute=value} pairs separated by {@code &}. Attributes that are not
+ *     listed take the default declared by the annotation.</li>
+ *     <li>Array elements are separated by {@code ,}; an empty value denotes an empty array.</li>
+ *     <li>Every value or element is URL-encoded with UTF-8, so none of the separators appear in encoded text.
+ *     Enumeration constants are encoded by name.</li>
+ * </ul>
+ *
+ * <p>For example {@code @ConditionalOnStringProperty(name = "app.mode", havingValue = "a,b")} is encoded as
+ * {@code name=app.mode&havingValue=a%2Cb}.</p>
+ *
+ * <p><b>Decoding</b></p>
+ * <p>{@link #decode(Class, String)} converts values to the return type of the corresponding annotation attribute:
+ * {@link String}, primitives, enumeration constants and arrays of strings. Attributes of any other type cannot be
+ * represented and are rejected, as are unknown attributes.</p>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is stateless and thread-safe.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+public final class ConditionMetadataCodec {
+    /**
+     * Location of generated condition metadata.
+     */
+    public static final String METADATA_LOCATION = "META-INF/conditionals-autoconfigure-metadata.properties";
+    private static final String DECLARATION_SEPARATOR = ";";
+    private static final String ATTRIBUTE_SEPARATOR = "&";
+    private static final String ELEMENT_SEPARATOR = ",";
+
+    private ConditionMetadataCodec() {
+    }
+
+    /**
+     * Encode annotation declarations.
+     *
+     * @param declarations attributes of each declaration; values are strings, primitive wrappers, enumeration
+     *                     constants or arrays of those
+     * @return encoded text
+     */
+    public static String encode(List<? extends Map<String, ?>> declarations) {
+        StringJoiner text = new StringJoiner(DECLARATION_SEPARATOR);
+        for (Map<String, ?> declaration : declarations) {
+            StringJoiner attributes = new StringJoiner(ATTRIBUTE_SEPARATOR);
+            declaration.forEach((name, value) -> attributes.add(name + "=" + encodeValue(value)));
+            text.add(attributes.toString());
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Decode annotation declarations of the given type.
+     *
+     * @param annotationType annotation type whose attributes are encoded
+     * @param text encoded text
+     * @return attributes of each declaration, with defaults applied to attributes that are not listed
+     * @throws IllegalArgumentException if the text names an unknown attribute, holds a value that cannot be
+     * converted to the attribute type, or the annotation declares an attribute type that cannot be represented
+     */
+    public static List<AnnotationAttributes> decode(Class<? extends Annotation> annotationType, String text) {
+        List<AnnotationAttributes> declarations = new ArrayList<>();
+        for (String declaration : StringUtils.delimitedListToStringArray(text, DECLARATION_SEPARATOR)) {
+            AnnotationAttributes attributes = new AnnotationAttributes(annotationType);
+            for (Method attribute : annotationType.getDeclaredMethods()) {
+                attributes.put(attribute.getName(), AnnotationUtils.getDefaultValue(annotationType, attribute.getName()));
+            }
+            for (String pair : StringUtils.delimitedListToStringArray(declaration, ATTRIBUTE_SEPARATOR)) {
+                int separator = pair.indexOf('=');
+                String name = separator < 0 ? pair : pair.substring(0, separator);
+                if (!attributes.containsKey(name)) {
+                    throw new IllegalArgumentException("Unknown attribute '%s' of @%s".formatted(name, annotationType.getSimpleName()));
+                }
+                String value = separator < 0 ? "" : pair.substring(separator + 1);
+                attributes.put(name, decodeValue(annotationType, name, value));
+            }
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                if (attribute.getValue() == null) {
+                    throw new IllegalArgumentException("Missing attribute '%s' of @%s".formatted(attribute.getKey(), annotationType.getSimpleName()));
+                }
+            }
+            declarations.add(attributes);
+        }
+
+        return declarations;
+    }
+
+    private static String encodeValue(@Nullable Object value) {
+        if (value == null) return "";
+        if (value.getClass().isArray()) {
+            StringJoiner elements = new StringJoiner(ELEMENT_SEPARATOR);
+            for (int i = 0; i < Array.getLength(value); i++) {
+                elements.add(encodeElement(Array.get(value, i)));
+            }
+            return elements.toString();
+        }
+
+        return encodeElement(value);
+    }
+
+    private static String encodeElement(Object element) {
+        String text = element instanceof Enum<?> constant ? constant.name() : String.valueOf(element);
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+
+    private static Object decodeValue(Class<? extends Annotation> annotationType, String name, String value) {
+        Class<?> type;
+        try {
+            type = annotationType.getDeclaredMethod(name).getReturnType();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Unknown attribute '%s' of @%s".formatted(name, annotationType.getSimpleName()), e);
+        }
+        if (type == String[].class) {
+            String[] elements = value.isEmpty() ? new String[0] : StringUtils.delimitedListToStringArray(value, ELEMENT_SEPARATOR);
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = URLDecoder.decode(elements[i], StandardCharsets.UTF_8);
+            }
+            return elements;
+        }
+
+        String element = URLDecoder.decode(value, StandardCharsets.UTF_8);
+        try {
+            return decodeElement(type, element);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value '%s' for attribute '%s' of @%s"
+                    .formatted(element, name, annotationType.getSimpleName()), e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object decodeElement(Class<?> type, String element) {
+        if (type == String.class) return element;
+        if (type == boolean.class) {
+            if (!element.equals("true") && !element.equals("false")) throw new IllegalArgumentException("Not a boolean");
+            return Boolean.parseBoolean(element);
+        }
+        if (type == int.class) return Integer.parseInt(element);
+        if (type == long.class) return Long.parseLong(element);
+        if (type == float.class) return Float.parseFloat(element);
+        if (type == double.class) return Double.parseDouble(element);
+        if (type == char.class) {
+            if (element.length() != 1) throw new IllegalArgumentException("Not a single character");
+            return element.charAt(0);
+        }
+        if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, element);
+
+        throw new IllegalArgumentException("Attributes of type " + type.getName() + " cannot be decoded");
+    }
+}
@@ -0,0 +1,501 @@
+package io.conditionals.condition.utils;
+
+/**
+ * Allocation-free parsing of numeric property values.
+ *
+ * <p>Spring's default {@code String}-to-{@link Number} conversion removes all whitespace, decodes hexadecimal
+ * values for integral types ({@code 0x}, {@code 0X} and {@code #}, optionally preceded by {@code -}) and otherwise
+ * delegates to {@code Integer.valueOf}, {@code Long.valueOf}, {@code Float.valueOf} or {@code Double.valueOf}. Each of
+ * those steps may allocate, and the result is boxed. The methods of this type accept the same inputs, return
+ * primitives without allocating, and additionally accept the forms commonly used by capacity properties. The numeric
+ * property conditions parse {@code String} property values with this type, so the syntax below is the syntax they
+ * accept.</p>
+ *
+ * <p><b>Extensions</b></p>
+ * <ul>
+ *     <li>Underscores may separate digits, as in Java literals ({@code 1_000_000}, {@code 0xFF_FF}). An underscore
+ *     must be preceded and followed by a digit.</li>
+ *     <li>Decimal values may end with a unit suffix: {@code k} or {@code K} (10<sup>3</sup>), {@code M}
+ *     (10<sup>6</sup>), {@code G} (10<sup>9</sup>), {@code T} (10<sup>12</sup>), or one of the binary suffixes
+ *     {@code Ki} (2<sup>10</sup>), {@code Mi} (2<sup>20</sup>), {@code Gi} (2<sup>30</sup>) and {@code Ti}
+ *     (2<sup>40</sup>). Suffixes cannot be combined with hexadecimal values or exponents, and integral values that
+ *     overflow once the suffix is applied are malformed.</li>
+ * </ul>
+ *
+ * <p><b>Floating point</b></p>
+ * <p>Plain decimal values ({@code [sign] digits [. digits] [e|E [sign] digits | suffix]}) whose significand and
+ * decimal exponent are small enough to be represented exactly are computed directly, which is correctly rounded.
+ * Every other input (for example {@code NaN}, {@code Infinity}, hexadecimal floating point literals or values with
+ * many significant digits) falls back to {@link Double#parseDouble(String)} / {@link Float#parseFloat(String)},
+ * which allocates.</p>
+ *
+ * <p><b>Errors</b></p>
+ * <p>The {@code parse*} methods report malformed or out-of-range values with {@link NumberFormatException}, as the
+ * JDK parsers do. The {@code parse*} overloads taking a fallback return it instead, and the {@code canParse*}
+ * methods validate a value without throwing, so that callers can report malformed values without relying on
+ * exceptions; for integral values neither allocates. Callers that must tell a malformed value from one equal to the
+ * fallback parse once with the fallback and only confirm with {@code canParse*} when the fallback is returned:</p>
+ * <pre>{@code
+ * long value = NumberParser.parseLong(text, Long.MIN_VALUE);
+ * boolean malformed = value == Long.MIN_VALUE && !NumberParser.canParseLong(text);
+ * }</pre>
+ *
+ * <p><b>Thread safety</b></p>
+ * <p>This type is stateless and thread-safe.</p>
+ *
+ * @author Maksym Uimanov
+ * @since 1.0
+ */
+public final class NumberParser {
+    private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+    private static final long MAX_EXACT_FLOAT_SIGNIFICAND = 1L << 24;
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    private static final long INVALID = 0;
+    private static final long VALID = 1;
+    private static final int STRICT = 0;
+    private static final int VALIDATE = 1;
+    private static final int LENIENT = 2;
+
+    private NumberParser() {
+    }
+
+    /**
+     * Parse an {@code int} using the rules of Spring's default number conversion and the extensions above.
+     *
+     * @param text text to parse
+     * @return parsed value
+     * @throws NumberFormatException if the text is not a valid {@code int}
+     */
+    public static int parseInt(CharSequence text) {
+        return (int) parseIntegral(text, Integer.MIN_VALUE, Integer.MAX_VALUE, STRICT, 0);
+    }
+
+    /**
+     * Parse an {@code int} like {@link #parseInt(CharSequence)}, returning {@code fallback} if the text is not a
+     * valid {@code int}, without throwing.
+     *
+     * @param text text to parse
+     * @param fallback value returned for malformed or out-of-range text
+     * @return parsed value, or {@code fallback}
+     */
+    public static int parseInt(CharSequence text, int fallback) {
+        long value = parseIntegral(text, Integer.MIN_VALUE, Integer.MAX_VALUE, LENIENT, Long.MIN_VALUE);
+        return value != Long.MIN_VALUE ? (int) value : fallback;
+    }
+
+    /**
+     * Determine whether {@link #parseInt(CharSequence)} accepts the given text, without throwing.
+     *
+     * @param text text to check
+     * @return {@code true} if the text is a valid {@code int}
+     */
+    public static boolean canParseInt(CharSequence text) {
+        return parseIntegral(text, Integer.MIN_VALUE, Integer.MAX_VALUE, VALIDATE, INVALID) == VALID;
+    }
+
+    /**
+     * Parse a {@code long} using the rules of Spring's default number conversion and the extensions above.
+     *
+     * @param text text to parse
+     * @return parsed value
+     * @throws NumberFormatException if the text is not a valid {@code long}
+     */
+    public static long parseLong(CharSequence text) {
+        return parseIntegral(text, Long.MIN_VALUE, Long.MAX_VALUE, STRICT, 0);
+    }
+
+    /**
+     * Parse a {@code long} like {@link #parseLong(CharSequence)}, returning {@code fallback} if the text is not a
+     * valid {@code long}, without throwing.
+     *
+     * @param text text to parse
+     * @param fallback value returned for malformed or out-of-range text
+     * @return parsed value, or {@code fallback}
+     */
+    public static long parseLong(CharSequence text, long fallback) {
+        return parseIntegral(text, Long.MIN_VALUE, Long.MAX_VALUE, LENIENT, fallback);
+    }
+
+    /**
+     * Determine whether {@link #parseLong(CharSequence)} accepts the given text, without throwing.
+     *
+     * @param text text to check
+     * @return {@code true} if the text is a valid {@code long}
+     */
+    public static boolean canParseLong(CharSequence text) {
+        return parseIntegral(text, Long.MIN_VALUE, Long.MAX_VALUE, VALIDATE, INVALID) == VALID;
+    }
+
+    /**
+     * Parse a {@code float} using the rules of Spring's default number conversion and the extensions above.
+     *
+     * @param text text to parse
+     * @return parsed value
+     * @throws NumberFormatException if the text is not a valid {@code float}
+     */
+    public static float parseFloat(CharSequence text) {
+        double value = parseExactDecimal(text, true);
+        return !Double.isNaN(value)
+                ? (float) value
+                : (float) parseFallback(text, true);
+    }
+
+    /**
+     * Parse a {@code float} like {@link #parseFloat(CharSequence)}, returning {@code fallback} if the text is not a
+     * valid {@code float}, without throwing.
+     *
+     * @param text text to parse
+     * @param fallback value returned for malformed text
+     * @return parsed value, or {@code fallback}
+     */
+    public static float parseFloat(CharSequence text, float fallback) {
+        double value = parseExactDecimal(text, true);
+        return !Double.isNaN(value)
+                ? (float) value
+                : (float) parseFallback(text, true, fallback);
+    }
+
+    /**
+     * Determine whether {@link #parseFloat(CharSequence)} accepts the given text, without throwing.
+     *
+     * @param text text to check
+     * @return {@code true} if the text is a valid {@code float}
+     */
+    public static boolean canParseFloat(CharSequence text) {
+        return canParseFloating(text, true);
+    }
+
+    /**
+     * Parse a {@code double} using the rules of Spring's default number conversion and the extensions above.
+     *
+     * @param text text to parse
+     * @return parsed value
+     * @throws NumberFormatException if the text is not a valid {@code double}
+     */
+    public static double parseDouble(CharSequence text) {
+        double value = parseExactDecimal(text, false);
+        return !Double.isNaN(value)
+                ? value
+                : parseFallback(text, false);
+    }
+
+    /**
+     * Parse a {@code double} like {@link #parseDouble(CharSequence)}, returning {@code fallback} if the text is not
+     * a valid {@code double}, without throwing.
+     *
+     * @param text text to parse
+     * @param fallback value returned for malformed text
+     * @return parsed value, or {@code fallback}
+     */
+    public static double parseDouble(CharSequence text, double fallback) {
+        double value = parseExactDecimal(text, false);
+        return !Double.isNaN(value)
+                ? value
+                : parseFallback(text, false, fallback);
+    }
+
+    /**
+     * Determine whether {@link #parseDouble(CharSequence)} accepts the given text, without throwing.
+     *
+     * @param text text to check
+     * @return {@code true} if the text is a valid {@code double}
+     */
+    public static boolean canParseDouble(CharSequence text) {
+        return canParseFloating(text, false);
+    }
+
+    /**
+     * Parse an integral value in one of three modes: {@link #STRICT} throws for malformed text, {@link #VALIDATE}
+     * returns {@link #VALID} or {@code fallback} without computing the value, and {@link #LENIENT} returns the value
+     * or {@code fallback}.
+     *
+     * @return parsed value, {@link #VALID} when validating, or {@code fallback} for malformed text
+     * @throws NumberFormatException if strict and the text is malformed or out of range
+     */
+    private static long parseIntegral(CharSequence text, long min, long max, int mode, long fallback) {
+        int length = text.length();
+        int index = skipWhitespace(text, 0);
+        if (index == length) return invalid(text, mode, fallback);
+
+        boolean negative = false;
+        char first = text.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index = skipWhitespace(text, index + 1);
+        }
+
+        int radix = 10;
+        if (index < length && first != '+') {
+            char c = text.charAt(index);
+            if (c == '#') {
+                radix = 16;
+                index = skipWhitespace(text, index + 1);
+            } else if (c == '0') {
+                int next = skipWhitespace(text, index + 1);
+                if (next < length && (text.charAt(next) == 'x' || text.charAt(next) == 'X')) {
+                    radix = 16;
+                    index = skipWhitespace(text, next + 1);
+                }
+            }
+        }
+
+        // Accumulate negatively so that the minimum value can be represented.
+        long limit = negative ? min : -max;
+        long multiplicationLimit = limit / radix;
+        long result = 0;
+        boolean digits = false;
+        char previous = 0;
+        for (; index < length; index = skipWhitespace(text, index + 1)) {
+            char c = text.charAt(index);
+            if (c == '_') {
+                if (!digits) return invalid(text, mode, fallback);
+            } else {
+                int digit = Character.digit(c, radix);
+                if (digit < 0) break;
+                if (result < multiplicationLimit) return invalid(text, mode, fallback);
+                result *= radix;
+                if (result < limit + digit) return invalid(text, mode, fallback);
+                result -= digit;
+                digits = true;
+            }
+            previous = c;
+        }
+        if (!digits || previous == '_') return invalid(text, mode, fallback);
+
+        if (index < length) {
+            int suffixEnd = skipSuffix(text, index);
+            long factor = radix == 10 ? suffixFactor(text, index, suffixEnd) : 0;
+            if (factor == 0 || skipWhitespace(text, suffixEnd) != length || result < limit / factor) {
+                return invalid(text, mode, fallback);
+            }
+            result *= factor;
+        }
+        if (mode == VALIDATE) return VALID;
+
+        return negative ? result : -result;
+    }
+
+    private static boolean canParseFloating(CharSequence text, boolean single) {
+        if (!Double.isNaN(parseExactDecimal(text, single))) return true;
+        try {
+            parseFallback(text, single);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static double parseFallback(CharSequence text, boolean single, double fallback) {
+        try {
+            return parseFallback(text, single);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Parse a plain decimal literal whose significand and exponent are exactly representable, so that a single
+     * multiplication or division yields the correctly rounded result.
+     *
+     * @param text text to parse
+     * @param single whether to compute in {@code float} precision
+     * @return parsed value, or {@link Double#NaN} if the text is not such a literal
+     */
+    private static double parseExactDecimal(CharSequence text, boolean single) {
+        int length = text.length();
+        int index = skipWhitespace(text, 0);
+        if (index == length) return Double.NaN;
+
+        boolean negative = false;
+        char first = text.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index = skipWhitespace(text, index + 1);
+        }
+
+        long significand = 0;
+        int exponent = 0;
+        boolean digits = false;
+        boolean fraction = false;
+        char previous = 0;
+        for (; index < length; index = skipWhitespace(text, index + 1)) {
+            char c = text.charAt(index);
+            if (isDigit(c)) {
+                if (significand > MAX_EXACT_DOUBLE_SIGNIFICAND) return Double.NaN;
+                significand = significand * 10 + (c - '0');
+                if (fraction) exponent--;
+                digits = true;
+            } else if (c == '_' && (isDigit(previous) || previous == '_')) {
+                // Separator between digits; validated once the next character is known.
+            } else if (c == '.' && !fraction && previous != '_') {
+                fraction = true;
+            } else {
+                break;
+            }
+            previous = c;
+        }
+        if (!digits || previous == '_') return Double.NaN;
+
+        int binaryExponent = 0;
+        if (index < length) {
+            char c = text.charAt(index);
+            if (c != 'e' && c != 'E') {
+                int suffixEnd = skipSuffix(text, index);
+                if (skipWhitespace(text, suffixEnd) != length) return Double.NaN;
+                binaryExponent = binarySuffixExponent(text, index, suffixEnd);
+                int decimalExponent = decimalSuffixExponent(text, index, suffixEnd);
+                if (binaryExponent == 0 && decimalExponent == 0) return Double.NaN;
+                exponent += decimalExponent;
+            } else {
+                index = skipWhitespace(text, index + 1);
+                boolean negativeExponent = false;
+                if (index < length && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+                    negativeExponent = text.charAt(index) == '-';
+                    index = skipWhitespace(text, index + 1);
+                }
+                int explicitExponent = 0;
+                boolean exponentDigits = false;
+                for (; index < length; index = skipWhitespace(text, index + 1)) {
+                    c = text.charAt(index);
+                    if (!isDigit(c) || explicitExponent > DOUBLE_POWERS_OF_TEN.length) return Double.NaN;
+                    explicitExponent = explicitExponent * 10 + (c - '0');
+                    exponentDigits = true;
+                }
+                if (!exponentDigits) return Double.NaN;
+                exponent += negativeExponent ? -explicitExponent : explicitExponent;
+            }
+        }
+
+        double value;
+        if (single) {
+            if (significand > MAX_EXACT_FLOAT_SIGNIFICAND || Math.abs(exponent) >= FLOAT_POWERS_OF_TEN.length) return Double.NaN;
+            value = Math.scalb(exponent >= 0
+                    ? (float) significand * FLOAT_POWERS_OF_TEN[exponent]
+                    : (float) significand / FLOAT_POWERS_OF_TEN[-exponent], binaryExponent);
+        } else {
+            if (significand > MAX_EXACT_DOUBLE_SIGNIFICAND || Math.abs(exponent) >= DOUBLE_POWERS_OF_TEN.length) return Double.NaN;
+            value = Math.scalb(exponent >= 0
+                    ? (double) significand * DOUBLE_POWERS_OF_TEN[exponent]
+                    : (double) significand / DOUBLE_POWERS_OF_TEN[-exponent], binaryExponent);
+        }
+
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse a value without an exact fast path with the JDK parser, after removing whitespace and underscores. A
+     * decimal unit suffix is rewritten as an exponent and a binary one is applied with {@link Math#scalb}.
+     *
+     * @param text text to parse
+     * @param single whether to parse in {@code float} precision
+     * @return parsed value
+     * @throws NumberFormatException if the text is malformed
+     */
+    private static double parseFallback(CharSequence text, boolean single) {
+        int end = text.length();
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        int binaryExponent = end >= 2 ? binarySuffixExponent(text, end - 2, end) : 0;
+        int decimalExponent = binaryExponent == 0 && end >= 1 ? decimalSuffixExponent(text, end - 1, end) : 0;
+        int literalEnd = binaryExponent != 0 ? end - 2 : decimalExponent != 0 ? end - 1 : end;
+
+        StringBuilder literal = new StringBuilder(end + 4);
+        char previous = 0;
+        boolean separator = false;
+        for (int i = 0; i < literalEnd; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c == '_') {
+                if (!isDigit(previous)) throw invalid(text);
+                separator = true;
+                continue;
+            }
+            if (separator && !isDigit(c)) throw invalid(text);
+            if (literalEnd < end && !isDigit(c) && c != '.' && c != '+' && c != '-') throw invalid(text);
+            separator = false;
+            literal.append(c);
+            previous = c;
+        }
+        if (separator) throw invalid(text);
+        if (decimalExponent != 0) {
+            literal.append('e').append(decimalExponent);
+        }
+
+        return single
+                ? Math.scalb(Float.parseFloat(literal.toString()), binaryExponent)
+                : Math.scalb(Double.parseDouble(literal.toString()), binaryExponent);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int skipSuffix(CharSequence text, int index) {
+        int length = text.length();
+        int end = index;
+        while (end < length && end - index < 2 && "kKMGTi".indexOf(text.charAt(end)) >= 0) {
+            end++;
+        }
+
+        return end;
+    }
+
+    private static long suffixFactor(CharSequence text, int start, int end) {
+        int binaryExponent = binarySuffixExponent(text, start, end);
+        if (binaryExponent != 0) return 1L << binaryExponent;
+        return switch (decimalSuffixExponent(text, start, end)) {
+            case 3 -> 1_000L;
+            case 6 -> 1_000_000L;
+            case 9 -> 1_000_000_000L;
+            case 12 -> 1_000_000_000_000L;
+            default -> 0;
+        };
+    }
+
+    private static int decimalSuffixExponent(CharSequence text, int start, int end) {
+        if (end - start != 1) return 0;
+        return switch (text.charAt(start)) {
+            case 'k', 'K' -> 3;
+            case 'M' -> 6;
+            case 'G' -> 9;
+            case 'T' -> 12;
+            default -> 0;
+        };
+    }
+
+    private static int binarySuffixExponent(CharSequence text, int start, int end) {
+        if (end - start != 2 || text.charAt(start + 1) != 'i') return 0;
+        return switch (text.charAt(start)) {
+            case 'K' -> 10;
+            case 'M' -> 20;
+            case 'G' -> 30;
+            case 'T' -> 40;
+            default -> 0;
+        };
+    }
+
+    private static int skipWhitespace(CharSequence text, int index) {
+        int length = text.length();
+        while (index < length && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+
+        return index;
+    }
+
+    private static long invalid(CharSequence text, int mode, long fallback) {
+        if (mode != STRICT) return fallback;
+        throw invalid(text);
+    }
+
+    private static NumberFormatException invalid(CharSequence text) {
+        return new NumberFormatException("For input string: \"" + text + "\"");
+    }
+}
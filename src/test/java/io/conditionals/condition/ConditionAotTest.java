@@ -0,0 +1,149 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.aot.BuildTimeProperties;
+import io.conditionals.condition.aot.ConditionBeanFactoryInitializationAotProcessor;
+import io.conditionals.condition.aot.ConditionRuntimeHints;
+import io.conditionals.condition.impl.OnEnumPropertyCondition;
+import io.conditionals.condition.impl.OnStringPropertyCondition;
+import io.conditionals.condition.spec.PropertyConditionEvaluators;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.javapoet.ClassName;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class ConditionAotTest {
+    @Test
+    void conditionRuntimeHints_shouldRegisterConditionsAndResources() {
+        RuntimeHints hints = new RuntimeHints();
+        new ConditionRuntimeHints().registerHints(hints, this.getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(OnStringPropertyCondition.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(OnEnumPropertyCondition.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource(PropertyConditionEvaluators.REGISTRY_LOCATION))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PropertyConditionEvaluatorTest.GeneratedConfigEvaluator.class))
+                .accepts(hints);
+    }
+
+    @Test
+    void conditionAotProcessor_shouldRegisterEnumTypes() throws IOException {
+        GenerationResult result = this.process(Map.of("app.mode", "fast"));
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(Mode.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(result.hints());
+        assertThat(result.initializers())
+                .isEmpty();
+    }
+
+    @Test
+    void conditionAotProcessor_shouldRecordBuildTimeProperties() throws IOException {
+        GenerationResult result = this.process(Map.of(
+                "app.mode", "fast",
+                BuildTimeProperties.PROPERTY, "app.mode, app.region"));
+
+        assertThat(result.initializers())
+                .hasSize(1);
+        assertThat(result.source())
+                .contains("BuildTimeProperties.verify(environment, \"app.mode\", \"fast\", \"app.region\", null)");
+    }
+
+    @Test
+    void buildTimeProperties_shouldRejectChangedValues() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.mode", "slow")
+                .withProperty("app.region", "eu");
+
+        assertThatNoException()
+                .isThrownBy(() -> BuildTimeProperties.verify(environment, "app.mode", "slow", "app.tier", null));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> BuildTimeProperties.verify(environment, "app.mode", "fast", "app.region", null))
+                .withMessageContaining("'app.mode' was 'fast' at build time but is 'slow'")
+                .withMessageContaining("'app.region' was not set at build time but is 'eu'");
+    }
+
+    private GenerationResult process(Map<String, Object> properties) throws IOException {
+        try (GenericApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+            context.registerBean(EnumConfig.class);
+            context.refreshForAotProcessing(new RuntimeHints());
+
+            BeanFactoryInitializationAotContribution contribution = new ConditionBeanFactoryInitializationAotProcessor()
+                    .processAheadOfTime(context.getBeanFactory());
+            assertThat(contribution).isNotNull();
+
+            InMemoryGeneratedFiles files = new InMemoryGeneratedFiles();
+            DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                    new ClassNameGenerator(ClassName.get("com.example", "Application")), files);
+            GeneratedClass generatedClass = generationContext.getGeneratedClasses().addForFeature("Test", type -> { });
+            List<MethodReference> initializers = new ArrayList<>();
+            contribution.applyTo(generationContext, new BeanFactoryInitializationCode() {
+                @Override
+                public GeneratedMethods getMethods() {
+                    return generatedClass.getMethods();
+                }
+
+                @Override
+                public void addInitializer(MethodReference methodReference) {
+                    initializers.add(methodReference);
+                }
+            });
+            generationContext.writeGeneratedContent();
+
+            StringBuilder source = new StringBuilder();
+            for (InputStreamSource file : files.getGeneratedFiles(GeneratedFiles.Kind.SOURCE).values()) {
+                source.append(StreamUtils.copyToString(file.getInputStream(), StandardCharsets.UTF_8));
+            }
+            return new GenerationResult(generationContext.getRuntimeHints(), initializers, source.toString());
+        }
+    }
+
+    enum Mode {
+        FAST,
+        SLOW
+    }
+
+    private record GenerationResult(RuntimeHints hints, List<MethodReference> initializers, String source) {
+    }
+
+    @Configuration
+    static class EnumConfig {
+        @Bean
+        @ConditionalOnEnumProperty(name = "app.mode", enumType = Mode.class, havingValue = "FAST")
+        String fast() {
+            return "fast";
+        }
+    }
+}
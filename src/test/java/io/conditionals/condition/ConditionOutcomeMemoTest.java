@@ -0,0 +1,186 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.impl.ConditionOutcomeMemo;
+import io.conditionals.condition.impl.OnStringPropertyCondition;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConditionOutcomeMemoTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner();
+
+    @Test
+    void conditionOutcomeMemo_shouldEvaluateEachDeclarationOncePerRefresh() {
+        this.contextRunner.withPropertyValues("app.mode=prod", "app.threads=8")
+                .withUserConfiguration(ImportingConfig.class, MemoizedConfig.class)
+                .run(context -> {
+                    assertThat(context)
+                            .hasBean("threads");
+                    ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(context.getBeanFactory());
+                    assertThat(memo).isNotNull();
+                    assertThat(memo.getMissCount())
+                            .isEqualTo(2);
+                    assertThat(memo.getHitCount())
+                            .isGreaterThanOrEqualTo(2);
+                });
+    }
+
+    @Test
+    void conditionOutcomeMemo_shouldReuseNonMatchingOutcomes() {
+        this.contextRunner.withPropertyValues("app.mode=dev")
+                .withUserConfiguration(ImportingConfig.class, MemoizedConfig.class)
+                .run(context -> {
+                    assertThat(context)
+                            .doesNotHaveBean("threads");
+                    ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(context.getBeanFactory());
+                    assertThat(memo).isNotNull();
+                    assertThat(memo.getMissCount())
+                            .isEqualTo(1);
+                });
+    }
+
+    @Test
+    void conditionOutcomeMemo_shouldDiscardOutcomesWhenPropertySourcesChange() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("first", Map.of("app.mode", "dev")));
+        ConditionContext context = mock(ConditionContext.class);
+        when(context.getBeanFactory()).thenReturn(beanFactory);
+        when(context.getEnvironment()).thenReturn(environment);
+        AnnotationMetadata metadata = AnnotationMetadata.introspect(MemoizedConfig.class);
+
+        assertThat(new OnStringPropertyCondition().matches(context, metadata)).isFalse();
+        assertThat(new OnStringPropertyCondition().matches(context, metadata)).isFalse();
+        environment.getPropertySources().addFirst(new MapPropertySource("second", Map.of("app.mode", "prod")));
+        assertThat(new OnStringPropertyCondition().matches(context, metadata)).isTrue();
+
+        ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(beanFactory);
+        assertThat(memo).isNotNull();
+        assertThat(memo.getMissCount())
+                .isEqualTo(2);
+        assertThat(memo.getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void conditionOutcomeMemo_shouldKeepOutcomesWhileBeanFactoryIsReachable() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("app.mode", "prod")));
+        ConditionContext context = mock(ConditionContext.class);
+        when(context.getBeanFactory()).thenReturn(beanFactory);
+        when(context.getEnvironment()).thenReturn(environment);
+        AnnotationMetadata metadata = AnnotationMetadata.introspect(MemoizedConfig.class);
+
+        assertThat(new OnStringPropertyCondition().matches(context, metadata)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        assertThat(new OnStringPropertyCondition().matches(context, metadata)).isTrue();
+
+        ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(beanFactory);
+        assertThat(memo).isNotNull();
+        assertThat(memo.getMissCount())
+                .isEqualTo(1);
+        assertThat(memo.getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void conditionOutcomeMemo_shouldEvaluateEveryTime_afterRefresh() {
+        this.contextRunner.withPropertyValues("app.mode=prod")
+                .withUserConfiguration(MemoizedConfig.class)
+                .run(context -> {
+                    ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(context.getBeanFactory());
+                    assertThat(memo).isNotNull();
+                    long hits = memo.getHitCount();
+                    long misses = memo.getMissCount();
+                    ConditionContext conditionContext = mock(ConditionContext.class);
+                    when(conditionContext.getBeanFactory()).thenReturn(context.getBeanFactory());
+                    when(conditionContext.getEnvironment()).thenReturn(context.getEnvironment());
+                    AnnotationMetadata metadata = AnnotationMetadata.introspect(MemoizedConfig.class);
+
+                    TestPropertyValues.of("app.mode=dev").applyTo(context.getEnvironment());
+                    assertThat(new OnStringPropertyCondition().matches(conditionContext, metadata)).isFalse();
+                    assertThat(memo.getHitCount())
+                            .isEqualTo(hits);
+                    assertThat(memo.getMissCount())
+                            .isEqualTo(misses);
+                });
+    }
+
+    @Test
+    void conditionOutcomeMemo_shouldShareIdenticalDeclarations() {
+        this.contextRunner.withPropertyValues("app.mode=prod")
+                .withUserConfiguration(IdenticalDeclarationsConfig.class)
+                .run(context -> {
+                    assertThat(context)
+                            .hasBean("first")
+                            .hasBean("second");
+                    ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(context.getBeanFactory());
+                    assertThat(memo).isNotNull();
+                    assertThat(memo.getDeclarationMissCount())
+                            .isEqualTo(1);
+                    assertThat(memo.getDeclarationHitCount())
+                            .isGreaterThanOrEqualTo(1);
+                });
+    }
+
+    @Test
+    void conditionOutcomeMemo_shouldEvaluateEveryTime_whenDisabled() {
+        this.contextRunner.withPropertyValues("app.mode=prod", ConditionOutcomeMemo.ENABLED_PROPERTY + "=false")
+                .withUserConfiguration(IdenticalDeclarationsConfig.class)
+                .run(context -> {
+                    assertThat(context)
+                            .hasBean("first");
+                    ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(context.getBeanFactory());
+                    assertThat(memo).isNotNull();
+                    assertThat(memo.getMissCount() + memo.getDeclarationMissCount())
+                            .isZero();
+                });
+    }
+
+    @Configuration
+    @Import(MemoizedConfig.class)
+    static class ImportingConfig {
+    }
+
+    @Configuration
+    @ConditionalOnStringProperty(name = "app.mode", havingValue = "prod")
+    static class MemoizedConfig {
+        @Bean
+        @ConditionalOnIntegerProperty(name = "app.threads", havingValue = 8)
+        Integer threads() {
+            return 8;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class IdenticalDeclarationsConfig {
+        @Bean
+        @ConditionalOnStringProperty(prefix = "app", name = "mode", havingValue = "prod")
+        String first() {
+            return "first";
+        }
+
+        @Bean
+        @ConditionalOnStringProperty(prefix = "app.", value = "mode", havingValue = "prod")
+        String second() {
+            return "second";
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.impl.HostFactsEnvironmentPostProcessor;
+import io.conditionals.condition.spec.ComparableMatchType;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostFactsEnvironmentPostProcessorTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withPropertyValues(HostFactsEnvironmentPostProcessor.ENABLED_PROPERTY + "=true")
+            .withInitializer(context -> new HostFactsEnvironmentPostProcessor()
+                    .postProcessEnvironment(context.getEnvironment(), new SpringApplication()));
+
+    @Test
+    void hostFacts_shouldExposeHostAndJvmFacts() {
+        StandardEnvironment environment = enabledEnvironment();
+
+        new HostFactsEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("host.cpu.count", Integer.class))
+                .isEqualTo(Runtime.getRuntime().availableProcessors());
+        assertThat(environment.getProperty("host.memory.max-heap-mb", Long.class))
+                .isEqualTo(Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        assertThat(environment.getProperty("host.java.version", Integer.class))
+                .isEqualTo(Runtime.version().feature());
+        assertThat(environment.getProperty("host.os.arch"))
+                .isEqualTo(System.getProperty("os.arch"));
+        assertThat(environment.getProperty("host.os.family"))
+                .isIn("linux", "windows", "mac", "other");
+        if (environment.getProperty("host.os.family").equals("linux")) {
+            assertThat(environment.getProperty("host.memory.page-size", Long.class))
+                    .isPositive()
+                    .satisfies(pageSize -> assertThat(Long.bitCount(pageSize)).isEqualTo(1));
+        }
+    }
+
+    @Test
+    void hostFacts_shouldYieldToConfiguredValues() {
+        StandardEnvironment environment = enabledEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("host.cpu.count", "64")));
+
+        new HostFactsEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("host.cpu.count"))
+                .isEqualTo("64");
+    }
+
+    @Test
+    void hostFacts_shouldNotBeExposed_whenDisabled() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+                Map.of(HostFactsEnvironmentPostProcessor.ENABLED_PROPERTY, "false")));
+
+        new HostFactsEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getPropertySources().contains(HostFactsEnvironmentPostProcessor.PROPERTY_SOURCE_NAME))
+                .isFalse();
+    }
+
+    @Test
+    void hostFacts_shouldNotBeExposed_byDefault() {
+        StandardEnvironment environment = new StandardEnvironment();
+
+        new HostFactsEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getPropertySources().contains(HostFactsEnvironmentPostProcessor.PROPERTY_SOURCE_NAME))
+                .isFalse();
+    }
+
+    @Test
+    void hostFacts_shouldDriveNumericAndStringConditions() {
+        this.contextRunner.withUserConfiguration(HostFactsConfig.class)
+                .run(context -> assertThat(context)
+                        .hasBean("anyProcessors")
+                        .hasBean("currentJdk")
+                        .hasBean("knownArchitecture")
+                        .doesNotHaveBean("impossibleProcessors"));
+    }
+
+    private static StandardEnvironment enabledEnvironment() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("enabled",
+                Map.of(HostFactsEnvironmentPostProcessor.ENABLED_PROPERTY, "true")));
+        return environment;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class HostFactsConfig {
+        @Bean
+        @ConditionalOnIntegerProperty(name = "host.cpu.count", havingValue = 1, matchType = ComparableMatchType.GREATER_THAN_OR_EQUAL)
+        String anyProcessors() {
+            return "any";
+        }
+
+        @Bean
+        @ConditionalOnIntegerProperty(name = "host.cpu.count", havingValue = 0, matchType = ComparableMatchType.LESS_THAN_OR_EQUAL)
+        String impossibleProcessors() {
+            return "none";
+        }
+
+        @Bean
+        @ConditionalOnLongProperty(name = "host.java.version", havingValue = 17, matchType = ComparableMatchType.GREATER_THAN_OR_EQUAL)
+        String currentJdk() {
+            return "jdk";
+        }
+
+        @Bean
+        @ConditionalOnStringProperty(name = "host.os.arch", havingValue = "", not = true)
+        String knownArchitecture() {
+            return "arch";
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.utils.NumberParser;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.NumberUtils;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NumberParserTest {
+    private static final String[] INPUTS = {
+            "0", "8", "-8", "+8", " 8 ", "1 000", "007", "0x1F", "0X1f", "#1f", "-0x80000000", "0x80000000",
+            "+0x10", "0x", "#", "-", "", " ", "2147483647", "2147483648", "-2147483648", "-2147483649",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "0x7fffffffffffffff",
+            "1.5", "-0", "-0.0", ".5", "1.", "1e3", "1E-3", "1.5e+2", "1e", "1.5f", "2d", "NaN", "-Infinity",
+            "0x1p3", "3.4028235e38", "1e39", "4.9e-324", "0.1", "0.30000000000000004", "123456789012345678901234",
+            "9007199254740993", "16777217", "1e22", "1e23", "abc", "1..2", "1e5.5", "--1"
+    };
+
+    @ParameterizedTest
+    @ValueSource(strings = { "int", "long", "float", "double" })
+    void numberParser_shouldMatchSpringNumberConversion(String type) {
+        for (String input : INPUTS) {
+            Object expected = result(() -> switch (type) {
+                case "int" -> (Object) NumberUtils.parseNumber(input, Integer.class);
+                case "long" -> (Object) NumberUtils.parseNumber(input, Long.class);
+                case "float" -> (Object) NumberUtils.parseNumber(input, Float.class);
+                default -> (Object) NumberUtils.parseNumber(input, Double.class);
+            });
+            Object actual = result(() -> switch (type) {
+                case "int" -> (Object) NumberParser.parseInt(input);
+                case "long" -> (Object) NumberParser.parseLong(input);
+                case "float" -> (Object) NumberParser.parseFloat(input);
+                default -> (Object) NumberParser.parseDouble(input);
+            });
+
+            assertThat(actual)
+                    .as("%s '%s'", type, input)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "int", "long", "float", "double" })
+    void numberParser_shouldReturnFallback_whenValueIsMalformed(String type) {
+        for (String input : INPUTS) {
+            Object strict = result(() -> switch (type) {
+                case "int" -> (Object) NumberParser.parseInt(input);
+                case "long" -> (Object) NumberParser.parseLong(input);
+                case "float" -> (Object) NumberParser.parseFloat(input);
+                default -> (Object) NumberParser.parseDouble(input);
+            });
+            Object lenient = switch (type) {
+                case "int" -> NumberParser.parseInt(input, 42);
+                case "long" -> NumberParser.parseLong(input, 42L);
+                case "float" -> NumberParser.parseFloat(input, 42f);
+                default -> NumberParser.parseDouble(input, 42d);
+            };
+
+            assertThat(lenient)
+                    .as("%s '%s'", type, input)
+                    .isEqualTo(strict == NumberFormatException.class
+                            ? switch (type) {
+                                case "int" -> 42;
+                                case "long" -> 42L;
+                                case "float" -> 42f;
+                                default -> 42d;
+                            }
+                            : strict);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "1_000=1000", "1__000=1000", "0xFF_FF=65535", "#7f_ff=32767", "64k=64000", "64 K=64000", "2M=2000000", "1G=1000000000",
+            "4Ki=4096", "2Mi=2097152", "-3k=-3000", "2T=2000000000000", "1Ti=1099511627776"
+    })
+    void numberParser_shouldAcceptUnderscoresAndSuffixes(String entry) {
+        String input = entry.substring(0, entry.indexOf('='));
+        long expected = Long.parseLong(entry.substring(entry.indexOf('=') + 1));
+
+        assertThat(NumberParser.canParseLong(input))
+                .as(input)
+                .isTrue();
+        assertThat(NumberParser.parseLong(input))
+                .as(input)
+                .isEqualTo(expected);
+        assertThat(NumberParser.canParseInt(input))
+                .as(input)
+                .isEqualTo(expected == (int) expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "64k=64000", "2Mi=2097152", "1.5k=1500", "0.25Mi=262144", "1_0.5=10.5", "1.5e3=1500", "123456789012345678901234k=1.23456789012345678901234e26" })
+    void numberParser_shouldApplySuffixesToFloatingValues(String entry) {
+        String input = entry.substring(0, entry.indexOf('='));
+        double expected = Double.parseDouble(entry.substring(entry.indexOf('=') + 1));
+
+        assertThat(NumberParser.parseDouble(input))
+                .as(input)
+                .isEqualTo(expected);
+        assertThat(NumberParser.parseFloat(input))
+                .as(input)
+                .isEqualTo((float) expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "_1", "1_", "1__", "1_.5", "0x_1", "1k5", "1ki", "1KI", "1kk", "0x10k", "1e3k", "k", "-k", "8Ei", "9223372036854775807k" })
+    void numberParser_shouldRejectMalformedExtensions(String input) {
+        assertThat(NumberParser.canParseLong(input))
+                .as(input)
+                .isFalse();
+        assertThat(NumberParser.canParseDouble(input))
+                .as(input)
+                .isEqualTo(input.startsWith("9223"));
+        assertThat(result(() -> NumberParser.parseLong(input)))
+                .as(input)
+                .isEqualTo(NumberFormatException.class);
+    }
+
+    private static Object result(Callable<Object> parser) {
+        try {
+            return parser.call();
+        } catch (NumberFormatException e) {
+            return NumberFormatException.class;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -59,6 +59,38 @@ class OnCollectionPropertyConditionTest {
                         .doesNotHaveBean(String[].class));
     }
 
+    @Test
+    void collectionPropertyCondition_shouldCreateBean_whenMatchTypeContainsAnyMatchesLargeCandidate() {
+        this.contextRunner.withPropertyValues("app.tags=x, y, e")
+                .withUserConfiguration(ContainsAnyLargeConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(String[].class));
+    }
+
+    @Test
+    void collectionPropertyCondition_shouldNotCreateBean_whenMatchTypeContainsAnyDoesNotMatchLargeCandidate() {
+        this.contextRunner.withPropertyValues("app.tags=x, y, z")
+                .withUserConfiguration(ContainsAnyLargeConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(String[].class));
+    }
+
+    @Test
+    void collectionPropertyCondition_shouldCreateBean_whenMatchTypeContainsAllMatchesLargeCandidate() {
+        this.contextRunner.withPropertyValues("app.tags=e, x, d, c, b, a, y")
+                .withUserConfiguration(ContainsAllLargeConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(String[].class));
+    }
+
+    @Test
+    void collectionPropertyCondition_shouldNotCreateBean_whenMatchTypeContainsAllDoesNotMatchLargeCandidate() {
+        this.contextRunner.withPropertyValues("app.tags=e, x, d, c, a, a, y")
+                .withUserConfiguration(ContainsAllLargeConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(String[].class));
+    }
+
     @Test
     void collectionPropertyCondition_shouldCreateBean_whenMatchTypeContainsSequenceMatches() {
         this.contextRunner.withPropertyValues("app.tags=a, b, c")
@@ -75,6 +107,22 @@ class OnCollectionPropertyConditionTest {
                         .doesNotHaveBean(String[].class));
     }
 
+    @Test
+    void collectionPropertyCondition_shouldCreateBean_whenMatchTypeContainsSequenceMatchesAfterPartialOverlap() {
+        this.contextRunner.withPropertyValues("app.stages=a, a, b, a, a, a, b, c")
+                .withUserConfiguration(ContainsRepetitiveSequenceConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(String[].class));
+    }
+
+    @Test
+    void collectionPropertyCondition_shouldNotCreateBean_whenMatchTypeContainsSequenceOnlyPartiallyOverlaps() {
+        this.contextRunner.withPropertyValues("app.stages=a, a, b, a, a, b, a, c")
+                .withUserConfiguration(ContainsRepetitiveSequenceConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(String[].class));
+    }
+
     @Test
     void collectionPropertyCondition_shouldCreateBean_whenMatchTypeStartsWithAnyMatches() {
         this.contextRunner.withPropertyValues("app.tags=a, b")
@@ -211,6 +259,33 @@ class OnCollectionPropertyConditionTest {
         }
     }
 
+    @Configuration(proxyBeanMethods = false)
+    static class ContainsAnyLargeConfig {
+        @Bean
+        @ConditionalOnCollectionProperty(name = "app.tags", havingValue = {"a", "b", "c", "d", "e"}, matchType = CollectionMatchType.CONTAINS_ANY)
+        String[] conditionalBean() {
+            return new String[]{"a", "b"};
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ContainsAllLargeConfig {
+        @Bean
+        @ConditionalOnCollectionProperty(name = "app.tags", havingValue = {"a", "b", "c", "d", "e", "a"}, matchType = CollectionMatchType.CONTAINS_ALL)
+        String[] conditionalBean() {
+            return new String[]{"a", "b", "c"};
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ContainsRepetitiveSequenceConfig {
+        @Bean
+        @ConditionalOnCollectionProperty(name = "app.stages", havingValue = {"a", "a", "a", "b", "c"}, matchType = CollectionMatchType.CONTAINS_SEQUENCE)
+        String[] conditionalBean() {
+            return new String[]{"a", "b", "c"};
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class ContainsAllConfig {
         @Bean
@@ -43,6 +43,14 @@ class OnDoublePropertyConditionTest {
                         .hasSingleBean(Double.class));
     }
 
+    @Test
+    void doublePropertyCondition_shouldCreateBean_whenPropertyUsesSuffix() {
+        this.contextRunner.withPropertyValues("app.ratio=0.5k")
+                .withUserConfiguration(GreaterThanConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(Double.class));
+    }
+
     @Test
     void doublePropertyCondition_shouldNotCreateBean_whenNotFlagInvertsMatch() {
         this.contextRunner.withPropertyValues("app.ratio=1.0")
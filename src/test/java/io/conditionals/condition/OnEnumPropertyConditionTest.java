@@ -61,6 +61,22 @@ class OnEnumPropertyConditionTest {
                         .doesNotHaveBean(Mode.class));
     }
 
+    @Test
+    void enumPropertyCondition_shouldCreateBean_whenPropertyUsesMixedCase() {
+        this.contextRunner.withPropertyValues("app.mode=DeV")
+                .withUserConfiguration(ModeDevConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(Mode.class));
+    }
+
+    @Test
+    void enumPropertyCondition_shouldNotCreateBean_whenCandidateIsNotValidEnumConstantAndNotFlagSet() {
+        this.contextRunner.withPropertyValues("app.mode=dev")
+                .withUserConfiguration(InvalidCandidateNotConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(Mode.class));
+    }
+
     enum Mode {
         DEV,
         PROD
@@ -75,6 +91,15 @@ class OnEnumPropertyConditionTest {
         }
     }
 
+    @Configuration(proxyBeanMethods = false)
+    static class InvalidCandidateNotConfig {
+        @Bean
+        @ConditionalOnEnumProperty(name = "app.mode", havingValue = "staging", enumType = Mode.class, not = true)
+        Mode conditionalBean() {
+            return Mode.DEV;
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class MatchIfMissingConfig {
         @Bean
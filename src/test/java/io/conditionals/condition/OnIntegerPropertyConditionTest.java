@@ -1,10 +1,26 @@
 package io.conditionals.condition;
 
+import io.conditionals.condition.impl.OnIntegerPropertyCondition;
 import io.conditionals.condition.spec.ComparableMatchType;
+import io.conditionals.condition.spec.PropertyLookup;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -25,6 +41,40 @@ class OnIntegerPropertyConditionTest {
                 .run(context -> assertThat(context).doesNotHaveBean(Integer.class));
     }
 
+    @Test
+    void integerPropertyCondition_shouldCreateBean_whenPropertyIsHexadecimal() {
+        this.contextRunner.withPropertyValues("app.count=0x5")
+                .withUserConfiguration(EqualsConfig.class)
+                .run(context -> assertThat(context).hasSingleBean(Integer.class));
+    }
+
+    @Test
+    void integerPropertyCondition_shouldCreateBean_whenPropertyUsesUnderscoresAndSuffix() {
+        this.contextRunner.withPropertyValues("app.count=5_000", "app.limit=5k")
+                .withUserConfiguration(ThousandsConfig.class)
+                .run(context -> assertThat(context).hasSingleBean(Integer.class));
+    }
+
+    @Test
+    void integerPropertyCondition_shouldNotCreateBean_whenPropertyIsMalformed() {
+        this.contextRunner.withPropertyValues("app.count=5x")
+                .withUserConfiguration(NotConfig.class)
+                .run(context -> assertThat(context).doesNotHaveBean(Integer.class));
+    }
+
+    @Test
+    void integerPropertyCondition_shouldReportMalformedValue_whenSuffixOverflows() {
+        this.contextRunner.withPropertyValues("app.count=5T")
+                .withUserConfiguration(NotConfig.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(Integer.class);
+                    assertThat(ConditionEvaluationReport.get(context.getBeanFactory()).getConditionAndOutcomesBySource().values().stream()
+                            .flatMap(ConditionEvaluationReport.ConditionAndOutcomes::stream)
+                            .map(conditionAndOutcome -> conditionAndOutcome.getOutcome().getMessage()))
+                            .anySatisfy(message -> assertThat(message).contains("found malformed value in property 'app.count'"));
+                });
+    }
+
     @Test
     void integerPropertyCondition_shouldNotCreateBean_whenPropertyMissingAndMatchIfMissingFalse() {
         this.contextRunner.withUserConfiguration(EqualsConfig.class)
@@ -71,6 +121,85 @@ class OnIntegerPropertyConditionTest {
                         .doesNotHaveBean(Integer.class));
     }
 
+    @Test
+    void integerPropertyCondition_shouldConsultOverriddenCheckMethods() {
+        this.contextRunner.withPropertyValues("app.count=7")
+                .withUserConfiguration(ParityConfig.class)
+                .run(context -> assertThat(context).hasSingleBean(Integer.class));
+    }
+
+    @Test
+    void integerPropertyCondition_shouldParseUnderscores_whenCheckMethodsAreOverridden() {
+        this.contextRunner.withPropertyValues("app.count=1_001")
+                .withUserConfiguration(ParityConfig.class)
+                .run(context -> assertThat(context).hasSingleBean(Integer.class));
+    }
+
+    @Test
+    void integerPropertySpec_shouldReportMalformedValuesAsNonMatching_whenCollectedWithoutMalformedList() {
+        AnnotationAttributes attributes = new AnnotationAttributes(ConditionalOnIntegerProperty.class);
+        attributes.put("value", new String[0]);
+        attributes.put("prefix", "app");
+        attributes.put("name", new String[] { "one", "two", "three" });
+        attributes.put("havingValue", 5);
+        attributes.put("not", false);
+        attributes.put("matchType", ComparableMatchType.EQUALS);
+        attributes.put("matchIfMissing", false);
+        OnIntegerPropertyCondition.Spec spec = new OnIntegerPropertyCondition.Spec(ConditionalOnIntegerProperty.class, attributes);
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("app.one", "5", "app.two", "5x")));
+        List<String> missing = new ArrayList<>();
+        List<String> nonMatching = new ArrayList<>();
+
+        spec.collectProperties(PropertyLookup.of(environment), missing, nonMatching,
+                (ignored, property, candidate) -> candidate.equals(property));
+
+        assertThat(missing)
+                .containsExactly("three");
+        assertThat(nonMatching)
+                .containsExactly("two");
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ParityConfig {
+        @Bean
+        @ConditionalOnIntegerParity(name = "app.count", havingValue = 1)
+        Integer conditionalBean() {
+            return 1;
+        }
+    }
+
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Conditional(OnIntegerParityCondition.class)
+    @interface ConditionalOnIntegerParity {
+        String[] value() default {};
+
+        String prefix() default "";
+
+        String[] name() default {};
+
+        int havingValue() default 0;
+
+        boolean not() default false;
+
+        ComparableMatchType matchType() default ComparableMatchType.EQUALS;
+
+        boolean matchIfMissing() default false;
+    }
+
+    static class OnIntegerParityCondition extends OnIntegerPropertyCondition {
+        @Override
+        protected Class<? extends Annotation> getAnnotationClass() {
+            return ConditionalOnIntegerParity.class;
+        }
+
+        @Override
+        protected boolean checkEquals(Integer property, Integer candidate) {
+            return property % 2 == candidate % 2;
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class EqualsConfig {
         @Bean
@@ -98,6 +227,15 @@ class OnIntegerPropertyConditionTest {
         }
     }
 
+    @Configuration(proxyBeanMethods = false)
+    static class ThousandsConfig {
+        @Bean
+        @ConditionalOnIntegerProperty(name = { "app.count", "app.limit" }, havingValue = 5000)
+        Integer conditionalBean() {
+            return 5000;
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class NotConfig {
         @Bean
@@ -49,6 +49,22 @@ class OnLongPropertyConditionTest {
                         .hasSingleBean(Long.class));
     }
 
+    @Test
+    void longPropertyCondition_shouldCreateBean_whenPropertyExceedsIntRange() {
+        this.contextRunner.withPropertyValues("app.count=5000000000")
+                .withUserConfiguration(GreaterThanConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(Long.class));
+    }
+
+    @Test
+    void longPropertyCondition_shouldCreateBean_whenPropertyUsesBinarySuffix() {
+        this.contextRunner.withPropertyValues("app.count=4Gi")
+                .withUserConfiguration(GreaterThanConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(Long.class));
+    }
+
     @Test
     void longPropertyCondition_shouldNotCreateBean_whenNotFlagInvertsMatch() {
         this.contextRunner.withPropertyValues("app.count=5")
@@ -1,14 +1,30 @@
 package io.conditionals.condition;
 
+import io.conditionals.condition.impl.ConditionOutcomeMemo;
+import io.conditionals.condition.impl.OnPortAvailableCondition;
+import io.conditionals.condition.impl.PortReservations;
+import io.conditionals.condition.spec.PortProbeStrategy;
+import io.conditionals.condition.spec.PropertyIndex;
+import io.conditionals.condition.spec.StringMatchType;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.AnnotationMetadata;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.nio.channels.ServerSocketChannel;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class OnPortAvailableConditionTest {
     private final ApplicationContextRunner contextRunner = new ApplicationContextRunner();
@@ -38,6 +54,265 @@ class OnPortAvailableConditionTest {
         }
     }
 
+    @Test
+    void portAvailableCondition_shouldNotMatch_whenProbeFails() {
+        this.contextRunner.withUserConfiguration(OutOfRangePortConfig.class)
+                .run(context -> assertThat(context)
+                        .hasNotFailed()
+                        .doesNotHaveBean("first")
+                        .doesNotHaveBean("second"));
+    }
+
+    @Test
+    void portAvailableCondition_shouldReportEveryUnavailablePortAndProbeEachPortOnce() throws IOException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        ConditionContext context = mock(ConditionContext.class);
+        when(context.getBeanFactory()).thenReturn(beanFactory);
+        when(context.getEnvironment()).thenReturn(new StandardEnvironment());
+        AnnotationMetadata metadata = AnnotationMetadata.introspect(MultiplePortsConfig.class);
+
+        try (ServerSocket first = new ServerSocket(18081); ServerSocket second = new ServerSocket(18082)) {
+            ConditionOutcome outcome = new OnPortAvailableCondition().getMatchOutcome(context, metadata);
+            assertThat(outcome.isMatch())
+                    .isFalse();
+            assertThat(outcome.getMessage())
+                    .contains("Ports 18081, 18082 are not available");
+        }
+
+        assertThat(new OnPortAvailableCondition().getMatchOutcome(context, metadata).isMatch())
+                .isFalse();
+        ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(beanFactory);
+        assertThat(memo).isNotNull();
+        assertThat(memo.getDeclarationMissCount())
+                .isEqualTo(3);
+        assertThat(memo.getDeclarationHitCount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void portAvailableCondition_shouldDetectListeningSockets_whenListeningSocketsStrategyUsed() throws IOException {
+        AnnotationMetadata metadata = AnnotationMetadata.introspect(ListeningSocketsConfig.class);
+        try (ServerSocket socket = new ServerSocket(18084)) {
+            assertThat(new OnPortAvailableCondition().getMatchOutcome(this.conditionContext(), metadata).getMessage())
+                    .contains("Port 18084 is not available");
+        }
+
+        assertThat(new OnPortAvailableCondition().getMatchOutcome(this.conditionContext(), metadata).isMatch())
+                .isTrue();
+    }
+
+    @Test
+    void portAvailableCondition_shouldHandOverReservedChannel_whenReserveEnabled() {
+        this.contextRunner.withUserConfiguration(ReservingConfig.class)
+                .run(context -> {
+                    ServerSocketChannel channel = context.getBean(ServerSocketChannel.class);
+                    assertThat(channel.isOpen())
+                            .isTrue();
+                    assertThat(channel.socket().getLocalPort())
+                            .isEqualTo(18085);
+                    assertThat(context.getBean(PortReservations.class).getPorts())
+                            .isEmpty();
+                });
+    }
+
+    @Test
+    void portAvailableCondition_shouldReleaseUntakenReservations_whenContextStarts() {
+        this.contextRunner.withUserConfiguration(UntakenReservationConfig.class)
+                .run(context -> {
+                    assertThat(context)
+                            .hasSingleBean(Integer.class);
+                    try (ServerSocket socket = new ServerSocket(18086)) {
+                        assertThat(socket.getLocalPort())
+                                .isEqualTo(18086);
+                    }
+                });
+    }
+
+    @Test
+    void portAvailableCondition_shouldChooseFreePortsFromRangeAndExposeThem() throws IOException {
+        try (ServerSocket socket = new ServerSocket(18090)) {
+            this.contextRunner.withUserConfiguration(RangeConfig.class)
+                    .run(context -> {
+                        assertThat(context)
+                                .hasSingleBean(Integer.class);
+                        assertThat(context.getEnvironment().getProperty("sidecar.ports"))
+                                .isEqualTo("18091,18092,18093");
+                        assertThat(context.getEnvironment().getProperty("sidecar.ports", int[].class))
+                                .containsExactly(18091, 18092, 18093);
+                    });
+        }
+    }
+
+    @Test
+    void portAvailableCondition_shouldNotMatch_whenRangeHasTooFewFreePorts() throws IOException {
+        try (ServerSocket socket = new ServerSocket(18095)) {
+            ConditionOutcome outcome = new OnPortAvailableCondition()
+                    .getMatchOutcome(this.conditionContext(), AnnotationMetadata.introspect(ExhaustedRangeConfig.class));
+            assertThat(outcome.isMatch())
+                    .isFalse();
+            assertThat(outcome.getMessage())
+                    .contains("Found 1 of 2 required free ports in range 18095-18096");
+        }
+    }
+
+    @Test
+    void portAvailableCondition_shouldReserveRangeOnce_whenMemoDisabled() {
+        this.contextRunner.withUserConfiguration(ReservedRangeConfig.class)
+                .withPropertyValues(ConditionOutcomeMemo.ENABLED_PROPERTY + "=false")
+                .run(context -> {
+                    assertThat(context.getEnvironment().getProperty("sidecar.ports"))
+                            .isEqualTo("18100,18101");
+                    assertThat(context.getBean("reservedPorts"))
+                            .isEqualTo(Set.of(18100, 18101));
+                });
+    }
+
+    @Test
+    void portAvailableCondition_shouldExposeChosenPortsToLaterConditions_whenPropertyIndexEnabled() {
+        this.contextRunner.withUserConfiguration(PublishingConfig.class)
+                .withPropertyValues(PropertyIndex.ENABLED_PROPERTY + "=true", "app.mode=prod")
+                .run(context -> assertThat(context)
+                        .hasBean("mode")
+                        .hasBean("sidecar"));
+    }
+
+    @Test
+    void portAvailableCondition_shouldReleaseReservation_whenProbeCompletesAfterTimeout() throws InterruptedException {
+        ConditionContext context = this.conditionContext();
+        ConditionOutcome outcome = new OnPortAvailableCondition()
+                .getMatchOutcome(context, AnnotationMetadata.introspect(TimedOutReservationConfig.class));
+        PortReservations reservations = context.getBeanFactory().getBean(PortReservations.class);
+
+        if (outcome.isMatch()) {
+            assertThat(reservations.isReserved(18120))
+                    .isTrue();
+        } else {
+            assertThat(outcome.getMessage())
+                    .contains("Port 18120 (timed out) is not available");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (reservations.isReserved(18120) && System.nanoTime() - deadline < 0) {
+                Thread.sleep(10);
+            }
+            assertThat(reservations.isReserved(18120))
+                    .isFalse();
+        }
+        reservations.destroy();
+    }
+
+    @Test
+    void portAvailableCondition_shouldReleaseRangeReservations_whenRangeHasTooFewFreePorts() throws IOException {
+        ConditionContext context = this.conditionContext();
+        try (ServerSocket socket = new ServerSocket(18122)) {
+            ConditionOutcome outcome = new OnPortAvailableCondition()
+                    .getMatchOutcome(context, AnnotationMetadata.introspect(ExhaustedReservedRangeConfig.class));
+            assertThat(outcome.isMatch())
+                    .isFalse();
+        }
+
+        assertThat(context.getBeanFactory().getBean(PortReservations.class).getPorts())
+                .isEmpty();
+    }
+
+    private ConditionContext conditionContext() {
+        ConditionContext context = mock(ConditionContext.class);
+        when(context.getBeanFactory()).thenReturn(new DefaultListableBeanFactory());
+        when(context.getEnvironment()).thenReturn(new StandardEnvironment());
+        return context;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class OutOfRangePortConfig {
+        @Bean
+        @ConditionalOnPortAvailable(70000)
+        Integer first() {
+            return 1;
+        }
+
+        @Bean
+        @ConditionalOnPortAvailable(value = { 70000, 18085 })
+        Integer second() {
+            return 2;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ReservingConfig {
+        @Bean
+        @ConditionalOnPortAvailable(value = 18085, reserve = true)
+        ServerSocketChannel listener(PortReservations reservations) {
+            return reservations.take(18085);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class UntakenReservationConfig {
+        @Bean
+        @ConditionalOnPortAvailable(value = 18086, reserve = true)
+        Integer conditionalBean() {
+            return 1;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class RangeConfig {
+        @Bean
+        @ConditionalOnPortAvailable(range = "18090-18094", minFree = 3, property = "sidecar.ports")
+        Integer conditionalBean() {
+            return 1;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnStringProperty(name = "app.mode", havingValue = "prod")
+    @ConditionalOnPortAvailable(range = "18110-18119", property = "sidecar.ports")
+    static class PublishingConfig {
+        @Bean
+        @ConditionalOnStringProperty(name = "app.mode", havingValue = "prod")
+        String mode() {
+            return "mode";
+        }
+
+        @Bean
+        @ConditionalOnStringProperty(name = "sidecar.ports", havingValue = "1811", matchType = StringMatchType.STARTS_WITH)
+        String sidecar() {
+            return "sidecar";
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnPortAvailable(range = "18100-18109", minFree = 2, reserve = true, property = "sidecar.ports")
+    static class ReservedRangeConfig {
+        @Bean
+        Set<Integer> reservedPorts(PortReservations reservations) {
+            return reservations.getPorts();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnPortAvailable(range = "18095-18096", minFree = 2)
+    static class ExhaustedRangeConfig {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnPortAvailable(range = "18121-18122", minFree = 2, reserve = true)
+    static class ExhaustedReservedRangeConfig {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnPortAvailable(value = 18120, reserve = true, timeout = "1ns")
+    static class TimedOutReservationConfig {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnPortAvailable(value = 18084, strategy = PortProbeStrategy.LISTENING_SOCKETS)
+    static class ListeningSocketsConfig {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnPortAvailable(value = { 18081, 18082, 18083, 18081 }, timeout = "2s")
+    static class MultiplePortsConfig {
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class PortConfig {
         @Bean
@@ -45,6 +45,18 @@ class OnStringPropertyConditionTest {
                         .hasSingleBean(String.class));
     }
 
+    @Test
+    void stringPropertyCondition_shouldApplyNormalizationBeforeNegation_whenAllFlagsCombined() {
+        this.contextRunner.withPropertyValues("app.name=  DEMO-app  ")
+                .withUserConfiguration(CombinedFlagsConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(String.class));
+        this.contextRunner.withPropertyValues("app.name=  other  ")
+                .withUserConfiguration(CombinedFlagsConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(String.class));
+    }
+
     @Test
     void stringPropertyCondition_shouldNotCreateBean_whenNotFlagInvertsMatch() {
         this.contextRunner.withPropertyValues("app.name=demo")
@@ -93,6 +105,22 @@ class OnStringPropertyConditionTest {
                         .doesNotHaveBean(String.class));
     }
 
+    @Test
+    void stringPropertyCondition_shouldCreateBean_whenMatchTypeMatchesIgnoreCasePreservesCharacterClasses() {
+        this.contextRunner.withPropertyValues("app.name=DEMO-123")
+                .withUserConfiguration(MatchesIgnoreCaseConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(String.class));
+    }
+
+    @Test
+    void stringPropertyCondition_shouldNotCreateBean_whenMatchTypeMatchesRegexIsInvalid() {
+        this.contextRunner.withPropertyValues("app.name=demo")
+                .withUserConfiguration(InvalidMatchesConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(String.class));
+    }
+
     @Test
     void stringPropertyCondition_shouldCreateBean_whenContainerAnnotationAllMatches() {
         this.contextRunner.withPropertyValues(
@@ -140,6 +168,16 @@ class OnStringPropertyConditionTest {
         }
     }
 
+    @Configuration(proxyBeanMethods = false)
+    static class CombinedFlagsConfig {
+        @Bean
+        @ConditionalOnStringProperty(name = "app.name", havingValue = " Demo ", matchType = StringMatchType.STARTS_WITH,
+                ignoreCase = true, trim = true, not = true)
+        String conditionalBean() {
+            return "OK";
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     static class NotConfig {
         @Bean
@@ -185,6 +223,24 @@ class OnStringPropertyConditionTest {
         }
     }
 
+    @Configuration(proxyBeanMethods = false)
+    static class MatchesIgnoreCaseConfig {
+        @Bean
+        @ConditionalOnStringProperty(name = "app.name", havingValue = "demo-\\S+", matchType = StringMatchType.MATCHES, ignoreCase = true)
+        String conditionalBean() {
+            return "OK";
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class InvalidMatchesConfig {
+        @Bean
+        @ConditionalOnStringProperty(name = "app.name", havingValue = "demo[", matchType = StringMatchType.MATCHES)
+        String conditionalBean() {
+            return "OK";
+        }
+    }
+
     @Configuration(proxyBeanMethods = false)
     @ConditionalOnStringProperty(name = "app.one", havingValue = "yes")
     @ConditionalOnStringProperty(name = "app.two", havingValue = "yes")
@@ -0,0 +1,112 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.impl.OnStringPropertyCondition;
+import io.conditionals.condition.spec.PropertyCollector;
+import io.conditionals.condition.spec.PropertyConditionEvaluator;
+import io.conditionals.condition.spec.PropertySpecMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyConditionEvaluatorTest {
+    private static final AtomicInteger INVOCATIONS = new AtomicInteger();
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner();
+
+    @BeforeEach
+    void resetInvocations() {
+        INVOCATIONS.set(0);
+    }
+
+    @Test
+    void propertyConditionEvaluator_shouldReplaceAnnotationAttributes() {
+        this.contextRunner.withPropertyValues("app.mode=generated", "app.threads=2")
+                .withUserConfiguration(GeneratedConfig.class)
+                .run(context -> assertThat(context)
+                        .hasBean("generated")
+                        .doesNotHaveBean("threads"));
+
+        assertThat(INVOCATIONS.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void propertyConditionEvaluator_shouldReportMismatchesOfGeneratedCollectors() {
+        this.contextRunner.withPropertyValues("app.mode=reflective", "app.threads=8")
+                .withUserConfiguration(GeneratedConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean("generated")
+                        .hasBean("threads"));
+
+        assertThat(INVOCATIONS.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void propertyConditionEvaluator_shouldNotReplaceAttributesOfSubclassedConditions() {
+        this.contextRunner.withPropertyValues("app.mode=generated")
+                .withUserConfiguration(SubclassedConditionConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean("generated"));
+    }
+
+    @Configuration
+    static class GeneratedConfig {
+        @Bean
+        @ConditionalOnStringProperty(name = "app.mode", havingValue = "reflective")
+        String generated() {
+            return "generated";
+        }
+
+        @Bean
+        @ConditionalOnIntegerProperty(name = "app.threads", havingValue = 8)
+        Integer threads() {
+            return 8;
+        }
+    }
+
+    @Configuration
+    static class SubclassedConditionConfig {
+        @Bean
+        @ConditionalOnStringProperty(name = "app.mode", havingValue = "generated")
+        @Conditional(NegatedStringPropertyCondition.class)
+        String generated() {
+            return "generated";
+        }
+    }
+
+    static class NegatedStringPropertyCondition extends OnStringPropertyCondition {
+        @Override
+        protected PropertySpecMatcher<String, Spec> createPropertySpecMatcher() {
+            PropertySpecMatcher<String, Spec> matcher = super.createPropertySpecMatcher();
+            return (spec, property, candidate) -> !matcher.compare(spec, property, candidate);
+        }
+    }
+
+    /**
+     * Stands in for the evaluator generated for {@link GeneratedConfig} and {@link SubclassedConditionConfig}; it
+     * deliberately disagrees with the annotation on {@code GeneratedConfig.generated()} and with the negated
+     * condition on {@code SubclassedConditionConfig.generated()}, so that tests can tell which path was taken.
+     */
+    public static final class GeneratedConfigEvaluator implements PropertyConditionEvaluator {
+        private static final List<PropertyCollector> GENERATED = List.of(
+                PropertyCollector.ofString(new String[] { "app.mode" }, new String[] { "app.mode" }, false, value -> {
+                    INVOCATIONS.incrementAndGet();
+                    return value.equals("generated");
+                }));
+
+        @Override
+        public List<PropertyCollector> getCollectors(String element, String annotationType) {
+            return element.equals("generated") && annotationType.equals(ConditionalOnStringProperty.class.getName())
+                    ? GENERATED
+                    : null;
+        }
+    }
+}
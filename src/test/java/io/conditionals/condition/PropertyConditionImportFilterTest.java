@@ -0,0 +1,105 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.spec.ComparableMatchType;
+import io.conditionals.condition.spec.StringMatchType;
+import io.conditionals.condition.utils.ConditionMetadataCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionEvaluationReport;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationAttributes;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PropertyConditionImportFilterTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(CandidatesConfig.class);
+
+    @Test
+    void importFilter_shouldDiscardCandidateWithoutLoadingIt_whenMetadataDoesNotMatch() {
+        this.contextRunner.withPropertyValues("app.threads=16", "app.mode=on")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasSingleBean(Integer.class);
+                    assertThat(outcomes(context.getBeanFactory(), "io.conditionals.condition.absent.AbsentAutoConfiguration"))
+                            .singleElement()
+                            .satisfies(message -> assertThat(message).contains("did not find property 'app.region'"));
+                });
+    }
+
+    @Test
+    void importFilter_shouldDiscardCandidate_whenPropertyDoesNotMatch() {
+        this.contextRunner.withPropertyValues("app.threads=4")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).doesNotHaveBean(Integer.class);
+                    assertThat(outcomes(context.getBeanFactory(), ThreadsAutoConfiguration.class.getName()))
+                            .singleElement()
+                            .satisfies(message -> assertThat(message).contains("found different value in property 'app.threads'"));
+                });
+    }
+
+    @Test
+    void conditionMetadataCodec_shouldRoundTripDeclarations() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("name", new String[] { "app.mode", "app.profile" });
+        first.put("havingValue", "a,b;c&d=e%");
+        first.put("matchType", StringMatchType.CONTAINS);
+        first.put("ignoreCase", true);
+        Map<String, Object> second = Map.of("value", new String[] { "app.region" });
+
+        List<AnnotationAttributes> declarations = ConditionMetadataCodec.decode(ConditionalOnStringProperty.class,
+                ConditionMetadataCodec.encode(List.of(first, second)));
+
+        assertThat(declarations).hasSize(2);
+        assertThat(declarations.get(0).getStringArray("name")).containsExactly("app.mode", "app.profile");
+        assertThat(declarations.get(0).getString("havingValue")).isEqualTo("a,b;c&d=e%");
+        assertThat(declarations.get(0).<StringMatchType>getEnum("matchType")).isEqualTo(StringMatchType.CONTAINS);
+        assertThat(declarations.get(0).getBoolean("ignoreCase")).isTrue();
+        assertThat(declarations.get(1).getStringArray("value")).containsExactly("app.region");
+        assertThat(declarations.get(1).getStringArray("name")).isEmpty();
+        assertThat(declarations.get(1).getBoolean("trim")).isFalse();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ConditionMetadataCodec.decode(ConditionalOnIntegerProperty.class, "name=app.threads&havingValue=eight"));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ConditionMetadataCodec.decode(ConditionalOnIntegerProperty.class, "name=app.threads&unknown=1"));
+    }
+
+    private static List<String> outcomes(ConfigurableListableBeanFactory beanFactory, String source) {
+        ConditionEvaluationReport report = ConditionEvaluationReport.get(beanFactory);
+        ConditionEvaluationReport.ConditionAndOutcomes outcomes = report.getConditionAndOutcomesBySource().get(source);
+        return outcomes == null ? List.of() : outcomes.stream()
+                .map(conditionAndOutcome -> conditionAndOutcome.getOutcome().getMessage())
+                .toList();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @ImportAutoConfiguration
+    @interface ImportCandidates {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportCandidates
+    static class CandidatesConfig {
+    }
+
+    @AutoConfiguration
+    @ConditionalOnIntegerProperty(name = "app.threads", havingValue = 8, matchType = ComparableMatchType.GREATER_THAN_OR_EQUAL)
+    static class ThreadsAutoConfiguration {
+        @Bean
+        Integer threads() {
+            return 8;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.impl.ConditionOutcomeMemo;
+import io.conditionals.condition.impl.OnStringPropertyCondition;
+import io.conditionals.condition.impl.PropertyConditionPreEvaluator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PropertyConditionPreEvaluatorTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(new PropertyConditionPreEvaluator());
+
+    @Test
+    void preEvaluator_shouldServeConditionsFromPrecomputedOutcomes() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AnnotatedGenericBeanDefinition beanDefinition = new AnnotatedGenericBeanDefinition(PreEvaluatedConfig.class);
+        beanFactory.registerBeanDefinition("preEvaluatedConfig", beanDefinition);
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("app.mode", "prod", "app.threads", "8")));
+
+        new PropertyConditionPreEvaluator().preEvaluate(beanFactory, environment).join();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        ConditionOutcomeMemo memo = ConditionOutcomeMemo.find(beanFactory);
+        assertThat(memo).isNotNull();
+        assertThat(memo.getMissCount())
+                .isEqualTo(2);
+
+        ConditionContext context = mock(ConditionContext.class);
+        when(context.getBeanFactory()).thenReturn(beanFactory);
+        when(context.getEnvironment()).thenReturn(environment);
+        assertThat(new OnStringPropertyCondition().matches(context, beanDefinition.getMetadata()))
+                .isTrue();
+        assertThat(memo.getMissCount())
+                .isEqualTo(2);
+        assertThat(memo.getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void preEvaluator_shouldMatchAsUsual_whenEnabled() {
+        this.contextRunner.withPropertyValues(PropertyConditionPreEvaluator.ENABLED_PROPERTY + "=true", "app.mode=prod", "app.threads=4")
+                .withUserConfiguration(PreEvaluatedConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(PreEvaluatedConfig.class)
+                        .doesNotHaveBean("threads"));
+    }
+
+    @Test
+    void preEvaluator_shouldNotEvaluate_whenDisabled() {
+        this.contextRunner.withUserConfiguration(PlainConfig.class)
+                .run(context -> assertThat(ConditionOutcomeMemo.find(context.getBeanFactory()))
+                        .isNull());
+    }
+
+    @Test
+    void preEvaluator_shouldNotRegister_whenOutcomeMemoIsDisabled() {
+        this.contextRunner.withPropertyValues(PropertyConditionPreEvaluator.ENABLED_PROPERTY + "=true",
+                        ConditionOutcomeMemo.ENABLED_PROPERTY + "=false")
+                .withUserConfiguration(PlainConfig.class)
+                .run(context -> assertThat(ConditionOutcomeMemo.find(context.getBeanFactory()))
+                        .isNull());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnStringProperty(prefix = "app", name = "mode", havingValue = "prod")
+    static class PreEvaluatedConfig {
+        @Bean
+        @ConditionalOnIntegerProperty(prefix = "app", name = "threads", havingValue = 8)
+        Integer threads() {
+            return 8;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class PlainConfig {
+    }
+}
@@ -0,0 +1,145 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.spec.PropertyIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PropertyIndexTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withPropertyValues(PropertyIndex.ENABLED_PROPERTY + "=true");
+
+    @Test
+    void propertyIndex_shouldCreateBean_whenIndexedPropertyMatches() {
+        this.contextRunner.withPropertyValues("app.mode=prod", "app.threads=8")
+                .withUserConfiguration(IndexedConfig.class)
+                .run(context -> assertThat(context)
+                        .hasBean("mode")
+                        .hasBean("threads"));
+    }
+
+    @Test
+    void propertyIndex_shouldNotCreateBean_whenIndexedPropertyMissingOrDifferent() {
+        this.contextRunner.withPropertyValues("app.threads=4")
+                .withUserConfiguration(IndexedConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean("mode")
+                        .doesNotHaveBean("threads"));
+    }
+
+    @Test
+    void propertyIndex_shouldRespectSourcePrecedence() {
+        StandardEnvironment environment = environment();
+        environment.getPropertySources().addLast(new MapPropertySource("low", Map.of("app.mode", "dev", "app.region", "eu")));
+        environment.getPropertySources().addFirst(new MapPropertySource("high", Map.of("app.mode", "prod")));
+        PropertyResolver resolver = new PropertyIndex(environment).getResolver();
+
+        assertThat(resolver.getProperty("app.mode"))
+                .isEqualTo("prod");
+        assertThat(resolver.getProperty("app.region"))
+                .isEqualTo("eu");
+        assertThat(resolver.containsProperty("app.missing"))
+                .isFalse();
+        assertThat(resolver.getProperty("app.missing"))
+                .isNull();
+    }
+
+    @Test
+    void propertyIndex_shouldRebuild_whenPropertySourcesChange() {
+        StandardEnvironment environment = environment();
+        Map<String, Object> values = new HashMap<>(Map.of("app.mode", "dev"));
+        environment.getPropertySources().addLast(new MapPropertySource("values", values));
+        PropertyIndex index = new PropertyIndex(environment);
+        assertThat(index.getResolver().containsProperty("app.region"))
+                .isFalse();
+
+        values.put("app.region", "eu");
+        assertThat(index.getResolver().getProperty("app.region"))
+                .isEqualTo("eu");
+
+        environment.getPropertySources().addFirst(new MapPropertySource("override", Map.of("app.mode", "prod")));
+        assertThat(index.getResolver().getProperty("app.mode"))
+                .isEqualTo("prod");
+    }
+
+    @Test
+    void propertyIndex_shouldKeepSnapshotWhileBeanFactoryIsReachable() {
+        StandardEnvironment environment = environment();
+        environment.getPropertySources().addLast(new MapPropertySource("values",
+                Map.of(PropertyIndex.ENABLED_PROPERTY, "true", "app.mode", "prod")));
+        ConditionContext context = mock(ConditionContext.class);
+        when(context.getBeanFactory()).thenReturn(new DefaultListableBeanFactory());
+        when(context.getEnvironment()).thenReturn(environment);
+
+        PropertyResolver first = PropertyIndex.getResolver(context);
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        assertThat(PropertyIndex.getResolver(context))
+                .isSameAs(first);
+    }
+
+    @Test
+    void propertyIndex_shouldResolveSystemEnvironmentNamesPlaceholdersAndConversion() {
+        StandardEnvironment environment = environment();
+        environment.getPropertySources().addLast(new SystemEnvironmentPropertySource("env", Map.of("APP_THREADS", "8")));
+        environment.getPropertySources().addLast(new MapPropertySource("values", Map.of("app.threads", "2", "app.pool", "${app.threads}")));
+        PropertyResolver resolver = new PropertyIndex(environment).getResolver();
+
+        assertThat(resolver.getProperty("app.threads", Integer.class))
+                .isEqualTo(8);
+        assertThat(resolver.getProperty("app.pool", Integer.class))
+                .isEqualTo(8);
+    }
+
+    @Test
+    void propertyIndex_shouldUseRelaxedNames_whenConfigurationPropertySourcesAttached() {
+        StandardEnvironment environment = environment();
+        environment.getPropertySources().addLast(new MapPropertySource("values", Map.of("app.maxThreads", "8")));
+        ConfigurationPropertySources.attach(environment);
+        PropertyResolver resolver = new PropertyIndex(environment).getResolver();
+
+        assertThat(resolver.getProperty("app.max-threads", Integer.class))
+                .isEqualTo(8);
+        assertThat(resolver.containsProperty("app.min-threads"))
+                .isFalse();
+    }
+
+    private static StandardEnvironment environment() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().remove(StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME);
+        environment.getPropertySources().remove(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME);
+        return environment;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class IndexedConfig {
+        @Bean
+        @ConditionalOnStringProperty(prefix = "app", name = "mode", havingValue = "prod")
+        String mode() {
+            return "mode";
+        }
+
+        @Bean
+        @ConditionalOnIntegerProperty(prefix = "app", name = "threads", havingValue = 8)
+        Integer threads() {
+            return 8;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.spec.ComparableMatchType;
+import io.conditionals.condition.spec.PropertyLookup;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class PropertyLookupTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner();
+
+    @Test
+    void propertyLookup_shouldReadEachPropertySourceOnce_whenConditionEvaluated() {
+        AtomicInteger reads = new AtomicInteger();
+        this.contextRunner.withInitializer(context -> context.getEnvironment().getPropertySources()
+                        .addFirst(new CountingPropertySource(Map.of("app.threads", "8"), reads)))
+                .withUserConfiguration(ThreadsConfig.class)
+                .run(context -> assertThat(context)
+                        .hasSingleBean(Integer.class));
+
+        assertThat(reads.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void propertyLookup_shouldReadSharedKeyOnce_whenDifferentConditionsTestIt() {
+        AtomicInteger reads = new AtomicInteger();
+        this.contextRunner.withInitializer(context -> context.getEnvironment().getPropertySources()
+                        .addFirst(new CountingPropertySource(Map.of("app.threads", "8"), reads)))
+                .withUserConfiguration(SharedKeyConfig.class)
+                .run(context -> assertThat(context)
+                        .hasBean("exact")
+                        .hasBean("atLeastFour")
+                        .doesNotHaveBean("sixteen")
+                        .hasBean("asLong"));
+
+        assertThat(reads.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void propertyLookup_shouldRememberValuesAndConversions_whenCaching() {
+        AtomicInteger reads = new AtomicInteger();
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new CountingPropertySource(Map.of("app.threads", "8", "app.mode", "fast"), reads));
+        PropertyLookup lookup = PropertyLookup.caching(PropertyLookup.of(environment));
+
+        assertThat(lookup.find("app.threads"))
+                .isEqualTo("8");
+        assertThat(lookup.find("app.threads"))
+                .isEqualTo("8");
+        assertThat(lookup.find("app.missing"))
+                .isNull();
+        assertThat(lookup.find("app.missing"))
+                .isNull();
+        assertThat(reads.get())
+                .isEqualTo(2);
+        assertThat(lookup.convert("8", Integer.class))
+                .isEqualTo(8);
+        assertThatExceptionOfType(ConversionException.class)
+                .isThrownBy(() -> lookup.convert("fast", Integer.class));
+        assertThatExceptionOfType(ConversionException.class)
+                .isThrownBy(() -> lookup.convert("fast", Integer.class));
+    }
+
+    @Test
+    void propertyLookup_shouldDistinguishAbsentFromPresentAndConvertAfterwards() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("values", Map.of("app.threads", "8", "app.pool", "${app.threads}")));
+        PropertyLookup lookup = PropertyLookup.of(environment);
+
+        assertThat(lookup.find("app.missing"))
+                .isNull();
+        assertThat(lookup.find("app.pool"))
+                .isEqualTo("8");
+        assertThat(lookup.convert("8", Integer.class))
+                .isEqualTo(8);
+    }
+
+    private static final class CountingPropertySource extends MapPropertySource {
+        private final AtomicInteger reads;
+
+        private CountingPropertySource(Map<String, Object> source, AtomicInteger reads) {
+            super("counting", new HashMap<>(source));
+            this.reads = reads;
+        }
+
+        @Override
+        public Object getProperty(String name) {
+            if (name.startsWith("app.")) this.reads.incrementAndGet();
+            return super.getProperty(name);
+        }
+
+        @Override
+        public boolean containsProperty(String name) {
+            if (name.startsWith("app.")) this.reads.incrementAndGet();
+            return super.containsProperty(name);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ThreadsConfig {
+        @Bean
+        @ConditionalOnIntegerProperty(prefix = "app", name = "threads", havingValue = 8)
+        Integer threads() {
+            return 8;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class SharedKeyConfig {
+        @Bean
+        @ConditionalOnIntegerProperty(prefix = "app", name = "threads", havingValue = 8)
+        Integer exact() {
+            return 8;
+        }
+
+        @Bean
+        @ConditionalOnIntegerProperty(prefix = "app", name = "threads", havingValue = 4, matchType = ComparableMatchType.GREATER_THAN_OR_EQUAL)
+        Integer atLeastFour() {
+            return 4;
+        }
+
+        @Bean
+        @ConditionalOnIntegerProperty(prefix = "app", name = "threads", havingValue = 16)
+        Integer sixteen() {
+            return 16;
+        }
+
+        @Bean
+        @ConditionalOnLongProperty(prefix = "app", name = "threads", havingValue = 8)
+        Long asLong() {
+            return 8L;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package io.conditionals.condition;
+
+import io.conditionals.condition.spec.ComparableMatchType;
+import io.conditionals.condition.spec.ComparablePropertySpec;
+import io.conditionals.condition.spec.PropertySpecCache;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationAttributes;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertySpecCacheTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner();
+
+    @BeforeEach
+    void clearCache() {
+        PropertySpecCache.shared().clear();
+    }
+
+    @Test
+    void propertySpecCache_shouldParseIdenticalDeclarationsOnce() {
+        this.contextRunner.withPropertyValues("app.mode=prod")
+                .withUserConfiguration(IdenticalDeclarationsConfig.class)
+                .run(context -> assertThat(context)
+                        .hasBean("first")
+                        .hasBean("second"));
+
+        assertThat(PropertySpecCache.shared().getMissCount())
+                .isEqualTo(1);
+        assertThat(PropertySpecCache.shared().getHitCount())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void propertySpecCache_shouldReuseSpecsAcrossRefreshes() {
+        this.contextRunner.withPropertyValues("app.mode=prod")
+                .withUserConfiguration(IdenticalDeclarationsConfig.class)
+                .run(context -> assertThat(context)
+                        .hasBean("first"));
+        long misses = PropertySpecCache.shared().getMissCount();
+
+        this.contextRunner.withPropertyValues("app.mode=dev")
+                .withUserConfiguration(IdenticalDeclarationsConfig.class)
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean("first"));
+
+        assertThat(PropertySpecCache.shared().getMissCount())
+                .isEqualTo(misses);
+    }
+
+    @Test
+    void propertySpecCache_shouldSeparateDifferentDeclarations() {
+        this.contextRunner.withPropertyValues("app.mode=prod")
+                .withUserConfiguration(DifferentDeclarationsConfig.class)
+                .run(context -> assertThat(context)
+                        .hasBean("prod")
+                        .doesNotHaveBean("dev"));
+
+        assertThat(PropertySpecCache.shared().size())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void propertySpecCache_shouldEvictLeastRecentlyUsedSpecs_whenCapacityExceeded() {
+        PropertySpecCache cache = new PropertySpecCache(1);
+        ComparablePropertySpec<Integer, Integer> first = cache.get(getClass(), ConditionalOnIntegerProperty.class, integerAttributes(1), ComparablePropertySpec::new);
+        cache.get(getClass(), ConditionalOnIntegerProperty.class, integerAttributes(2), ComparablePropertySpec::new);
+        ComparablePropertySpec<Integer, Integer> recreated = cache.get(getClass(), ConditionalOnIntegerProperty.class, integerAttributes(1), ComparablePropertySpec::new);
+
+        assertThat(cache.size())
+                .isEqualTo(1);
+        assertThat(cache.getMissCount())
+                .isEqualTo(3);
+        assertThat(recreated)
+                .isNotSameAs(first);
+    }
+
+    @Test
+    void propertySpecCache_shouldNotRetainSpecFactories() {
+        PropertySpecCache cache = new PropertySpecCache(1);
+        Object condition = new Object();
+        WeakReference<Object> reference = new WeakReference<>(condition);
+        cache.get(getClass(), ConditionalOnIntegerProperty.class, integerAttributes(1), specFactoryOf(condition));
+        condition = null;
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        assertThat(cache.size())
+                .isEqualTo(1);
+        assertThat(reference.get())
+                .isNull();
+    }
+
+    private static BiFunction<@Nullable Class<? extends Annotation>, AnnotationAttributes, ComparablePropertySpec<Integer, Integer>> specFactoryOf(Object condition) {
+        return (annotationType, attributes) -> {
+            assertThat(condition).isNotNull();
+            return new ComparablePropertySpec<>(annotationType, attributes);
+        };
+    }
+
+    private static AnnotationAttributes integerAttributes(int havingValue) {
+        AnnotationAttributes attributes = new AnnotationAttributes(ConditionalOnIntegerProperty.class);
+        attributes.put("value", new String[0]);
+        attributes.put("prefix", "app");
+        attributes.put("name", new String[] { "threads" });
+        attributes.put("havingValue", havingValue);
+        attributes.put("not", false);
+        attributes.put("matchType", ComparableMatchType.EQUALS);
+        attributes.put("matchIfMissing", false);
+        return attributes;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class IdenticalDeclarationsConfig {
+        @Bean
+        @ConditionalOnStringProperty(prefix = "app", name = "mode", havingValue = "prod")
+        String first() {
+            return "first";
+        }
+
+        @Bean
+        @ConditionalOnStringProperty(prefix = "app", name = "mode", havingValue = "prod")
+        String second() {
+            return "second";
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class DifferentDeclarationsConfig {
+        @Bean
+        @ConditionalOnStringProperty(prefix = "app", name = "mode", havingValue = "prod")
+        String prod() {
+            return "prod";
+        }
+
+        @Bean
+        @ConditionalOnStringProperty(prefix = "app", name = "mode", havingValue = "dev")
+        String dev() {
+            return "dev";
+        }
+    }
+}